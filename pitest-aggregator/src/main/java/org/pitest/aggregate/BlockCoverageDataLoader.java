@@ -1,12 +1,19 @@
 package org.pitest.aggregate;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockCoverage;
 import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.export.BinaryCoverageReader;
 import org.pitest.mutationtest.engine.Location;
 
 class BlockCoverageDataLoader extends DataLoader<BlockCoverage> {
@@ -20,10 +27,35 @@ class BlockCoverageDataLoader extends DataLoader<BlockCoverage> {
 
   private static final String OPEN_PAREN = "(";
 
+  // files written by the BinaryCoverageExporter, rather than as xml
+  private static final String BINARY_EXTENSION = ".bin";
+
   BlockCoverageDataLoader(final Collection<File> filesToLoad) {
     super(filesToLoad);
   }
 
+  @Override
+  Set<BlockCoverage> loadData(final File dataLocation)
+      throws ReportAggregationException {
+    if (!dataLocation.getName().endsWith(BINARY_EXTENSION)) {
+      return super.loadData(dataLocation);
+    }
+    if (!dataLocation.isFile()) {
+      throw new ReportAggregationException(dataLocation.getAbsolutePath() + " does not exist or is not a file");
+    }
+
+    // streamed rather than parsed into a document first. The class and time
+    // recorded for each test are not needed for the aggregated report, so
+    // only the tests' names are kept, as they are for xml files
+    final Set<BlockCoverage> data = new HashSet<>();
+    try (InputStream is = new BufferedInputStream(new FileInputStream(dataLocation))) {
+      BinaryCoverageReader.read(is, data::add);
+      return data;
+    } catch (final IOException | RuntimeException e) {
+      throw new ReportAggregationException("Could not read file: " + dataLocation.getAbsolutePath(), e);
+    }
+  }
+
   @Override
   protected BlockCoverage mapToData(final Map<String, Object> map) {
     final String method = (String) map.get(METHOD);
@@ -27,6 +27,7 @@ import org.xml.sax.SAXException;
 abstract class DataLoader<T> {
 
   private static final String CANNOT_CLOSE_ERR = "Unable to close input stream";
+  private static final String TEST_NAME        = "name";
 
   private final Set<File>     filesToLoad;
 
@@ -123,14 +124,12 @@ abstract class DataLoader<T> {
           for (int j = 0; j < testNodeList.getLength(); j++) {
             final Node testNode = testNodeList.item(j);
             if (testNode.getNodeType() == Node.ELEMENT_NODE) {
-              final NamedNodeMap testAttrs = testNode.getAttributes();
-              for (int k = 0; k < testAttrs.getLength(); k++) {
-                final Node attr = testAttrs.item(k);
-                final String tn = attr.getTextContent().trim();
-
-                if (!tn.isEmpty()) {
-                  tests.add(tn);
-                }
+              // tests may also record their class and time
+              final Node attr = testNode.getAttributes().getNamedItem(TEST_NAME);
+              final String tn = attr == null ? "" : attr.getTextContent().trim();
+
+              if (!tn.isEmpty()) {
+                tests.add(tn);
               }
             }
           }
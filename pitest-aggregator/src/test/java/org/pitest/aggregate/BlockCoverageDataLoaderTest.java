@@ -7,13 +7,26 @@ import java.io.File;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.mutationtest.config.DirectoryResultOutputStrategy;
+import org.pitest.mutationtest.config.UndatedReportDirCreationStrategy;
+import org.pitest.util.ResultOutputStrategy;
 
 public class BlockCoverageDataLoaderTest {
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   private BlockCoverageDataLoader underTest;
 
   @Before
@@ -38,4 +51,29 @@ public class BlockCoverageDataLoaderTest {
     }
   }
 
+  @Test
+  public void testLoadBinaryData() throws Exception {
+    final Collection<BlockCoverage> xml = this.underTest.loadData();
+    final String test = "com.example.DividerTest.testDivide(com.example.DividerTest)";
+    final ResultOutputStrategy output = new DirectoryResultOutputStrategy(
+        this.folder.getRoot().getAbsolutePath(),
+        new UndatedReportDirCreationStrategy());
+    new BinaryCoverageExporter(output
+        .createOutputStreamForFile(BinaryCoverageExporter.FILE_NAME).get())
+        .recordCoverage(xml,
+            Collections.singletonList(new TestInfo("com.example.DividerTest",
+                test, 42, Optional.<ClassName> empty(), 5)));
+
+    final File binary = new File(this.folder.getRoot(), "linecoverage.bin");
+    final Collection<BlockCoverage> results = new BlockCoverageDataLoader(
+        Arrays.asList(binary)).loadData();
+
+    assertEquals(5, results.size());
+    for (final BlockCoverage block : results) {
+      assertEquals(1, block.getTests().size());
+
+      assertEquals(test, block.getTests().iterator().next());
+    }
+  }
+
 }
@@ -50,4 +50,14 @@ public class DataLoaderTest {
     assertEquals(Arrays.asList("com.example.DividerTest.testDivide(com.example.DividerTest)"), map.get("tests"));
   }
 
+  @Test
+  public void testLoadCoverageSnippetIgnoringTestDetails() throws Exception {
+    final Document doc = DataLoader.readDocument(DataLoaderTest.class.getResourceAsStream("/snippets/linecoverage-with-test-details.xml"));
+    final Node node = doc.getFirstChild();
+
+    final Map<String, Object> map = DataLoader.nodeMap(node);
+
+    assertEquals(Arrays.asList("com.example.DividerTest.testDivide(com.example.DividerTest)"), map.get("tests"));
+  }
+
 }
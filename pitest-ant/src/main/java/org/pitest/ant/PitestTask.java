@@ -269,4 +269,60 @@ public class PitestTask extends Task { // NO_UCD (test only)
   public void setUseClasspathJar(String value) {
     this.setOption(ConfigOption.USE_CLASSPATH_JAR, value);
   }
-}
\ No newline at end of file
+
+  public void setMinionReuseLimit(String value) {
+    this.setOption(ConfigOption.MINION_REUSE_LIMIT, value);
+  }
+
+  public void setMutantSchemata(String value) {
+    this.setOption(ConfigOption.MUTANT_SCHEMATA, value);
+  }
+
+  public void setBalanceMutationUnits(String value) {
+    this.setOption(ConfigOption.BALANCE_MUTATION_UNITS, value);
+  }
+
+  public void setWorkStealingBatchSize(String value) {
+    this.setOption(ConfigOption.WORK_STEALING_BATCH_SIZE, value);
+  }
+
+  public void setCooperativeTimeouts(String value) {
+    this.setOption(ConfigOption.COOPERATIVE_TIMEOUTS, value);
+  }
+
+  public void setClassDataSharing(String value) {
+    this.setOption(ConfigOption.CLASS_DATA_SHARING, value);
+  }
+
+  public void setInProcessAnalysis(String value) {
+    this.setOption(ConfigOption.IN_PROCESS_ANALYSIS, value);
+  }
+
+  public void setCoverageCache(String value) {
+    this.setOption(ConfigOption.COVERAGE_CACHE, value);
+  }
+
+  public void setCoverageOfMutatedClassesOnly(String value) {
+    this.setOption(ConfigOption.COVERAGE_OF_MUTATED_CLASSES_ONLY, value);
+  }
+
+  public void setCoverageTestThreads(String value) {
+    this.setOption(ConfigOption.COVERAGE_TEST_THREADS, value);
+  }
+
+  public void setExportBinaryLineCoverage(String value) {
+    this.setOption(ConfigOption.EXPORT_BINARY_LINE_COVERAGE, value);
+  }
+
+  public void setImportCoverage(String value) {
+    this.setOption(ConfigOption.IMPORT_COVERAGE, value);
+  }
+
+  public void setTestClassTimings(String value) {
+    this.setOption(ConfigOption.TEST_CLASS_TIMINGS, value);
+  }
+
+  public void setCoverageMinions(String value) {
+    this.setOption(ConfigOption.COVERAGE_MINIONS, value);
+  }
+}
@@ -43,16 +43,25 @@ import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
+import static org.pitest.mutationtest.config.ConfigOption.BALANCE_MUTATION_UNITS;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
+import static org.pitest.mutationtest.config.ConfigOption.CLASS_DATA_SHARING;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
+import static org.pitest.mutationtest.config.ConfigOption.COOPERATIVE_TIMEOUTS;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_CACHE;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_MINIONS;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_OF_MUTATED_CLASSES_ONLY;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_TEST_THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_METHOD;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_TEST_CLASSES;
+import static org.pitest.mutationtest.config.ConfigOption.EXPORT_BINARY_LINE_COVERAGE;
+import static org.pitest.mutationtest.config.ConfigOption.IMPORT_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
@@ -62,9 +71,12 @@ import static org.pitest.mutationtest.config.ConfigOption.HISTORY_OUTPUT_LOCATIO
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_TEST_METHODS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPATH;
+import static org.pitest.mutationtest.config.ConfigOption.IN_PROCESS_ANALYSIS;
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.MINION_REUSE_LIMIT;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_SCHEMATA;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
@@ -75,6 +87,7 @@ import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.SKIP_FAILING_TESTS;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
+import static org.pitest.mutationtest.config.ConfigOption.TEST_CLASS_TIMINGS;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_FILTER;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_PLUGIN;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_STRENGTH_THRESHOLD;
@@ -86,6 +99,7 @@ import static org.pitest.mutationtest.config.ConfigOption.USE_CLASSPATH_JAR;
 import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSE;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSITY;
+import static org.pitest.mutationtest.config.ConfigOption.WORK_STEALING_BATCH_SIZE;
 
 public class OptionsParser {
 
@@ -137,6 +151,20 @@ public class OptionsParser {
   private final OptionSpec<String>                   testPluginSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> includeLaunchClasspathSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> useClasspathJarSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> minionReuseLimitSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> mutantSchemataSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> balanceMutationUnitsSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> workStealingBatchSizeSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> cooperativeTimeoutsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> classDataSharingSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> inProcessAnalysisSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> coverageCacheSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> coverageOfMutatedClassesOnlySpec;
+  private final ArgumentAcceptingOptionSpec<Integer> coverageTestThreadsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> exportBinaryLineCoverageSpec;
+  private final OptionSpec<String>                   importCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> testClassTimingsSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> coverageMinionsSpec;
   
   public OptionsParser(Predicate<String> dependencyFilter) {
 
@@ -267,6 +295,69 @@ public class OptionsParser {
         .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
         .describedAs("support large classpaths by creating a classpath jar");
     
+    this.minionReuseLimitSpec = parserAccepts(MINION_REUSE_LIMIT)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(MINION_REUSE_LIMIT.getDefault(Integer.class))
+        .describedAs("maximum number of mutations a minion may analyse before being replaced, 0 disables reuse");
+
+    this.mutantSchemataSpec = parserAccepts(MUTANT_SCHEMATA)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("whether to switch between mutants using a mutant schemata");
+
+    this.balanceMutationUnitsSpec = parserAccepts(BALANCE_MUTATION_UNITS)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("whether to group mutations by estimated cost of the covering tests");
+
+    this.workStealingBatchSizeSpec = parserAccepts(WORK_STEALING_BATCH_SIZE)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(WORK_STEALING_BATCH_SIZE.getDefault(Integer.class))
+        .describedAs("number of mutations to hand to a minion at a time, allowing idle threads to steal the remainder");
+
+    this.cooperativeTimeoutsSpec = parserAccepts(COOPERATIVE_TIMEOUTS)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("whether to stop timed out mutants by checks inserted into their loops rather than by restarting the minion");
+
+    this.classDataSharingSpec = parserAccepts(CLASS_DATA_SHARING)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("whether to share an archive of loaded classes between minion JVMs");
+
+    this.inProcessAnalysisSpec = parserAccepts(IN_PROCESS_ANALYSIS)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("whether to run mutation analysis in the main process rather than forked minions");
+
+    this.coverageCacheSpec = parserAccepts(COVERAGE_CACHE)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("whether to reuse the coverage of unchanged test classes");
+
+    this.coverageOfMutatedClassesOnlySpec = parserAccepts(COVERAGE_OF_MUTATED_CLASSES_ONLY)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("whether to gather coverage only for classes with mutations");
+
+    this.coverageTestThreadsSpec = parserAccepts(COVERAGE_TEST_THREADS)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(COVERAGE_TEST_THREADS.getDefault(Integer.class))
+        .describedAs("number of threads on which to run test classes when gathering coverage");
+
+    this.exportBinaryLineCoverageSpec = parserAccepts(EXPORT_BINARY_LINE_COVERAGE)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
+        .describedAs("Export line coverage as binary");
+
+    this.importCoverageSpec = parserAccepts(IMPORT_COVERAGE)
+        .withRequiredArg()
+        .ofType(String.class)
+        .withValuesSeparatedBy(',')
+        .describedAs(
+            "comma separated list of exported line coverage files to use instead of gathering coverage");
+
+    this.testClassTimingsSpec = parserAccepts(TEST_CLASS_TIMINGS)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
+        .describedAs("whether to remember how long each test class took while gathering coverage");
+
+    this.coverageMinionsSpec = parserAccepts(COVERAGE_MINIONS)
+        .withRequiredArg().ofType(Integer.class)
+        .defaultsTo(COVERAGE_MINIONS.getDefault(Integer.class))
+        .describedAs("number of coverage minions to gather coverage in at once");
+
     this.includeLaunchClasspathSpec = parserAccepts(INCLUDE_LAUNCH_CLASSPATH)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
         .describedAs("whether or not to analyse launch classpath");    
@@ -414,6 +505,21 @@ public class OptionsParser {
         .valueOf(this.includeLaunchClasspathSpec));
 
     data.setUseClasspathJar(userArgs.valueOf(useClasspathJarSpec));
+    data.setMinionReuseLimit(this.minionReuseLimitSpec.value(userArgs));
+    data.setMutantSchemata(userArgs.valueOf(this.mutantSchemataSpec));
+    data.setBalanceMutationUnits(userArgs.valueOf(this.balanceMutationUnitsSpec));
+    data.setWorkStealingBatchSize(this.workStealingBatchSizeSpec.value(userArgs));
+    data.setCooperativeTimeouts(userArgs.valueOf(this.cooperativeTimeoutsSpec));
+    data.setClassDataSharing(userArgs.valueOf(this.classDataSharingSpec));
+    data.setInProcessAnalysis(userArgs.valueOf(this.inProcessAnalysisSpec));
+    data.setCoverageCache(userArgs.valueOf(this.coverageCacheSpec));
+    data.setCoverageOfMutatedClassesOnly(userArgs.valueOf(this.coverageOfMutatedClassesOnlySpec));
+    data.setCoverageTestThreads(this.coverageTestThreadsSpec.value(userArgs));
+    data.setExportBinaryLineCoverage(userArgs.has(this.exportBinaryLineCoverageSpec)
+        && userArgs.valueOf(this.exportBinaryLineCoverageSpec));
+    data.setImportCoverage(this.importCoverageSpec.values(userArgs));
+    data.setTestClassTimings(userArgs.valueOf(this.testClassTimingsSpec));
+    data.setCoverageMinions(this.coverageMinionsSpec.value(userArgs));
     
     data.setShouldCreateTimestampedReports(userArgs
         .valueOf(this.timestampedReportsSpec));
@@ -557,6 +557,189 @@ public class OptionsParserTest {
     assertTrue(actual.isFullMutationMatrix());
   }
   
+  @Test
+  public void shouldDefaultToNotReusingMinions() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0, actual.getMinionReuseLimit());
+  }
+
+  @Test
+  public void shouldParseMinionReuseLimit() {
+    final ReportOptions actual = parseAddingRequiredArgs("--minionReuseLimit",
+        "500");
+    assertEquals(500, actual.getMinionReuseLimit());
+  }
+
+  @Test
+  public void shouldDefaultToNotUsingMutantSchemata() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useMutantSchemata());
+  }
+
+  @Test
+  public void shouldParseMutantSchemataFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantSchemata",
+        "true");
+    assertTrue(actual.useMutantSchemata());
+  }
+
+  @Test
+  public void shouldDefaultToNotBalancingMutationUnits() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldBalanceMutationUnits());
+  }
+
+  @Test
+  public void shouldParseBalanceMutationUnitsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--balanceMutationUnits", "true");
+    assertTrue(actual.shouldBalanceMutationUnits());
+  }
+
+  @Test
+  public void shouldDefaultToNoWorkStealing() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0, actual.getWorkStealingBatchSize());
+  }
+
+  @Test
+  public void shouldParseWorkStealingBatchSize() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--workStealingBatchSize", "5");
+    assertEquals(5, actual.getWorkStealingBatchSize());
+  }
+
+  @Test
+  public void shouldDefaultToNotUsingCooperativeTimeouts() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useCooperativeTimeouts());
+  }
+
+  @Test
+  public void shouldParseCooperativeTimeoutsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--cooperativeTimeouts", "true");
+    assertTrue(actual.useCooperativeTimeouts());
+  }
+
+  @Test
+  public void shouldDefaultToNotUsingClassDataSharing() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useClassDataSharing());
+  }
+
+  @Test
+  public void shouldParseClassDataSharingFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--classDataSharing", "true");
+    assertTrue(actual.useClassDataSharing());
+  }
+
+  @Test
+  public void shouldDefaultToForkingMinionsForAnalysis() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useInProcessAnalysis());
+  }
+
+  @Test
+  public void shouldParseInProcessAnalysisFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--inProcessAnalysis", "true");
+    assertTrue(actual.useInProcessAnalysis());
+  }
+
+  @Test
+  public void shouldDefaultToNotCachingCoverage() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useCoverageCache());
+  }
+
+  @Test
+  public void shouldParseCoverageCacheFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--coverageCache", "true");
+    assertTrue(actual.useCoverageCache());
+  }
+
+  @Test
+  public void shouldDefaultToCoveringAllTargetClasses() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.coverageOfMutatedClassesOnly());
+  }
+
+  @Test
+  public void shouldParseCoverageOfMutatedClassesOnlyFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--coverageOfMutatedClassesOnly", "true");
+    assertTrue(actual.coverageOfMutatedClassesOnly());
+  }
+
+  @Test
+  public void shouldDefaultToRunningCoverageTestsOnOneThread() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(1, actual.getCoverageTestThreads());
+  }
+
+  @Test
+  public void shouldParseCoverageTestThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--coverageTestThreads", "4");
+    assertEquals(4, actual.getCoverageTestThreads());
+  }
+
+  @Test
+  public void shouldParseExportBinaryLineCoverageFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--exportBinaryLineCoverage");
+    assertTrue(actual.shouldExportBinaryLineCoverage());
+  }
+
+  @Test
+  public void shouldNotExportBinaryLineCoverageWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldExportBinaryLineCoverage());
+  }
+
+  @Test
+  public void shouldParseCommaSeparatedListOfCoverageFilesToImport() {
+    final ReportOptions actual = parseAddingRequiredArgs("--importCoverage",
+        "shard1/linecoverage.xml,shard2/linecoverage.xml");
+    assertEquals(Arrays.asList("shard1/linecoverage.xml",
+        "shard2/linecoverage.xml"), actual.getImportCoverage());
+    assertTrue(actual.shouldImportCoverage());
+  }
+
+  @Test
+  public void shouldNotImportCoverageByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldImportCoverage());
+  }
+
+  @Test
+  public void shouldDefaultToNotRememberingTestClassTimings() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.useTestClassTimings());
+  }
+
+  @Test
+  public void shouldParseTestClassTimingsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--testClassTimings", "true");
+    assertTrue(actual.useTestClassTimings());
+  }
+
+  @Test
+  public void shouldDefaultToGatheringCoverageInOneMinion() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(1, actual.getCoverageMinions());
+  }
+
+  @Test
+  public void shouldParseNumberOfCoverageMinions() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--coverageMinions", "4");
+    assertEquals(4, actual.getCoverageMinions());
+  }
+
   private String getNonCanonicalGregorEngineClassPath() {
     final String gregorEngineClassPath = GregorMutationEngine.class
         .getProtectionDomain().getCodeSource().getLocation().getFile();
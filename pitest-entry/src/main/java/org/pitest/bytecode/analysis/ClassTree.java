@@ -22,7 +22,7 @@ import org.pitest.mutationtest.engine.Location;
 public class ClassTree {
 
   private final ClassNode rawNode;
-  private List<MethodTree> lazyMethods;
+  private volatile List<MethodTree> lazyMethods;
 
   public ClassTree(ClassNode rawNode) {
     this.rawNode = rawNode;
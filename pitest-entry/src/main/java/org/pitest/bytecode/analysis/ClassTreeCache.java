@@ -0,0 +1,100 @@
+package org.pitest.bytecode.analysis;
+
+import java.lang.ref.SoftReference;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.pitest.classinfo.AddlerHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HashFunction;
+
+/**
+ * Bounded cache of parsed classes, so that the passes of mutant discovery and
+ * the interceptors do not each parse the same bytes. Entries are keyed by the
+ * class name and a hash of its bytes, so a class whose bytes differ is parsed
+ * again, and are softly held so may be reclaimed when memory is short.
+ *
+ * Once full, classes first fetched later are parsed without being kept. The
+ * passes of discovery visit classes in the same order, so keeping the classes
+ * met first, rather than the most recent, means a later pass still finds them.
+ *
+ * Parsed classes are shared between callers, so must not be modified.
+ */
+public final class ClassTreeCache {
+
+  private final HashFunction hashFunction = new AddlerHash();
+  private final Map<Key, SoftReference<ClassTree>> cache = new HashMap<>();
+  private final int maxSize;
+
+  public ClassTreeCache(final int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public ClassTree fetch(final ClassName name, final byte[] bytes) {
+    final Key key = new Key(name, this.hashFunction.hash(bytes), bytes.length);
+    synchronized (this.cache) {
+      final SoftReference<ClassTree> ref = this.cache.get(key);
+      final ClassTree cached = ref != null ? ref.get() : null;
+      if (cached != null) {
+        return cached;
+      }
+      if (ref != null) {
+        // reclaimed, so make room for it to be parsed again
+        this.cache.remove(key);
+      }
+    }
+
+    // parsed outside the lock, a class parsed by two threads at once is
+    // simply cached twice
+    final ClassTree tree = ClassTree.fromBytes(bytes);
+    synchronized (this.cache) {
+      if (this.cache.size() < this.maxSize) {
+        this.cache.put(key, new SoftReference<>(tree));
+      }
+    }
+    return tree;
+  }
+
+  /**
+   * Discards the classes not named, making room for those still to be
+   * fetched.
+   */
+  public void retainAll(final Collection<ClassName> names) {
+    synchronized (this.cache) {
+      this.cache.keySet().removeIf(k -> !names.contains(k.name));
+    }
+  }
+
+  private static final class Key {
+    private final ClassName name;
+    private final long      hash;
+    private final int       length;
+
+    Key(final ClassName name, final long hash, final int length) {
+      this.name = name;
+      this.hash = hash;
+      this.length = length;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.name, this.hash, this.length);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if ((obj == null) || (getClass() != obj.getClass())) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return (this.hash == other.hash) && (this.length == other.length)
+          && this.name.equals(other.name);
+    }
+  }
+
+}
@@ -14,7 +14,7 @@ public class MethodTree {
 
   private final ClassName owner;
   private final MethodNode rawNode;
-  private List<AbstractInsnNode> lazyInstructions;
+  private volatile List<AbstractInsnNode> lazyInstructions;
 
   public MethodTree(ClassName owner, MethodNode rawNode) {
     this.owner = owner;
@@ -19,6 +19,7 @@ import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 
@@ -29,12 +30,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.BiFunction;
-import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -42,10 +41,11 @@ public class CoverageData implements CoverageDatabase {
 
   private static final Logger LOG = Log.getLogger();
 
-  // We calculate block coverage, but everything currently runs on line
-  // coverage. Ugly mess of maps below should go when
-  // api changed to work via blocks
-  private final Map<InstructionLocation, Set<TestInfo>> instructionCoverage = new LinkedHashMap<>();
+  // Tests are numbered in the order their coverage arrives, and coverage is
+  // held as sets of these ids. Instructions are looked up via the ranges of
+  // the blocks of their method.
+  private final List<TestInfo> tests = new ArrayList<>();
+  private final Map<Location, Map<BlockLocation, TestIdSet>> blockCoverage = new LinkedHashMap<>();
   private final LegacyClassCoverage legacyClassCoverage;
 
   private final CodeSource code;
@@ -54,7 +54,7 @@ public class CoverageData implements CoverageDatabase {
 
   public CoverageData(final CodeSource code, final LineMap lm) {
     this.code = code;
-    this.legacyClassCoverage = new LegacyClassCoverage(code, lm);
+    this.legacyClassCoverage = new LegacyClassCoverage(code, lm, this.tests);
   }
 
   public void calculateClassCoverage(final CoverageResult cr) {
@@ -63,13 +63,13 @@ public class CoverageData implements CoverageDatabase {
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
             cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
 
-    legacyClassCoverage.addTestToClasses(ti,cr.getCoverage());
+    this.tests.add(ti);
+    final int testId = this.tests.size() - 1;
+
+    legacyClassCoverage.addTestToClasses(testId, cr.getCoverage());
 
     for (final BlockLocation each : cr.getCoverage()) {
-      for (int i = each.getFirstInsnInBlock();
-           i <= each.getLastInsnInBlock(); i++) {
-        addTestsToBlockMap(ti, new InstructionLocation(each, i));
-      }
+      addTestToBlock(testId, each);
     }
   }
 
@@ -82,7 +82,21 @@ public class CoverageData implements CoverageDatabase {
 
   @Override
   public Collection<TestInfo> getTestsForInstructionLocation(InstructionLocation location) {
-    return this.instructionCoverage.getOrDefault(location, Collections.emptySet());
+    final Map<BlockLocation, TestIdSet> blocks = this.blockCoverage
+        .get(location.getBlockLocation().getLocation());
+    if (blocks == null) {
+      return Collections.emptySet();
+    }
+
+    final int index = location.getInstructionIndex();
+    final Set<TestInfo> result = new TreeSet<>(new TestInfoNameComparator());
+    for (final Map.Entry<BlockLocation, TestIdSet> each : blocks.entrySet()) {
+      if ((each.getKey().getFirstInsnInBlock() <= index)
+          && (index <= each.getKey().getLastInsnInBlock())) {
+        each.getValue().forEach(id -> result.add(this.tests.get(id)));
+      }
+    }
+    return result;
   }
 
   @Override
@@ -117,13 +131,10 @@ public class CoverageData implements CoverageDatabase {
     return legacyClassCoverage.getTestsForClass(clazz);
   }
 
-  private void addTestsToBlockMap(final TestInfo ti, InstructionLocation each) {
-    Set<TestInfo> tests = this.instructionCoverage.get(each);
-    if (tests == null) {
-      tests = new TreeSet<>(new TestInfoNameComparator());
-      this.instructionCoverage.put(each, tests);
-    }
-    tests.add(ti);
+  private void addTestToBlock(final int testId, final BlockLocation block) {
+    this.blockCoverage
+        .computeIfAbsent(block.getLocation(), k -> new LinkedHashMap<>())
+        .computeIfAbsent(block, k -> new TestIdSet()).add(testId);
   }
 
   @Override
@@ -136,13 +147,22 @@ public class CoverageData implements CoverageDatabase {
     return generateCoverageNumber(coverage);
   }
 
-  public List<BlockCoverage> createCoverage() {
-    return FCollection.map(this.instructionCoverage.entrySet(), toBlockCoverage());
+  /**
+   * Every test coverage was recorded for, in the order it was recorded.
+   */
+  public List<TestInfo> getTests() {
+    return Collections.unmodifiableList(this.tests);
   }
 
-  private static Function<Entry<InstructionLocation, Set<TestInfo>>, BlockCoverage> toBlockCoverage() {
-    return a -> new BlockCoverage(a.getKey().getBlockLocation(), FCollection.map(a.getValue(),
-        TestInfo.toName()));
+  public List<BlockCoverage> createCoverage() {
+    final List<BlockCoverage> coverage = new ArrayList<>();
+    for (final Map<BlockLocation, TestIdSet> blocks : this.blockCoverage.values()) {
+      for (final Map.Entry<BlockLocation, TestIdSet> each : blocks.entrySet()) {
+        coverage.add(new BlockCoverage(each.getKey(),
+            FCollection.map(each.getValue().toTests(this.tests), TestInfo.toName())));
+      }
+    }
+    return coverage;
   }
 
   @Override
@@ -199,7 +219,8 @@ public class CoverageData implements CoverageDatabase {
     final Optional<ClassName> testee = this.code.findTestee(description
         .getFirstTestClass());
     return new TestInfo(description.getFirstTestClass(),
-        description.getQualifiedName(), executionTime, testee, linesCovered);
+        description.getQualifiedName(), executionTime, testee, linesCovered,
+        description);
   }
 
   private void recordTestFailure(final Description testDescription) {
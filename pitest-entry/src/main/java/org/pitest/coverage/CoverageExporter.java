@@ -6,4 +6,13 @@ public interface CoverageExporter {
 
   void recordCoverage(Collection<BlockCoverage> coverage);
 
+  /**
+   * Records coverage along with the tests that produced it, for exporters
+   * able to record more about each test than its name.
+   */
+  default void recordCoverage(Collection<BlockCoverage> coverage,
+      Collection<TestInfo> tests) {
+    recordCoverage(coverage);
+  }
+
 }
\ No newline at end of file
@@ -15,6 +15,9 @@
 
 package org.pitest.coverage;
 
+import java.util.Collection;
+
+import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.process.LaunchOptions;
 
@@ -22,6 +25,15 @@ public interface CoverageGenerator {
 
   CoverageDatabase calculateCoverage();
 
+  /**
+   * Calculates coverage of only the supplied classes. All tests are still run
+   * and timed, but other code is not instrumented.
+   */
+  default CoverageDatabase calculateCoverage(
+      final Collection<ClassName> classesToInstrument) {
+    return calculateCoverage();
+  }
+
   TestPluginArguments getConfiguration();
 
   LaunchOptions getLaunchOptions();
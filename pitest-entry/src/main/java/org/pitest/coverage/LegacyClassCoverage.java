@@ -5,15 +5,17 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.functional.FCollection;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Line based coverage data, used by html report and the history system
@@ -24,20 +26,27 @@ public class LegacyClassCoverage implements ReportCoverage {
 
     private final CodeSource code;
     private final Map<String, Collection<ClassInfo>> classesForFile;
-    private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
+    private final Map<ClassName, Map<ClassLine, TestIdSet>> lineCoverage  = new LinkedHashMap<>();
     private final Map<BlockLocation, Set<Integer>> blocksToLines = new LinkedHashMap<>();
     private final LineMap lm;
+    // indexed by test id
+    private final List<TestInfo> tests;
 
     public LegacyClassCoverage(CodeSource code, LineMap lm) {
+        this(code, lm, new ArrayList<>());
+    }
+
+    LegacyClassCoverage(CodeSource code, LineMap lm, List<TestInfo> tests) {
         this.code = code;
         this.lm = lm;
+        this.tests = tests;
         this.classesForFile = FCollection.bucket(code.getCode(),
                 keyFromClassInfo());
     }
 
     public void loadBlockDataOnly(Collection<BlockLocation> coverageData) {
-        addTestToClasses(new TestInfo("fake", "fakeTest",0,  Optional.empty(), 1 ),
-                coverageData);
+        this.tests.add(new TestInfo("fake", "fakeTest",0,  Optional.empty(), 1 ));
+        addTestToClasses(this.tests.size() - 1, coverageData);
     }
 
     @Override
@@ -55,12 +64,12 @@ public class LegacyClassCoverage implements ReportCoverage {
 
     @Override
     public Collection<TestInfo> getTestsForClassLine(final ClassLine classLine) {
-        final Collection<TestInfo> result = getLineCoverageForClassName(
+        final TestIdSet result = getLineCoverageForClassName(
                 classLine.getClassName()).get(classLine);
         if (result == null) {
             return Collections.emptyList();
         } else {
-            return result;
+            return result.toTests(this.tests);
         }
     }
 
@@ -77,34 +86,27 @@ public class LegacyClassCoverage implements ReportCoverage {
     }
 
     public Collection<TestInfo> getTestsForClass(ClassName clazz) {
-        return this.lineCoverage.getOrDefault(clazz, Collections.emptyMap()).values().stream()
-                .flatMap(s -> s.stream())
-                .collect(Collectors.toSet());
+        final BitSet ids = new BitSet();
+        for (TestIdSet each : getLineCoverageForClassName(clazz).values()) {
+            each.addTo(ids);
+        }
+        final Set<TestInfo> result = new HashSet<>();
+        ids.stream().forEach(id -> result.add(this.tests.get(id)));
+        return result;
     }
 
-    void addTestToClasses(TestInfo ti, Collection<BlockLocation> coverage) {
+    void addTestToClasses(int testId, Collection<BlockLocation> coverage) {
         for (BlockLocation each : coverage) {
             ClassName clazz = each.getLocation().getClassName();
-            Map<ClassLine, Set<TestInfo>> linesToTests = lineCoverage.getOrDefault(clazz, new LinkedHashMap<>(0));
+            Map<ClassLine, TestIdSet> linesToTests = lineCoverage.computeIfAbsent(clazz, k -> new LinkedHashMap<>(0));
             for (int line : getLinesForBlock(each)) {
-                addTestToClassLine(each.getLocation().getClassName(), linesToTests, ti, line);
+                linesToTests.computeIfAbsent(new ClassLine(clazz, line), k -> new TestIdSet())
+                        .add(testId);
             }
-            // can we get blocks from different classes?
-            this.lineCoverage.put(each.getLocation().getClassName(), linesToTests);
         }
     }
-    private void addTestToClassLine(ClassName clazz,
-                                    Map<ClassLine, Set<TestInfo>> linesToTests,
-                                    TestInfo test,
-                                    int line) {
-        ClassLine cl = new ClassLine(clazz, line);
-        Set<TestInfo> tis = linesToTests.getOrDefault(cl, new TreeSet<>(new TestInfoNameComparator()));
-        tis.add(test);
-        linesToTests.put(cl, tis);
-    }
-
 
-    private Map<ClassLine, Set<TestInfo>> getLineCoverageForClassName(final ClassName clazz) {
+    private Map<ClassLine, TestIdSet> getLineCoverageForClassName(final ClassName clazz) {
         return this.lineCoverage.getOrDefault(clazz, Collections.emptyMap());
     }
 
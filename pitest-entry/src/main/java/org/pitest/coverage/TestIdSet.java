@@ -0,0 +1,108 @@
+package org.pitest.coverage;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of the ids of the tests covering a block or line.
+ *
+ * Held as a sorted array while sparse, and as a bitset once that takes less
+ * memory. Ids are usually added in increasing order, as tests are numbered in
+ * the order their coverage arrives.
+ */
+final class TestIdSet {
+
+  // a full array is replaced by a bitset, rather than grown, once it uses
+  // more bits per id than the bitset would use per test
+  private static final int BITS_PER_ID = 32;
+
+  private int[]            ids         = new int[4];
+  private int              size;
+  private BitSet           bits;
+
+  void add(final int id) {
+    if (this.bits != null) {
+      this.bits.set(id);
+      return;
+    }
+
+    if ((this.size == this.ids.length)
+        && ((this.size * BITS_PER_ID) > Math.max(id, this.ids[this.size - 1]))) {
+      toBitSet();
+      this.bits.set(id);
+    } else if ((this.size == 0) || (this.ids[this.size - 1] < id)) {
+      append(id);
+    } else {
+      insert(id);
+    }
+  }
+
+  void forEach(final IntConsumer consumer) {
+    if (this.bits != null) {
+      this.bits.stream().forEach(consumer);
+    } else {
+      for (int i = 0; i != this.size; i++) {
+        consumer.accept(this.ids[i]);
+      }
+    }
+  }
+
+  /**
+   * The tests in the set, in name order.
+   *
+   * @param tests
+   *          all tests, indexed by id
+   */
+  Set<TestInfo> toTests(final List<TestInfo> tests) {
+    final Set<TestInfo> result = new TreeSet<>(new TestInfoNameComparator());
+    forEach(id -> result.add(tests.get(id)));
+    return result;
+  }
+
+  void addTo(final BitSet target) {
+    if (this.bits != null) {
+      target.or(this.bits);
+    } else {
+      forEach(target::set);
+    }
+  }
+
+  private void append(final int id) {
+    ensureCapacity();
+    this.ids[this.size] = id;
+    this.size++;
+  }
+
+  private void insert(final int id) {
+    final int index = Arrays.binarySearch(this.ids, 0, this.size, id);
+    if (index >= 0) {
+      return;
+    }
+    final int insertAt = -(index + 1);
+    ensureCapacity();
+    System.arraycopy(this.ids, insertAt, this.ids, insertAt + 1,
+        this.size - insertAt);
+    this.ids[insertAt] = id;
+    this.size++;
+  }
+
+  private void ensureCapacity() {
+    if (this.size == this.ids.length) {
+      this.ids = Arrays.copyOf(this.ids, this.ids.length * 2);
+    }
+  }
+
+  private void toBitSet() {
+    this.bits = new BitSet(this.ids[this.size - 1] + 1);
+    for (int i = 0; i != this.size; i++) {
+      this.bits.set(this.ids[i]);
+    }
+    this.ids = null;
+    this.size = 0;
+  }
+
+}
@@ -0,0 +1,74 @@
+package org.pitest.coverage.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits test classes between coverage minions so that each is expected to
+ * take a similar amount of time.
+ *
+ * Classes are weighted by the time they took in a previous run. Classes with
+ * no previous timing are given the mean of those that have one, or equal
+ * weights if nothing is known. The heaviest classes are assigned first, each
+ * to the shard with least work so far.
+ */
+final class CoverageShards {
+
+  private CoverageShards() {
+  }
+
+  static List<List<String>> split(final Collection<String> testClasses,
+      final int shards, final Map<String, Long> previousTimings) {
+    final long unknown = meanOf(testClasses, previousTimings);
+
+    final List<String> heaviestFirst = new ArrayList<>(testClasses);
+    heaviestFirst.sort(Comparator
+        .comparingLong((String each) -> previousTimings.getOrDefault(each, unknown))
+        .reversed().thenComparing(Comparator.naturalOrder()));
+
+    // a single, empty, shard when there are no test classes
+    final int n = Math.max(1, Math.min(shards, testClasses.size()));
+    final List<List<String>> split = new ArrayList<>(n);
+    final long[] load = new long[n];
+    for (int i = 0; i != n; i++) {
+      split.add(new ArrayList<>());
+    }
+
+    for (final String each : heaviestFirst) {
+      final int lightest = lightest(load);
+      split.get(lightest).add(each);
+      // zero timings would otherwise pile up on the first shard
+      load[lightest] += Math.max(1, previousTimings.getOrDefault(each, unknown));
+    }
+
+    return split;
+  }
+
+  private static long meanOf(final Collection<String> testClasses,
+      final Map<String, Long> previousTimings) {
+    long total = 0;
+    int known = 0;
+    for (final String each : testClasses) {
+      final Long time = previousTimings.get(each);
+      if (time != null) {
+        total += time;
+        known++;
+      }
+    }
+    return known == 0 ? 1 : Math.max(1, total / known);
+  }
+
+  private static int lightest(final long[] load) {
+    int lightest = 0;
+    for (int i = 1; i != load.length; i++) {
+      if (load[i] < load[lightest]) {
+        lightest = i;
+      }
+    }
+    return lightest;
+  }
+
+}
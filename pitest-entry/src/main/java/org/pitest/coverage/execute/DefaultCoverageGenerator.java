@@ -18,21 +18,25 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.coverage.analysis.LineMapper;
-import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
@@ -51,20 +55,54 @@ import org.pitest.util.Verbosity;
 
 public class DefaultCoverageGenerator implements CoverageGenerator {
 
-  private static final Logger    LOG = Log.getLogger();
+  private static final Logger     LOG = Log.getLogger();
 
-  private final CoverageOptions  coverageOptions;
-  private final LaunchOptions    launchOptions;
-  private final CodeSource       code;
-  private final Timings          timings;
-  private final File             workingDir;
-  private final CoverageExporter exporter;
-  private final Verbosity        verbosity;
+  private final CoverageOptions   coverageOptions;
+  private final LaunchOptions     launchOptions;
+  private final CodeSource        code;
+  private final Timings           timings;
+  private final File              workingDir;
+  private final CoverageExporter  exporter;
+  private final Verbosity         verbosity;
+  private final int               shards;
+  private final TestClassTimings  testClassTimings;
+  private final TestCoverageCache coverageCache;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, Verbosity verbosity) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        verbosity, 1, TestClassTimings.none());
+  }
+
+  /**
+   * @param shards
+   *          maximum number of coverage minions to run at once
+   * @param testClassTimings
+   *          timings from previous runs, used to share test classes evenly
+   *          between minions
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, Verbosity verbosity, final int shards,
+      final TestClassTimings testClassTimings) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        verbosity, shards, testClassTimings, TestCoverageCache.disabled());
+  }
+
+  /**
+   * @param coverageCache
+   *          coverage of test classes from previous runs, reused for test
+   *          classes that have not changed
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, Verbosity verbosity, final int shards,
+      final TestClassTimings testClassTimings,
+      final TestCoverageCache coverageCache) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -72,10 +110,30 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.verbosity = verbosity;
+    this.shards = shards;
+    this.testClassTimings = testClassTimings;
+    this.coverageCache = coverageCache;
   }
 
   @Override
   public CoverageData calculateCoverage() {
+    return calculateCoverage(this.coverageOptions);
+  }
+
+  @Override
+  public CoverageData calculateCoverage(
+      final Collection<ClassName> classesToInstrument) {
+    LOG.fine("Instrumenting " + classesToInstrument.size()
+        + " classes with mutations for coverage");
+    return calculateCoverage(this.coverageOptions.instrumentingOnly(
+        classesToInstrument.stream().map(ClassName::asJavaName)
+            .collect(Collectors.toList())));
+  }
+
+  private CoverageData calculateCoverage(final CoverageOptions options) {
+    // cached coverage may have been gathered with a different restriction
+    final TestCoverageCache cache = options.isRestricted()
+        ? TestCoverageCache.disabled() : this.coverageCache;
     try {
       final long t0 = System.currentTimeMillis();
 
@@ -87,7 +145,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
           this.code));
 
       this.timings.registerStart(Timings.Stage.COVERAGE);
-      gatherCoverageData(tests, coverage);
+      gatherCoverageData(tests, coverage, options, cache);
       this.timings.registerEnd(Timings.Stage.COVERAGE);
 
       final long time = (System.currentTimeMillis() - t0) / 1000;
@@ -96,7 +154,8 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
       verifyBuildSuitableForMutationTesting(coverage);
 
-      this.exporter.recordCoverage(coverage.createCoverage());
+      this.exporter.recordCoverage(coverage.createCoverage(),
+          coverage.getTests());
 
       return coverage;
 
@@ -117,25 +176,57 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   }
 
   private void gatherCoverageData(final Collection<ClassInfo> tests,
-      final CoverageData coverage) throws IOException, InterruptedException {
-
-    final List<String> filteredTests = FCollection
-        .map(tests, classInfoToName());
+      final CoverageData coverage, final CoverageOptions options,
+      final TestCoverageCache cache) throws IOException, InterruptedException {
+
+    final Map<ClassName, List<CoverageResult>> cached = cache
+        .reusable(tests, this.code);
+    final List<String> filteredTests = tests.stream()
+        .filter(t -> !cached.containsKey(t.getName()))
+        .map(classInfoToName())
+        .collect(Collectors.toList());
+
+    final Map<String, Long> timeByClass = new HashMap<>();
+    final List<CoverageResult> results = Collections
+        .synchronizedList(new ArrayList<>());
+    final Consumer<CoverageResult> handler = cache.isEnabled()
+        ? resultProcessor(coverage, timeByClass).andThen(results::add)
+        : resultProcessor(coverage, timeByClass);
+
+    if (!cached.isEmpty()) {
+      LOG.info("Reusing coverage of " + cached.size() + " unchanged test classes");
+      cached.values().forEach(c -> c.forEach(handler));
+    }
+    if (filteredTests.isEmpty() && !cached.isEmpty()) {
+      return;
+    }
 
-    final Consumer<CoverageResult> handler = resultProcessor(coverage);
+    final List<List<String>> split = CoverageShards.split(filteredTests,
+        this.shards, this.testClassTimings.previous());
+    if (split.size() > 1) {
+      LOG.fine("Gathering coverage in " + split.size() + " minions");
+    }
 
     final SocketFinder sf = new SocketFinder();
-    final ServerSocket socket = sf.getNextAvailableServerSocket();
-
-    final CoverageProcess process = new CoverageProcess(ProcessArgs
-        .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
-        .andLaunchOptions(this.launchOptions).andStderr(logInfo())
-        .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, filteredTests, handler);
-
-    process.start();
+    final List<CoverageProcess> processes = new ArrayList<>();
+    for (final List<String> each : split) {
+      final ServerSocket socket = sf.getNextAvailableServerSocket();
+      final CoverageProcess process = new CoverageProcess(ProcessArgs
+          .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
+          .andLaunchOptions(this.launchOptions).andStderr(logInfo())
+          .andStdout(captureStandardOutIfVerbose()), options,
+          socket, each, handler);
+      process.start();
+      processes.add(process);
+    }
 
-    final ExitCode exitCode = process.waitToDie();
+    ExitCode exitCode = ExitCode.OK;
+    for (final CoverageProcess each : processes) {
+      final ExitCode shardExitCode = each.waitToDie();
+      if (exitCode.isOk() || (shardExitCode == ExitCode.JUNIT_ISSUE)) {
+        exitCode = shardExitCode;
+      }
+    }
 
     if (exitCode == ExitCode.JUNIT_ISSUE) {
       LOG.severe("Error generating coverage. Please check that your classpath contains modern JUnit 4 or PIT test plugin for other test tool "
@@ -149,6 +240,9 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     } else {
       LOG.fine("Coverage generator Minion exited ok");
     }
+
+    this.testClassTimings.record(timeByClass);
+    cache.store(tests, results, this.code);
   }
 
   private static Function<ClassInfo, String> classInfoToName() {
@@ -171,15 +265,21 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     return a -> LOG.fine("MINION : " + a);
   }
 
+  // results arrive on the communication thread of each minion
   private Consumer<CoverageResult> resultProcessor(
-      final CoverageData coverage) {
+      final CoverageData coverage, final Map<String, Long> timeByClass) {
     return new Consumer<CoverageResult>() {
       private final String[] spinner = new String[] { "\u0008/", "\u0008-",
           "\u0008\\", "\u0008|" };
       int i = 0;
 
       @Override
-      public void accept(final CoverageResult cr) {
+      public synchronized void accept(final CoverageResult cr) {
+        final String testClass = cr.getTestUnitDescription().getFirstTestClass();
+        if (testClass != null) {
+          timeByClass.merge(testClass.replace('.', '/'),
+              (long) cr.getExecutionTime(), Long::sum);
+        }
         if (cr.isGreenTest() || !coverageOptions.getPitConfig().skipFailingTests()) {
           coverage.calculateClassCoverage(cr);
         }
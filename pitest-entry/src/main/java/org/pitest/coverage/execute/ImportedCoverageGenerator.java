@@ -0,0 +1,261 @@
+package org.pitest.coverage.execute;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageExporter;
+import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.analysis.LineMapper;
+import org.pitest.coverage.export.BinaryCoverageReader;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.process.LaunchOptions;
+import org.pitest.testapi.Description;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+import org.pitest.util.Timings;
+
+/**
+ * Builds coverage from line coverage files exported by earlier runs, such as
+ * those of sharded test jobs, instead of running the tests to gather it.
+ * Coverage of a test found in several files is merged.
+ *
+ * Exported files record the class and execution time of each test. For older
+ * files the class is found from the test name and the time is unknown, so is
+ * taken as zero.
+ */
+public class ImportedCoverageGenerator implements CoverageGenerator {
+
+  private static final Logger    LOG = Log.getLogger();
+
+  private final Collection<File> files;
+  private final CoverageOptions  coverageOptions;
+  private final LaunchOptions    launchOptions;
+  private final CodeSource       code;
+  private final CoverageExporter exporter;
+  private final Timings          timings;
+
+  public ImportedCoverageGenerator(final Collection<File> files,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings) {
+    this.files = files;
+    this.coverageOptions = coverageOptions;
+    this.launchOptions = launchOptions;
+    this.code = code;
+    this.exporter = exporter;
+    this.timings = timings;
+  }
+
+  @Override
+  public CoverageData calculateCoverage() {
+    this.timings.registerStart(Timings.Stage.COVERAGE);
+    final Map<String, ImportedTest> tests = new LinkedHashMap<>();
+    for (final File each : this.files) {
+      read(each, tests);
+    }
+
+    final CoverageData coverage = new CoverageData(this.code,
+        new LineMapper(this.code));
+    final Set<String> testClasses = testClassNames();
+    int unknown = 0;
+    for (final Map.Entry<String, ImportedTest> each : tests.entrySet()) {
+      final String testClass = testClassOf(each.getKey(), each.getValue(),
+          testClasses);
+      if (testClass == null) {
+        unknown++;
+        LOG.fine("No test class found for imported test " + each.getKey());
+        continue;
+      }
+      coverage.calculateClassCoverage(new CoverageResult(
+          describe(each.getKey(), testClass), each.getValue().time, true,
+          each.getValue().blocks));
+    }
+    this.timings.registerEnd(Timings.Stage.COVERAGE);
+
+    LOG.info("Imported coverage of " + (tests.size() - unknown) + " tests from "
+        + this.files.size() + " files");
+    if (unknown != 0) {
+      LOG.warning("Ignored imported coverage of " + unknown
+          + " tests whose test class could not be found");
+    }
+
+    this.exporter.recordCoverage(coverage.createCoverage(),
+        coverage.getTests());
+    return coverage;
+  }
+
+  private void read(final File file, final Map<String, ImportedTest> tests) {
+    try (InputStream is = new BufferedInputStream(
+        Files.newInputStream(file.toPath()))) {
+      if (file.getName().endsWith(".bin")) {
+        BinaryCoverageReader.read(is, block -> addBlock(tests, block),
+            test -> addTest(tests, test));
+      } else {
+        readXml(is, tests);
+      }
+    } catch (final IOException | XMLStreamException | RuntimeException e) {
+      throw new PitError("Could not import coverage from "
+          + file.getAbsolutePath(), e);
+    }
+  }
+
+  private static void addBlock(final Map<String, ImportedTest> tests,
+      final BlockCoverage block) {
+    for (final String each : block.getTests()) {
+      addTest(tests, each, null, 0, block.getBlock());
+    }
+  }
+
+  private static void addTest(final Map<String, ImportedTest> tests,
+      final TestInfo test) {
+    final ImportedTest imported = tests.computeIfAbsent(test.getName(),
+        k -> new ImportedTest());
+    if (test.getDefiningClass() != null) {
+      imported.testClass = test.getDefiningClass();
+    }
+    imported.time = Math.max(imported.time, test.getTime());
+  }
+
+  // streamed, as shard files may be large
+  private static void readXml(final InputStream is,
+      final Map<String, ImportedTest> tests) throws XMLStreamException {
+    final XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    final XMLStreamReader reader = factory.createXMLStreamReader(is);
+    try {
+      BlockLocation block = null;
+      while (reader.hasNext()) {
+        if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+          continue;
+        }
+        if ("block".equals(reader.getLocalName())) {
+          block = readBlock(reader);
+        } else if ("test".equals(reader.getLocalName()) && (block != null)) {
+          final String time = reader.getAttributeValue(null, "time");
+          addTest(tests, reader.getAttributeValue(null, "name"),
+              reader.getAttributeValue(null, "class"),
+              time == null ? 0 : Integer.parseInt(time), block);
+        }
+      }
+    } finally {
+      reader.close();
+    }
+  }
+
+  private static BlockLocation readBlock(final XMLStreamReader reader) {
+    final String method = reader.getAttributeValue(null, "method");
+    final int descStart = method.indexOf('(');
+    final Location location = Location.location(
+        ClassName.fromString(reader.getAttributeValue(null, "classname")),
+        method.substring(0, descStart), method.substring(descStart));
+    return new BlockLocation(location,
+        Integer.parseInt(reader.getAttributeValue(null, "number")),
+        Integer.parseInt(reader.getAttributeValue(null, "firstInstruction")),
+        Integer.parseInt(reader.getAttributeValue(null, "lastInstruction")));
+  }
+
+  private static void addTest(final Map<String, ImportedTest> tests,
+      final String name, final String testClass, final int time,
+      final BlockLocation block) {
+    final ImportedTest test = tests.computeIfAbsent(name,
+        k -> new ImportedTest());
+    if (testClass != null) {
+      test.testClass = testClass;
+    }
+    // a test run by more than one shard is given the longest time it took
+    test.time = Math.max(test.time, time);
+    test.blocks.add(block);
+  }
+
+  private Set<String> testClassNames() {
+    final Set<String> names = new HashSet<>();
+    for (final ClassInfo each : this.code.getTests()) {
+      names.add(each.getName().asJavaName());
+    }
+    return names;
+  }
+
+  /**
+   * The recorded class of the test if it is still a test class, otherwise the
+   * longest prefix of its name that is one.
+   */
+  private static String testClassOf(final String name, final ImportedTest test,
+      final Set<String> testClasses) {
+    if (test.testClass != null) {
+      return testClasses.contains(test.testClass) ? test.testClass : null;
+    }
+    if (testClasses.contains(name)) {
+      return name;
+    }
+    final int end = firstIndexOf(name, '(', '[');
+    for (int dot = name.lastIndexOf('.', end); dot > 0; dot = name
+        .lastIndexOf('.', dot - 1)) {
+      final String candidate = name.substring(0, dot);
+      if (testClasses.contains(candidate)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private static int firstIndexOf(final String s, final char a, final char b) {
+    final int ia = s.indexOf(a);
+    final int ib = s.indexOf(b);
+    if (ia < 0) {
+      return ib < 0 ? s.length() : ib;
+    }
+    return ib < 0 ? ia : Math.min(ia, ib);
+  }
+
+  // recreates the description whose qualified name was exported
+  private static Description describe(final String qualifiedName,
+      final String testClass) {
+    if (qualifiedName.startsWith(testClass + ".")) {
+      return new Description(qualifiedName.substring(testClass.length() + 1),
+          testClass);
+    }
+    return new Description(qualifiedName, testClass);
+  }
+
+  @Override
+  public TestPluginArguments getConfiguration() {
+    return this.coverageOptions.getPitConfig();
+  }
+
+  @Override
+  public LaunchOptions getLaunchOptions() {
+    return this.launchOptions;
+  }
+
+  private static class ImportedTest {
+    private String                   testClass;
+    private int                      time;
+    private final Set<BlockLocation> blocks = new LinkedHashSet<>();
+  }
+
+}
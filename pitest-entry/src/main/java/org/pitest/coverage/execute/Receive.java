@@ -8,19 +8,20 @@ import org.pitest.testapi.Description;
 import org.pitest.util.Id;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
-import sun.pitest.CodeCoverageStore;
 
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 final class Receive implements ReceiveStrategy {
 
-  private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<>();
-  private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
+  private final Map<Integer, ClassName>       classIdToName = new ConcurrentHashMap<>();
+  // blocks of each class, indexed by class wide probe id
+  private final Map<Integer, BlockLocation[]> probeToBlock  = new ConcurrentHashMap<>();
+  private final List<Description>             tests         = new ArrayList<>();
 
   private final Consumer<CoverageResult> handler;
 
@@ -39,6 +40,9 @@ final class Receive implements ReceiveStrategy {
     case Id.PROBES:
       handleProbes(is);
       break;
+    case Id.TEST:
+      handleTest(is);
+      break;
     case Id.OUTCOME:
       handleTestEnd(is);
       break;
@@ -55,44 +59,66 @@ final class Receive implements ReceiveStrategy {
     final int last = is.readInt();
     final Location loc = Location.location(this.classIdToName.get(classId),
         methodName, methodSig);
+    final BlockLocation[] blocks = blocksWithRoomFor(classId, last);
     for (int i = first; i != (last + 1); i++) {
       // nb, convert from classwide id to method scoped index within
       // BlockLocation
-      this.probeToBlock.put(CodeCoverageStore.encode(classId, i),
-          new BlockLocation(loc, i - first, is.readInt(), is.readInt()));
+      blocks[i] = new BlockLocation(loc, i - first, is.readInt(), is.readInt());
     }
   }
 
-  private void handleTestEnd(final SafeDataInputStream is) {
-    final Description d = is.read(Description.class);
-    final int numberOfResults = is.readInt();
+  private BlockLocation[] blocksWithRoomFor(final int classId,
+      final int probeId) {
+    final BlockLocation[] blocks = this.probeToBlock.get(classId);
+    if ((blocks != null) && (blocks.length > probeId)) {
+      return blocks;
+    }
+    final BlockLocation[] grown = blocks == null ? new BlockLocation[probeId + 1]
+        : Arrays.copyOf(blocks, probeId + 1);
+    this.probeToBlock.put(classId, grown);
+    return grown;
+  }
+
+  private void handleTest(final SafeDataInputStream is) {
+    final int id = is.readVarInt();
+    final String name = is.readString();
+    final String testClass = is.readBoolean() ? is.readString() : null;
+    // ids are allocated in order
+    this.tests.add(id, new Description(name, testClass));
+  }
 
-    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
+  private void handleTestEnd(final SafeDataInputStream is) {
+    final Description d = this.tests.get(is.readVarInt());
 
-    for (int i = 0; i != numberOfResults; i++) {
-      readProbeHit(is, hits);
+    final List<BlockLocation> hits = new ArrayList<>();
+    for (int classId = is.readVarInt(); classId != CoveragePipe.END_OF_HITS; classId = is
+        .readVarInt()) {
+      readProbeHits(is, classId - 1, hits);
     }
 
     this.handler.accept(createCoverageResult(is, d, hits));
   }
 
-  private void readProbeHit(final SafeDataInputStream is,
-      final Set<BlockLocation> hits) {
-    final long encoded = is.readLong();
-    final BlockLocation location = probeToBlock(encoded);
-    hits.add(location);
-  }
-
-  private BlockLocation probeToBlock(long encoded) {
-    return this.probeToBlock.get(encoded);
+  private void readProbeHits(final SafeDataInputStream is, final int classId,
+      final List<BlockLocation> hits) {
+    final BlockLocation[] blocks = this.probeToBlock.get(classId);
+    final int numberOfHits = is.readVarInt();
+    int probeId = 0;
+    for (int i = 0; i != numberOfHits; i++) {
+      probeId += is.readVarInt();
+      if ((blocks != null) && (probeId < blocks.length)
+          && (blocks[probeId] != null)) {
+        hits.add(blocks[probeId]);
+      }
+    }
   }
 
   private CoverageResult createCoverageResult(final SafeDataInputStream is,
-      final Description d, Collection<BlockLocation> visitedBlocks) {
+      final Description d, final List<BlockLocation> visitedBlocks) {
     final boolean isGreen = is.readBoolean();
     final int executionTime = is.readInt();
     return new CoverageResult(d, executionTime, isGreen,
         visitedBlocks);
   }
 
-}
\ No newline at end of file
+}
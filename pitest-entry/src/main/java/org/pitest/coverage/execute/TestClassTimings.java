@@ -0,0 +1,105 @@
+package org.pitest.coverage.execute;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import org.pitest.util.CacheKeys;
+import org.pitest.util.Log;
+
+/**
+ * Time taken by each test class while coverage was gathered, remembered
+ * between runs so the next run can share test classes evenly between coverage
+ * minions.
+ *
+ * Timings are stored in a file per classpath, named by a digest of the
+ * classpath.
+ */
+public class TestClassTimings {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final File          file;
+
+  TestClassTimings(final File file) {
+    this.file = file;
+  }
+
+  public static TestClassTimings none() {
+    return new TestClassTimings(null);
+  }
+
+  public static TestClassTimings inDirectory(final File directory,
+      final String classPath) {
+    return new TestClassTimings(new File(directory,
+        "timings-" + CacheKeys.of(classPath) + ".properties"));
+  }
+
+  /**
+   * Milliseconds taken by each test class, by internal name, when last
+   * recorded. Empty if nothing has been recorded or it cannot be read.
+   */
+  public Map<String, Long> previous() {
+    if ((this.file == null) || !this.file.isFile()) {
+      return Collections.emptyMap();
+    }
+
+    final Properties properties = new Properties();
+    try (InputStream is = Files.newInputStream(this.file.toPath())) {
+      properties.load(is);
+    } catch (final IOException | IllegalArgumentException ex) {
+      LOG.fine("Could not read test class timings " + ex);
+      return Collections.emptyMap();
+    }
+
+    final Map<String, Long> timings = new HashMap<>();
+    for (final String each : properties.stringPropertyNames()) {
+      try {
+        timings.put(each, Long.parseLong(properties.getProperty(each)));
+      } catch (final NumberFormatException ex) {
+        // ignore
+      }
+    }
+    return timings;
+  }
+
+  public void record(final Map<String, Long> timings) {
+    if ((this.file == null) || timings.isEmpty()) {
+      return;
+    }
+
+    final Properties properties = new Properties();
+    for (final Map.Entry<String, Long> each : timings.entrySet()) {
+      properties.setProperty(each.getKey(), String.valueOf(each.getValue()));
+    }
+
+    final File dir = this.file.getParentFile();
+    if (!dir.isDirectory() && !dir.mkdirs()) {
+      return;
+    }
+
+    // written alongside then moved, so concurrent runs never see half a file
+    final File tmp = new File(dir, this.file.getName() + "."
+        + UUID.randomUUID() + ".tmp");
+    try {
+      try (OutputStream os = Files.newOutputStream(tmp.toPath())) {
+        properties.store(os, null);
+      }
+      Files.move(tmp.toPath(), this.file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException ex) {
+      LOG.fine("Could not record test class timings " + ex);
+      tmp.delete();
+    }
+  }
+
+}
@@ -0,0 +1,336 @@
+package org.pitest.coverage.execute;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.testapi.Description;
+import org.pitest.util.CacheKeys;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * The coverage of each test class, kept between runs so that it need only be
+ * gathered again for test classes that have changed.
+ *
+ * An entry is stored for each test class whose tests all passed. It records
+ * the hierarchical hash of the test class and of each class its tests
+ * covered, and is reused only while none of these hashes change.
+ *
+ * Entries are stored in a file per classpath and coverage options, named by a
+ * digest of both.
+ */
+public class TestCoverageCache {
+
+  private static final Logger LOG     = Log.getLogger();
+
+  private static final int    VERSION = 1;
+
+  private final File          file;
+
+  TestCoverageCache(final File file) {
+    this.file = file;
+  }
+
+  public static TestCoverageCache disabled() {
+    return new TestCoverageCache(null);
+  }
+
+  /**
+   * A cache keyed by the classpath and coverage options, or a disabled one if
+   * the options cannot be serialised, as coverage gathered with different
+   * options could then not be told apart.
+   */
+  public static TestCoverageCache inDirectory(final File directory,
+      final String classPath, final CoverageOptions options) {
+    final byte[] serialized;
+    try {
+      serialized = serialize(options);
+    } catch (final IOException ex) {
+      LOG.warning("Not reusing coverage between runs as the coverage options"
+          + " could not be serialised (" + ex + ")");
+      return disabled();
+    }
+    final String key = CacheKeys.of(
+        classPath.getBytes(StandardCharsets.UTF_8), serialized);
+    return new TestCoverageCache(new File(directory,
+        "coverage-" + key + ".bin"));
+  }
+
+  public boolean isEnabled() {
+    return this.file != null;
+  }
+
+  /**
+   * Stored coverage of those of the test classes which, along with every
+   * class they covered, are unchanged since it was stored.
+   */
+  public Map<ClassName, List<CoverageResult>> reusable(
+      final Collection<ClassInfo> testClasses, final CodeSource code) {
+    if (!isEnabled() || !this.file.isFile()) {
+      return Collections.emptyMap();
+    }
+
+    final Map<ClassName, Entry> entries = read();
+    final Map<ClassName, List<CoverageResult>> reusable = new LinkedHashMap<>();
+    for (final ClassInfo each : testClasses) {
+      final Entry entry = entries.get(each.getName());
+      if ((entry != null) && entry.hash.equals(hashOf(each))
+          && entry.covered.equals(hashes(entry.covered.keySet(), code))) {
+        reusable.put(each.getName(), entry.results);
+      }
+    }
+    return reusable;
+  }
+
+  /**
+   * Replaces the stored coverage with that of the test classes whose tests
+   * all passed.
+   *
+   * @param results
+   *          results of all the tests, whether gathered in this run or reused
+   */
+  public void store(final Collection<ClassInfo> testClasses,
+      final Collection<CoverageResult> results, final CodeSource code) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    final Map<ClassName, ClassInfo> testsByName = new HashMap<>();
+    for (final ClassInfo each : testClasses) {
+      testsByName.put(each.getName(), each);
+    }
+
+    final Map<ClassName, Map<Description, CoverageResult>> byTestClass = new LinkedHashMap<>();
+    final Set<ClassName> failing = new LinkedHashSet<>();
+    for (final CoverageResult each : results) {
+      final String testClass = each.getTestUnitDescription().getFirstTestClass();
+      if ((testClass == null)
+          || !testsByName.containsKey(ClassName.fromString(testClass))) {
+        continue;
+      }
+      final ClassName name = ClassName.fromString(testClass);
+      if (!each.isGreenTest()) {
+        failing.add(name);
+      }
+      // a test run more than once, eg by a suite, is stored once
+      byTestClass.computeIfAbsent(name, k -> new LinkedHashMap<>())
+          .putIfAbsent(each.getTestUnitDescription(), each);
+    }
+
+    final List<Entry> entries = new ArrayList<>();
+    for (final Map.Entry<ClassName, Map<Description, CoverageResult>> each : byTestClass
+        .entrySet()) {
+      if (failing.contains(each.getKey())) {
+        continue;
+      }
+      final List<CoverageResult> classResults = new ArrayList<>(
+          each.getValue().values());
+      final Map<ClassName, String> covered = hashes(coveredClasses(classResults),
+          code);
+      entries.add(new Entry(each.getKey(),
+          hashOf(testsByName.get(each.getKey())), covered, classResults));
+    }
+
+    write(entries);
+  }
+
+  private static Set<ClassName> coveredClasses(
+      final Collection<CoverageResult> results) {
+    final Set<ClassName> classes = new LinkedHashSet<>();
+    for (final CoverageResult each : results) {
+      for (final BlockLocation block : each.getCoverage()) {
+        classes.add(block.getLocation().getClassName());
+      }
+    }
+    return classes;
+  }
+
+  private static Map<ClassName, String> hashes(
+      final Collection<ClassName> classes, final CodeSource code) {
+    final Map<ClassName, String> hashes = new HashMap<>();
+    for (final ClassInfo each : code.getClassInfo(classes)) {
+      hashes.put(each.getName(), hashOf(each));
+    }
+    return hashes;
+  }
+
+  private static String hashOf(final ClassInfo clazz) {
+    return clazz.getHierarchicalId().getHierarchicalHash();
+  }
+
+  private Map<ClassName, Entry> read() {
+    final Map<ClassName, Entry> entries = new HashMap<>();
+    try (InputStream is = new BufferedInputStream(
+        Files.newInputStream(this.file.toPath()))) {
+      final SafeDataInputStream dis = new SafeDataInputStream(is);
+      if (dis.readInt() != VERSION) {
+        return entries;
+      }
+      final int count = dis.readInt();
+      for (int i = 0; i != count; i++) {
+        final Entry entry = readEntry(dis);
+        entries.put(entry.testClass, entry);
+      }
+    } catch (final IOException | RuntimeException ex) {
+      LOG.fine("Could not read coverage cache " + ex);
+      return Collections.emptyMap();
+    }
+    return entries;
+  }
+
+  private static Entry readEntry(final SafeDataInputStream dis) {
+    final ClassName testClass = ClassName.fromString(dis.readString());
+    final String hash = dis.readString();
+
+    final Map<ClassName, String> covered = new HashMap<>();
+    final int coveredCount = dis.readInt();
+    for (int i = 0; i != coveredCount; i++) {
+      covered.put(ClassName.fromString(dis.readString()), dis.readString());
+    }
+
+    final List<Location> locations = new ArrayList<>();
+    final int locationCount = dis.readInt();
+    for (int i = 0; i != locationCount; i++) {
+      locations.add(Location.location(ClassName.fromString(dis.readString()),
+          dis.readString(), dis.readString()));
+    }
+
+    final List<CoverageResult> results = new ArrayList<>();
+    final int resultCount = dis.readInt();
+    for (int i = 0; i != resultCount; i++) {
+      final Description description = new Description(dis.readString(),
+          dis.readString());
+      final int executionTime = dis.readInt();
+      final int blockCount = dis.readInt();
+      final List<BlockLocation> blocks = new ArrayList<>(blockCount);
+      for (int b = 0; b != blockCount; b++) {
+        blocks.add(new BlockLocation(locations.get(dis.readInt()),
+            dis.readInt(), dis.readInt(), dis.readInt()));
+      }
+      results.add(new CoverageResult(description, executionTime, true, blocks));
+    }
+
+    return new Entry(testClass, hash, covered, results);
+  }
+
+  private void write(final List<Entry> entries) {
+    final File dir = this.file.getParentFile();
+    if (!dir.isDirectory() && !dir.mkdirs()) {
+      return;
+    }
+
+    // written alongside then moved, so concurrent runs never see half a file
+    final File tmp = new File(dir, this.file.getName() + "."
+        + UUID.randomUUID() + ".tmp");
+    try {
+      try (OutputStream os = new BufferedOutputStream(
+          Files.newOutputStream(tmp.toPath()))) {
+        final SafeDataOutputStream dos = new SafeDataOutputStream(os);
+        dos.writeInt(VERSION);
+        dos.writeInt(entries.size());
+        for (final Entry each : entries) {
+          writeEntry(dos, each);
+        }
+        dos.flush();
+      }
+      Files.move(tmp.toPath(), this.file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException | RuntimeException ex) {
+      LOG.fine("Could not write coverage cache " + ex);
+      tmp.delete();
+    }
+  }
+
+  private static void writeEntry(final SafeDataOutputStream dos,
+      final Entry entry) {
+    dos.writeString(entry.testClass.asInternalName());
+    dos.writeString(entry.hash);
+
+    dos.writeInt(entry.covered.size());
+    for (final Map.Entry<ClassName, String> each : entry.covered.entrySet()) {
+      dos.writeString(each.getKey().asInternalName());
+      dos.writeString(each.getValue());
+    }
+
+    final Map<Location, Integer> locations = new LinkedHashMap<>();
+    for (final CoverageResult each : entry.results) {
+      for (final BlockLocation block : each.getCoverage()) {
+        locations.putIfAbsent(block.getLocation(), locations.size());
+      }
+    }
+    dos.writeInt(locations.size());
+    for (final Location each : locations.keySet()) {
+      dos.writeString(each.getClassName().asInternalName());
+      dos.writeString(each.getMethodName());
+      dos.writeString(each.getMethodDesc());
+    }
+
+    dos.writeInt(entry.results.size());
+    for (final CoverageResult each : entry.results) {
+      dos.writeString(each.getTestUnitDescription().getName());
+      dos.writeString(each.getTestUnitDescription().getFirstTestClass());
+      dos.writeInt(each.getExecutionTime());
+      dos.writeInt(each.getCoverage().size());
+      for (final BlockLocation block : each.getCoverage()) {
+        dos.writeInt(locations.get(block.getLocation()));
+        dos.writeInt(block.getBlock());
+        dos.writeInt(block.getFirstInsnInBlock());
+        dos.writeInt(block.getLastInsnInBlock());
+      }
+    }
+  }
+
+  private static byte[] serialize(final CoverageOptions options)
+      throws IOException {
+    try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+      oos.writeObject(options);
+      oos.flush();
+      return bos.toByteArray();
+    }
+  }
+
+  private static class Entry {
+    private final ClassName              testClass;
+    private final String                 hash;
+    private final Map<ClassName, String> covered;
+    private final List<CoverageResult>   results;
+
+    Entry(final ClassName testClass, final String hash,
+        final Map<ClassName, String> covered,
+        final List<CoverageResult> results) {
+      this.testClass = testClass;
+      this.hash = hash;
+      this.covered = covered;
+      this.results = results;
+    }
+  }
+
+}
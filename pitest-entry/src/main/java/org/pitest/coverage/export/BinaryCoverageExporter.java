@@ -0,0 +1,147 @@
+package org.pitest.coverage.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageExporter;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * Exports coverage data to linecoverage.bin, holding the same information as
+ * linecoverage.xml in a fraction of the space. Blocks are written one at a
+ * time, so can be read back as a stream by {@link BinaryCoverageReader}.
+ *
+ * The file starts with a magic number and version, followed by a record for
+ * each block and an end marker. Each record holds the class, method name and
+ * descriptor, block number, first and last instruction and the tests covering
+ * the block. Strings are written in full the first time they appear and by
+ * their position in a string table after that, and numbers as varints. Tests
+ * are written in the same way, along with their defining class and execution
+ * time the first time they appear, so that the coverage can later be imported
+ * in place of running the tests.
+ */
+public class BinaryCoverageExporter implements CoverageExporter {
+
+  public static final String FILE_NAME = "linecoverage.bin";
+
+  static final int           MAGIC     = 0x50495443;
+  static final int           VERSION   = 2;
+
+  static final byte          END       = 0;
+  static final byte          BLOCK     = 1;
+
+  // written as the reference of a string or test that follows in full
+  static final int           NEW       = 0;
+
+  private final OutputStream       outputStream;
+
+  /**
+   * The stream is closed once coverage has been recorded.
+   */
+  public BinaryCoverageExporter(final OutputStream outputStream) {
+    this.outputStream = outputStream;
+  }
+
+  @Override
+  public void recordCoverage(final Collection<BlockCoverage> coverage) {
+    recordCoverage(coverage, Collections.<TestInfo> emptyList());
+  }
+
+  @Override
+  public void recordCoverage(final Collection<BlockCoverage> coverage,
+      final Collection<TestInfo> tests) {
+    final Map<String, TestInfo> testsByName = new HashMap<>();
+    for (final TestInfo each : tests) {
+      testsByName.put(each.getName(), each);
+    }
+
+    try (OutputStream os = this.outputStream) {
+      final SafeDataOutputStream out = new SafeDataOutputStream(os);
+      final Tables tables = new Tables(testsByName);
+      out.writeInt(MAGIC);
+      out.writeVarInt(VERSION);
+      for (final BlockCoverage each : coverage) {
+        writeBlock(out, tables, each);
+      }
+      out.writeByte(END);
+      out.flush();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static void writeBlock(final SafeDataOutputStream out,
+      final Tables tables, final BlockCoverage each) {
+    final BlockLocation block = each.getBlock();
+    final Location l = block.getLocation();
+    out.writeByte(BLOCK);
+    writeString(out, tables, l.getClassName().asJavaName());
+    writeString(out, tables, l.getMethodName());
+    writeString(out, tables, l.getMethodDesc());
+    out.writeVarInt(block.getBlock());
+    out.writeVarInt(block.getFirstInsnInBlock());
+    out.writeVarInt(block.getLastInsnInBlock());
+
+    final List<String> ts = new ArrayList<>(each.getTests());
+    Collections.sort(ts);
+    out.writeVarInt(ts.size());
+    for (final String test : ts) {
+      writeTest(out, tables, test);
+    }
+  }
+
+  // the class of a test is written as an empty string when it is not known
+  private static void writeTest(final SafeDataOutputStream out,
+      final Tables tables, final String name) {
+    final Integer index = tables.tests.get(name);
+    if (index != null) {
+      out.writeVarInt(index + 1);
+    } else {
+      tables.tests.put(name, tables.tests.size());
+      out.writeVarInt(NEW);
+      writeString(out, tables, name);
+      final TestInfo info = tables.testsByName.get(name);
+      if ((info == null) || (info.getDefiningClass() == null)) {
+        writeString(out, tables, "");
+        out.writeVarInt(0);
+      } else {
+        writeString(out, tables, info.getDefiningClass());
+        out.writeVarInt(info.getTime());
+      }
+    }
+  }
+
+  private static void writeString(final SafeDataOutputStream out,
+      final Tables tables, final String value) {
+    final Integer index = tables.strings.get(value);
+    if (index != null) {
+      out.writeVarInt(index + 1);
+    } else {
+      tables.strings.put(value, tables.strings.size());
+      out.writeVarInt(NEW);
+      out.writeString(value);
+    }
+  }
+
+  private static class Tables {
+    private final Map<String, TestInfo> testsByName;
+    private final Map<String, Integer>  strings = new HashMap<>();
+    private final Map<String, Integer>  tests   = new HashMap<>();
+
+    Tables(final Map<String, TestInfo> testsByName) {
+      this.testsByName = testsByName;
+    }
+  }
+
+}
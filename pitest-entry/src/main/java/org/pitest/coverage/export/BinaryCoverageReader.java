@@ -0,0 +1,112 @@
+package org.pitest.coverage.export;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+
+/**
+ * Reads coverage written by {@link BinaryCoverageExporter}, passing each block
+ * on as it is read so that the whole file is never held in memory.
+ */
+public final class BinaryCoverageReader {
+
+  private final SafeDataInputStream in;
+  private final Consumer<TestInfo>  testDetails;
+  private final List<String>        strings = new ArrayList<>();
+  private final List<String>        tests   = new ArrayList<>();
+
+  private BinaryCoverageReader(final InputStream is,
+      final Consumer<TestInfo> testDetails) {
+    this.in = new SafeDataInputStream(is);
+    this.testDetails = testDetails;
+  }
+
+  /**
+   * Reads blocks from the stream until the end marker. The stream is not
+   * closed.
+   */
+  public static void read(final InputStream is,
+      final Consumer<BlockCoverage> blocks) {
+    read(is, blocks, t -> { });
+  }
+
+  /**
+   * Reads blocks from the stream until the end marker, also passing on the
+   * defining class and execution time of each test the first time it is
+   * read. The class is null if it was not known when the coverage was
+   * exported. The stream is not closed.
+   */
+  public static void read(final InputStream is,
+      final Consumer<BlockCoverage> blocks,
+      final Consumer<TestInfo> testDetails) {
+    new BinaryCoverageReader(is, testDetails).readAll(blocks);
+  }
+
+  private void readAll(final Consumer<BlockCoverage> blocks) {
+    if (this.in.readInt() != BinaryCoverageExporter.MAGIC) {
+      throw new PitError("Not a binary line coverage file");
+    }
+    final int version = this.in.readVarInt();
+    if (version != BinaryCoverageExporter.VERSION) {
+      throw new PitError("Unsupported binary line coverage version " + version);
+    }
+
+    byte tag;
+    while ((tag = this.in.readByte()) == BinaryCoverageExporter.BLOCK) {
+      blocks.accept(readBlock());
+    }
+    if (tag != BinaryCoverageExporter.END) {
+      throw new PitError("Corrupt binary line coverage, unexpected tag " + tag);
+    }
+  }
+
+  private BlockCoverage readBlock() {
+    final Location location = new Location(ClassName.fromString(readString()),
+        readString(), readString());
+    final BlockLocation block = new BlockLocation(location,
+        this.in.readVarInt(), this.in.readVarInt(), this.in.readVarInt());
+
+    final int testCount = this.in.readVarInt();
+    final List<String> tests = new ArrayList<>(testCount);
+    for (int i = 0; i != testCount; i++) {
+      tests.add(readTest());
+    }
+    return new BlockCoverage(block, tests);
+  }
+
+  private String readTest() {
+    final int ref = this.in.readVarInt();
+    if (ref != BinaryCoverageExporter.NEW) {
+      return this.tests.get(ref - 1);
+    }
+    final String name = readString();
+    final String testClass = readString();
+    final int time = this.in.readVarInt();
+    this.tests.add(name);
+    this.testDetails.accept(new TestInfo(
+        testClass.isEmpty() ? null : testClass, name, time,
+        Optional.<ClassName> empty(), 0));
+    return name;
+  }
+
+  private String readString() {
+    final int ref = this.in.readVarInt();
+    if (ref == BinaryCoverageExporter.NEW) {
+      final String value = this.in.readString();
+      this.strings.add(value);
+      return value;
+    }
+    return this.strings.get(ref - 1);
+  }
+
+}
@@ -5,10 +5,13 @@ import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.pitest.coverage.BlockCoverage;
 import org.pitest.coverage.CoverageExporter;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.StringUtil;
@@ -27,11 +30,27 @@ public class DefaultCoverageExporter implements CoverageExporter {
 
   @Override
   public void recordCoverage(final Collection<BlockCoverage> coverage) {
+    recordCoverage(coverage, Collections.<TestInfo> emptyList());
+  }
+
+  /**
+   * Records the defining class and execution time of each test alongside its
+   * name, so that the coverage can later be imported in place of running the
+   * tests.
+   */
+  @Override
+  public void recordCoverage(final Collection<BlockCoverage> coverage,
+      final Collection<TestInfo> tests) {
+    final Map<String, TestInfo> testsByName = new HashMap<>();
+    for (final TestInfo each : tests) {
+      testsByName.put(each.getName(), each);
+    }
+
     final Writer out = this.outputStrategy
         .createWriterForFile("linecoverage.xml");
     writeHeader(out);
     for (final BlockCoverage each : coverage) {
-      writeLineCoverage(each, out);
+      writeLineCoverage(each, testsByName, out);
     }
 
     writeFooterAndClose(out);
@@ -42,7 +61,8 @@ public class DefaultCoverageExporter implements CoverageExporter {
     write(out, "<coverage>\n");
   }
 
-  private void writeLineCoverage(final BlockCoverage each, final Writer out) {
+  private void writeLineCoverage(final BlockCoverage each,
+      final Map<String, TestInfo> testsByName, final Writer out) {
     final Location l = each.getBlock().getLocation();
     write(
         out,
@@ -57,12 +77,21 @@ public class DefaultCoverageExporter implements CoverageExporter {
     final List<String> ts = new ArrayList<>(each.getTests());
     Collections.sort(ts);
     for (final String test : ts) {
-      write(out, "<test name='" + StringUtil.escapeBasicHtmlChars(test) + "'/>\n");
+      write(out, "<test name='" + StringUtil.escapeBasicHtmlChars(test) + "'"
+          + testDetails(testsByName.get(test)) + "/>\n");
     }
     write(out, "</tests>\n");
     write(out, "</block>\n");
   }
 
+  private static String testDetails(final TestInfo test) {
+    if ((test == null) || (test.getDefiningClass() == null)) {
+      return "";
+    }
+    return " class='" + StringUtil.escapeBasicHtmlChars(test.getDefiningClass())
+        + "' time='" + test.getTime() + "'";
+  }
+
   private void writeFooterAndClose(final Writer out) {
     try {
       write(out, "</coverage>\n");
@@ -23,11 +23,23 @@ public final class MutationConfig {
 
   private final LaunchOptions  launchOptions;
   private final MutationEngine engine;
+  private final boolean        inProcess;
 
   public MutationConfig(final MutationEngine engine,
       final LaunchOptions launchOptions) {
+    this(engine, launchOptions, false);
+  }
+
+  /**
+   * @param inProcess
+   *          if true, mutations are analysed on threads of the current JVM
+   *          rather than in forked minions
+   */
+  public MutationConfig(final MutationEngine engine,
+      final LaunchOptions launchOptions, final boolean inProcess) {
     this.launchOptions = launchOptions;
     this.engine = engine;
+    this.inProcess = inProcess;
   }
 
   public Mutater createMutator(final ClassByteArraySource source) {
@@ -42,6 +54,10 @@ public final class MutationConfig {
     return this.launchOptions;
   }
 
+  public boolean isInProcess() {
+    return this.inProcess;
+  }
+
   @Override
   public boolean equals(final Object rhs) {
     throw new UnsupportedOperationException();
@@ -55,7 +71,7 @@ public final class MutationConfig {
   @Override
   public String toString() {
     return "MutationConfig [launchOptions=" + this.launchOptions + ", engine="
-        + this.engine + "]";
+        + this.engine + ", inProcess=" + this.inProcess + "]";
   }
 
 }
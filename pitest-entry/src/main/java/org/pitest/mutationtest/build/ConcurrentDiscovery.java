@@ -0,0 +1,67 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Unchecked;
+
+/**
+ * Fans the search of each class for mutations out over a fork join pool, so
+ * that every discovery pass over the code classes is spread across threads in
+ * the same way.
+ */
+public final class ConcurrentDiscovery {
+
+  private ConcurrentDiscovery() {
+  }
+
+  /**
+   * Mutations of each of the classes, in the order of the classes. Classes are
+   * searched on up to the given number of threads if the mutation source
+   * allows it, otherwise one at a time on the calling thread.
+   *
+   * @param mutationSource
+   *          source that the function uses to create mutations
+   * @param source
+   *          function giving the mutations of a class
+   */
+  public static List<MutationDetails> findMutations(
+      final MutationSource mutationSource, final int numberOfThreads,
+      final Collection<ClassName> codeClasses,
+      final Function<ClassName, Collection<MutationDetails>> source) {
+    if ((numberOfThreads <= 1) || (codeClasses.size() <= 1)
+        || !mutationSource.canCreateMutationsConcurrently()) {
+      return FCollection.flatMap(codeClasses, source);
+    }
+
+    // the stream keeps the order of the classes, as the sequential path does
+    final ForkJoinPool pool = new ForkJoinPool(numberOfThreads);
+    try {
+      return pool.submit(() -> codeClasses.parallelStream()
+          .flatMap(c -> source.apply(c).stream())
+          .collect(Collectors.toCollection(ArrayList::new))).get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw Unchecked.translateCheckedException(e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw Unchecked.translateCheckedException(e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+}
@@ -0,0 +1,114 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Groups mutations into units of roughly equal estimated cost, so that all
+ * threads finish analysis at about the same time.
+ *
+ * The cost of a mutant is estimated as the time taken by all the tests that
+ * cover it, as assigned by the test prioritiser, plus a fixed overhead. Units
+ * are packed from the mutants of a single class up to a target cost derived
+ * from the total cost and the number of threads, and are returned most
+ * expensive first.
+ */
+public class CostBalancedGrouper implements MutationGrouper {
+
+  /**
+   * Estimated cost, in milliseconds, of inserting a mutant and reporting its
+   * result, regardless of the tests run against it.
+   */
+  static final long MUTANT_OVERHEAD = 10;
+
+  /**
+   * Number of units to aim for per thread. More than one unit per thread
+   * allows threads that are given cheap units to pick up more work.
+   */
+  private static final int UNITS_PER_THREAD = 4;
+
+  private final int numberOfThreads;
+  private final int unitSize;
+
+  public CostBalancedGrouper(final int numberOfThreads, final int unitSize) {
+    this.numberOfThreads = Math.max(1, numberOfThreads);
+    this.unitSize = unitSize;
+  }
+
+  @Override
+  public List<List<MutationDetails>> groupMutations(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> mutations) {
+    final long target = targetCost(mutations);
+
+    final Map<ClassName, Collection<MutationDetails>> bucketed = FCollection
+        .bucket(mutations, MutationDetails::getClassName);
+    final List<List<MutationDetails>> units = new ArrayList<>();
+    for (final Collection<MutationDetails> each : bucketed.values()) {
+      packToTargetCost(units, each, target);
+    }
+
+    units.sort(Comparator.comparingLong(CostBalancedGrouper::totalCost).reversed());
+    return units;
+  }
+
+  @Override
+  public int priority(final Collection<MutationDetails> group) {
+    return (int) Math.min(Integer.MAX_VALUE - 1, totalCost(group));
+  }
+
+  static long totalCost(final Collection<MutationDetails> mutations) {
+    long total = 0;
+    for (final MutationDetails each : mutations) {
+      total += cost(each);
+    }
+    return total;
+  }
+
+  static long cost(final MutationDetails mutation) {
+    long cost = MUTANT_OVERHEAD;
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      cost += Math.max(0, each.getTime());
+    }
+    return cost;
+  }
+
+  private long targetCost(final Collection<MutationDetails> mutations) {
+    final long units = (long) this.numberOfThreads * UNITS_PER_THREAD;
+    return Math.max(MUTANT_OVERHEAD, totalCost(mutations) / units);
+  }
+
+  private void packToTargetCost(final List<List<MutationDetails>> units,
+      final Collection<MutationDetails> mutations, final long target) {
+    List<MutationDetails> current = new ArrayList<>();
+    long currentCost = 0;
+    for (final MutationDetails each : mutations) {
+      final long cost = cost(each);
+      if (!current.isEmpty() && isFull(current, currentCost + cost, target)) {
+        units.add(current);
+        current = new ArrayList<>();
+        currentCost = 0;
+      }
+      current.add(each);
+      currentCost = currentCost + cost;
+    }
+
+    if (!current.isEmpty()) {
+      units.add(current);
+    }
+  }
+
+  private boolean isFull(final List<MutationDetails> unit, final long cost,
+      final long target) {
+    return (cost > target) || ((this.unitSize > 0) && (unit.size() >= this.unitSize));
+  }
+
+}
@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Mutations not yet handed to a minion, held in one slot per unit of work.
+ *
+ * A unit takes batches from the head of its own slot. Once its slot is
+ * empty it steals batches from the tail of the slot with the most remaining
+ * mutations, so no thread sits idle while another still has mutations that
+ * have not been started.
+ */
+final class MutantWorkQueue {
+
+  private final int                          batchSize;
+  private final List<Deque<MutationDetails>> slots = new ArrayList<>();
+
+  MutantWorkQueue(final int batchSize) {
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  synchronized Deque<MutationDetails> register(
+      final Collection<MutationDetails> mutations) {
+    final Deque<MutationDetails> slot = new ArrayDeque<>(mutations);
+    this.slots.add(slot);
+    return slot;
+  }
+
+  synchronized List<MutationDetails> take(final Deque<MutationDetails> slot) {
+    if (!slot.isEmpty()) {
+      return takeFromHead(slot);
+    }
+    return steal();
+  }
+
+  synchronized int remaining() {
+    int remaining = 0;
+    for (final Deque<MutationDetails> each : this.slots) {
+      remaining = remaining + each.size();
+    }
+    return remaining;
+  }
+
+  private List<MutationDetails> takeFromHead(final Deque<MutationDetails> slot) {
+    final List<MutationDetails> batch = new ArrayList<>(this.batchSize);
+    while (!slot.isEmpty() && (batch.size() < this.batchSize)) {
+      batch.add(slot.pollFirst());
+    }
+    return batch;
+  }
+
+  private List<MutationDetails> steal() {
+    Deque<MutationDetails> victim = null;
+    for (final Deque<MutationDetails> each : this.slots) {
+      if ((victim == null) || (each.size() > victim.size())) {
+        victim = each;
+      }
+    }
+
+    if ((victim == null) || victim.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final List<MutationDetails> batch = new ArrayList<>(this.batchSize);
+    while (!victim.isEmpty() && (batch.size() < this.batchSize)) {
+      batch.add(victim.pollLast());
+    }
+    Collections.reverse(batch);
+    return batch;
+  }
+
+}
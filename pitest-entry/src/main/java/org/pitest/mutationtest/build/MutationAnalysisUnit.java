@@ -11,4 +11,13 @@ public interface MutationAnalysisUnit extends Callable<MutationMetaData> {
 
   int priority();
 
+  /**
+   * Whether the unit should be called again once the results of a call have
+   * been delivered. Units that analyse their mutations a batch at a time
+   * return the results of one batch from each call.
+   */
+  default boolean hasMoreWork() {
+    return false;
+  }
+
 }
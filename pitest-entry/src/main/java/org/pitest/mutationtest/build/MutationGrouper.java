@@ -11,4 +11,16 @@ public interface MutationGrouper {
   List<List<MutationDetails>> groupMutations(Collection<ClassName> codeClasses,
       Collection<MutationDetails> mutations);
 
+  /**
+   * Priority of a group produced by this grouper. Groups with the highest
+   * priority are analysed first.
+   *
+   * @param group
+   *          a group returned by groupMutations
+   * @return priority of the group
+   */
+  default int priority(Collection<MutationDetails> group) {
+    return group.size();
+  }
+
 }
@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.build;
 
 import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.ClassTreeCache;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
@@ -24,41 +25,103 @@ import org.pitest.mutationtest.engine.MutationDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class MutationSource {
 
   private final MutationConfig       mutationConfig;
   private final TestPrioritiser      testPrioritiser;
   private final ClassByteArraySource source;
-  private final MutationInterceptor interceptor;
+  private final ThreadLocal<MutationInterceptor> interceptor;
+  private final ClassTreeCache       classTrees;
+  private final boolean              concurrent;
 
+  /**
+   * Creates a source that uses the supplied interceptor, so may only create
+   * mutations on one thread at a time.
+   */
   public MutationSource(final MutationConfig mutationConfig,
       final TestPrioritiser testPrioritiser,
       final ClassByteArraySource source,
       final MutationInterceptor interceptor) {
+    // with no other source to share them with, parsed classes are not kept
+    this(mutationConfig, testPrioritiser, source, () -> interceptor,
+        new ClassTreeCache(0), false);
+  }
+
+  /**
+   * Creates a source that may create mutations on several threads at once,
+   * giving each thread its own interceptor. The test prioritiser and class
+   * source must be safe to share between threads.
+   *
+   * @param classTrees
+   *          parsed classes, shared with other sources of the same run
+   */
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final Supplier<? extends MutationInterceptor> interceptors,
+      final ClassTreeCache classTrees) {
+    this(mutationConfig, testPrioritiser, source, interceptors, classTrees,
+        true);
+  }
+
+  private MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final Supplier<? extends MutationInterceptor> interceptors,
+      final ClassTreeCache classTrees,
+      final boolean concurrent) {
     this.mutationConfig = mutationConfig;
     this.testPrioritiser = testPrioritiser;
     this.source = source;
-    this.interceptor = interceptor;
+    this.classTrees = classTrees;
+    // interceptor factories are not expected to be called concurrently
+    this.interceptor = ThreadLocal.withInitial(() -> {
+      synchronized (interceptors) {
+        return interceptors.get();
+      }
+    });
+    this.concurrent = concurrent;
+  }
+
+  public boolean canCreateMutationsConcurrently() {
+    return this.concurrent;
   }
 
   public Collection<MutationDetails> createMutations(final ClassName clazz) {
 
     final Mutater m = this.mutationConfig.createMutator(this.source);
+    return complete(clazz, m, m.findMutations(clazz));
+  }
 
-    final Collection<MutationDetails> availableMutations = m
-        .findMutations(clazz);
+  /**
+   * Completes mutations of the class found by an earlier discovery pass,
+   * passing them through this source's interceptor and assigning tests,
+   * without searching the class for mutations again.
+   */
+  public Collection<MutationDetails> createMutations(final ClassName clazz,
+      final Collection<MutationDetails> discovered) {
+    if (discovered.isEmpty()) {
+      return discovered;
+    }
+    return complete(clazz, this.mutationConfig.createMutator(this.source),
+        discovered);
+  }
 
+  private Collection<MutationDetails> complete(final ClassName clazz,
+      final Mutater m, final Collection<MutationDetails> availableMutations) {
     if (availableMutations.isEmpty()) {
       return availableMutations;
     } else {
-      final ClassTree tree = ClassTree
-          .fromBytes(this.source.getBytes(clazz.asJavaName()).get());
+      final ClassTree tree = this.classTrees.fetch(clazz,
+          this.source.getBytes(clazz.asJavaName()).get());
 
-      this.interceptor.begin(tree);
-      final Collection<MutationDetails> updatedMutations = this.interceptor
+      final MutationInterceptor interceptor = this.interceptor.get();
+      interceptor.begin(tree);
+      final Collection<MutationDetails> updatedMutations = interceptor
           .intercept(availableMutations, m);
-      this.interceptor.end();
+      interceptor.end();
 
       assignTestsToMutations(updatedMutations);
 
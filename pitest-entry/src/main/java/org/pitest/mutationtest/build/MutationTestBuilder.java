@@ -25,8 +25,11 @@ import org.pitest.mutationtest.engine.MutationDetails;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -40,23 +43,70 @@ public class MutationTestBuilder {
   private final MutationAnalyser analyser;
   private final WorkerFactory    workerFactory;
   private final MutationGrouper  grouper;
+  private final int              numberOfThreads;
+  private final int              workStealingBatchSize;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
                              final MutationAnalyser analyser,
                              final MutationSource mutationSource,
                              final MutationGrouper grouper) {
+    this(workerFactory, analyser, mutationSource, grouper, 1, 0);
+  }
+
+  /**
+   * @param numberOfThreads
+   *          number of threads that will analyse the units, also used to
+   *          discover mutants when the mutation source allows it
+   * @param workStealingBatchSize
+   *          if greater than zero, units hand mutations to minions in batches
+   *          of this size and threads steal batches not yet started by other
+   *          units once their own are exhausted
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+                             final MutationAnalyser analyser,
+                             final MutationSource mutationSource,
+                             final MutationGrouper grouper,
+                             final int numberOfThreads,
+                             final int workStealingBatchSize) {
 
     this.mutationSource = mutationSource;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.numberOfThreads = numberOfThreads;
+    this.workStealingBatchSize = workStealingBatchSize;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
       final Collection<ClassName> codeClasses) {
+    return createMutationTestUnits(codeClasses,
+        this.mutationSource::createMutations);
+  }
+
+  /**
+   * Creates units from mutations already discovered in the classes, which the
+   * mutation source completes rather than discovering again.
+   */
+  public List<MutationAnalysisUnit> createMutationTestUnits(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> discovered) {
+    final Map<ClassName, List<MutationDetails>> byClass = new HashMap<>();
+    for (final MutationDetails each : discovered) {
+      byClass.computeIfAbsent(each.getClassName(), k -> new ArrayList<>())
+          .add(each);
+    }
+    return createMutationTestUnits(codeClasses,
+        c -> this.mutationSource.createMutations(c,
+            byClass.getOrDefault(c, Collections.emptyList())));
+  }
+
+  private List<MutationAnalysisUnit> createMutationTestUnits(
+      final Collection<ClassName> codeClasses,
+      final Function<ClassName, Collection<MutationDetails>> source) {
     final List<MutationAnalysisUnit> tus = new ArrayList<>();
 
-    final List<MutationDetails> mutations = FCollection.flatMap(codeClasses, mutationSource::createMutations);
+    final List<MutationDetails> mutations = ConcurrentDiscovery.findMutations(
+        this.mutationSource, this.numberOfThreads, codeClasses, source);
 
     mutations.sort(comparing(MutationDetails::getId));
 
@@ -76,8 +126,12 @@ public class MutationTestBuilder {
     }
 
     if (!needAnalysis.isEmpty()) {
-      for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
-          codeClasses, needAnalysis)) {
+      final List<List<MutationDetails>> groups = this.grouper.groupMutations(
+          codeClasses, needAnalysis);
+      if (this.workStealingBatchSize > 0) {
+        return makeWorkStealingUnits(tus, groups);
+      }
+      for (final Collection<MutationDetails> ms : groups) {
         tus.add(makeUnanalysedUnit(ms));
       }
     }
@@ -86,6 +140,25 @@ public class MutationTestBuilder {
     return tus;
   }
 
+  private List<MutationAnalysisUnit> makeWorkStealingUnits(
+      final List<MutationAnalysisUnit> tus,
+      final List<List<MutationDetails>> groups) {
+    final MutantWorkQueue queue = new MutantWorkQueue(
+        this.workStealingBatchSize);
+    for (final Collection<MutationDetails> ms : groups) {
+      tus.add(new WorkStealingMutationTestUnit(queue, ms, this.workerFactory,
+          this.grouper.priority(ms)));
+    }
+    tus.sort(new AnalysisPriorityComparator());
+
+    // threads with no unit of their own start by stealing
+    for (int i = groups.size(); i < this.numberOfThreads; i++) {
+      tus.add(new WorkStealingMutationTestUnit(queue,
+          Collections.emptyList(), this.workerFactory, 0));
+    }
+    return tus;
+  }
+
 
   private MutationAnalysisUnit makePreAnalysedUnit(
       final List<MutationResult> analysed) {
@@ -94,12 +167,16 @@ public class MutationTestBuilder {
 
   private MutationAnalysisUnit makeUnanalysedUnit(
       final Collection<MutationDetails> needAnalysis) {
+    return new MutationTestUnit(needAnalysis, testClassesFor(needAnalysis),
+        this.workerFactory, this.grouper.priority(needAnalysis));
+  }
+
+  static Set<ClassName> testClassesFor(
+      final Collection<MutationDetails> mutations) {
     final Set<ClassName> uniqueTestClasses = new HashSet<>();
-    FCollection.flatMapTo(needAnalysis, mutationDetailsToTestClass(),
+    FCollection.flatMapTo(mutations, mutationDetailsToTestClass(),
         uniqueTestClasses);
-
-    return new MutationTestUnit(needAnalysis, uniqueTestClasses,
-        this.workerFactory);
+    return uniqueTestClasses;
   }
 
   private static Predicate<MutationResult> statusNotKnown() {
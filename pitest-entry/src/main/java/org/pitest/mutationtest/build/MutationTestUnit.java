@@ -36,11 +36,21 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   private final Collection<ClassName>       testClasses;
 
+  private final int                         priority;
+
   public MutationTestUnit(final Collection<MutationDetails> availableMutations,
       final Collection<ClassName> testClasses, final WorkerFactory workerFactor) {
+    this(availableMutations, testClasses, workerFactor,
+        availableMutations.size());
+  }
+
+  public MutationTestUnit(final Collection<MutationDetails> availableMutations,
+      final Collection<ClassName> testClasses, final WorkerFactory workerFactor,
+      final int priority) {
     this.availableMutations = availableMutations;
     this.testClasses = testClasses;
     this.workerFactory = workerFactor;
+    this.priority = priority;
   }
 
   @Override
@@ -59,7 +69,7 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   @Override
   public int priority() {
-    return this.availableMutations.size();
+    return this.priority;
   }
 
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
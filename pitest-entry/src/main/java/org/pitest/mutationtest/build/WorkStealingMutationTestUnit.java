@@ -0,0 +1,61 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Log;
+
+/**
+ * Unit of work that hands its mutations to minions a batch at a time, and
+ * that steals batches from other units once its own mutations have all been
+ * started. Each batch is analysed as a MutationTestUnit of its own, and its
+ * results returned as soon as it completes.
+ */
+class WorkStealingMutationTestUnit implements MutationAnalysisUnit {
+
+  private static final Logger          LOG = Log.getLogger();
+
+  private final MutantWorkQueue        queue;
+  private final Deque<MutationDetails> slot;
+  private final WorkerFactory          workerFactory;
+  private final int                    priority;
+
+  WorkStealingMutationTestUnit(final MutantWorkQueue queue,
+      final Collection<MutationDetails> mutations,
+      final WorkerFactory workerFactory, final int priority) {
+    this.queue = queue;
+    this.slot = queue.register(mutations);
+    this.workerFactory = workerFactory;
+    this.priority = priority;
+  }
+
+  @Override
+  public MutationMetaData call() throws Exception {
+    final List<MutationDetails> batch = this.queue.take(this.slot);
+    if (batch.isEmpty()) {
+      // another unit took the last batch after this one was called again
+      return new MutationMetaData(Collections.emptyList());
+    }
+    LOG.fine("Analysing batch of " + batch.size() + " mutations, "
+        + this.queue.remaining() + " not yet started");
+    final MutationTestUnit unit = new MutationTestUnit(batch,
+        MutationTestBuilder.testClassesFor(batch), this.workerFactory);
+    return unit.call();
+  }
+
+  @Override
+  public boolean hasMoreWork() {
+    return this.queue.remaining() != 0;
+  }
+
+  @Override
+  public int priority() {
+    return this.priority;
+  }
+
+}
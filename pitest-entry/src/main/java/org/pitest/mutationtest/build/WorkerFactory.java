@@ -1,27 +1,44 @@
 package org.pitest.mutationtest.build;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.InProcessMutationTestProcess;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.execute.SingleUseMutationTestProcess;
 import org.pitest.process.ProcessArgs;
+import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
 import org.pitest.util.Verbosity;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import static org.pitest.functional.prelude.Prelude.printlnWith;
 
 public class WorkerFactory {
 
+  private static final Logger         LOG = Log.getLogger();
+
   private final String                classPath;
   private final File                  baseDir;
   private final TestPluginArguments   pitConfig;
@@ -30,6 +47,10 @@ public class WorkerFactory {
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final MinionPool            pool;
+
+  // test classes that could not be analysed in process, so are forked instead
+  private final Set<ClassName>        forkedTestClasses = ConcurrentHashMap.newKeySet();
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -38,7 +59,8 @@ public class WorkerFactory {
       final TimeoutLengthStrategy timeoutStrategy,
       final Verbosity verbosity,
       final boolean fullMutationMatrix,
-      final String classPath) {
+      final String classPath,
+      final MinionPool pool) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbosity = verbosity;
@@ -47,25 +69,90 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.pool = pool;
   }
 
   public MutationTestProcess createWorker(
       final Collection<MutationDetails> remainingMutations,
       final Collection<ClassName> testClasses) {
+    if (this.config.isInProcess()
+        && Collections.disjoint(this.forkedTestClasses, testClasses)) {
+      return createInProcessWorker(remainingMutations, testClasses);
+    }
+
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
-        Log.verbosity(), this.fullMutationMatrix, this.pitConfig);
+        Log.verbosity(), this.fullMutationMatrix, this.pitConfig, this.pool.isEnabled())
+        .withTestUnits(testUnitsFor(remainingMutations));
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(captureStdErrIfVerbose());
 
+    if (this.pool.isEnabled()) {
+      return this.pool.lease(args, fileArgs);
+    }
+
     final SocketFinder sf = new SocketFinder();
-    return new MutationTestProcess(
+    return new SingleUseMutationTestProcess(
         sf.getNextAvailableServerSocket(), args, fileArgs);
   }
 
+  private MutationTestProcess createInProcessWorker(
+      final Collection<MutationDetails> remainingMutations,
+      final Collection<ClassName> testClasses) {
+    // in process tests cannot be abandoned by killing their JVM, so loops are
+    // always made to check for timeouts. Schemata rely on redefining classes.
+    final EngineArguments inProcessArgs = this.args
+        .withCooperativeTimeouts(true).withMutantSchemata(false);
+    final MinionArguments fileArgs = new MinionArguments(remainingMutations,
+        testClasses, this.config.getEngine().getName(), inProcessArgs,
+        this.timeoutStrategy, Log.verbosity(), this.fullMutationMatrix,
+        this.pitConfig, false).withTestUnits(testUnitsFor(remainingMutations));
+
+    final SocketFinder sf = new SocketFinder();
+    return new InProcessMutationTestProcess(
+        sf.getNextAvailableServerSocket(), this.classPath, fileArgs,
+        () -> fork(testClasses));
+  }
+
+  /**
+   * The test units found by the coverage minion that the mutations will be
+   * run against. Units are only sent for a test class if they are known for
+   * every test the mutations need from it, otherwise the minion searches the
+   * class.
+   */
+  static Collection<Description> testUnitsFor(
+      final Collection<MutationDetails> mutations) {
+    final Map<ClassName, Set<Description>> byClass = new LinkedHashMap<>();
+    final Set<ClassName> incomplete = new HashSet<>();
+    for (final MutationDetails mutation : mutations) {
+      for (final TestInfo test : mutation.getTestsInOrder()) {
+        final ClassName testClass = TestInfo.toDefiningClassName().apply(test);
+        final Optional<Description> unit = test.getTestUnit();
+        if (unit.isPresent()) {
+          byClass.computeIfAbsent(testClass, c -> new LinkedHashSet<>())
+              .add(unit.get());
+        } else {
+          incomplete.add(testClass);
+        }
+      }
+    }
+    byClass.keySet().removeAll(incomplete);
+    return byClass.values().stream().flatMap(Set::stream)
+        .collect(Collectors.toList());
+  }
+
+  // tests that crash, hang or exhaust memory in process may depend on state
+  // that only a fresh JVM provides, and those that leave threads running
+  // would leave more with each mutant
+  private void fork(final Collection<ClassName> testClasses) {
+    LOG.fine("Forking minions for " + testClasses
+        + " after in process minion exited abnormally");
+    this.forkedTestClasses.addAll(testClasses);
+  }
+
   private Consumer<String> captureStdOutIfVerbose() {
     if (this.verbosity.showMinionOutput()) {
       return printlnWith("stdout ");
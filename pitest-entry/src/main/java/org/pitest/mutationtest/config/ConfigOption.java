@@ -230,7 +230,104 @@ public enum ConfigOption {
    * Allows very long classpaths that would otherwise exceed OS limits, but
    * may cause problems with some third party libraries.
    */
-  USE_CLASSPATH_JAR("useClasspathJar", false);
+  USE_CLASSPATH_JAR("useClasspathJar", false),
+
+  /**
+   * Number of mutations a minion may analyse, across analysis units, before
+   * it is replaced by a fresh one. A value of 0 disables reuse so that each
+   * unit launches its own minion.
+   */
+  MINION_REUSE_LIMIT("minionReuseLimit", 0),
+
+  /**
+   * Combine the mutants of each class into a single class in which the
+   * active mutant is selected at runtime, rather than redefining the class
+   * for every mutant. Mutants in constructors and static initializers are
+   * still analysed by redefinition.
+   */
+  MUTANT_SCHEMATA("mutantSchemata", false),
+
+  /**
+   * Group mutations into units of similar estimated cost, based on the time
+   * taken by the tests that cover them
+   */
+  BALANCE_MUTATION_UNITS("balanceMutationUnits", false),
+
+  /**
+   * Number of mutations handed to a minion at a time. When greater than
+   * zero, threads that run out of work steal batches not yet started by
+   * other units. Minions are reused between batches, for up to 1000
+   * mutations unless minionReuseLimit is set
+   */
+  WORK_STEALING_BATCH_SIZE("workStealingBatchSize", 0),
+
+  /**
+   * Insert timeout checks into the loops of mutated methods, so a timed out
+   * mutant can be stopped without restarting the minion
+   */
+  COOPERATIVE_TIMEOUTS("cooperativeTimeouts", false),
+
+  /**
+   * Create an application class data sharing archive with the first minion,
+   * and use it to speed up the startup of later minions. Requires java 13
+   * or later
+   */
+  CLASS_DATA_SHARING("classDataSharing", false),
+
+  /**
+   * Run mutation analysis minions on threads of the main process, loading
+   * each mutant into a fresh classloader. Calls to System.exit by code under
+   * test loaded from directories are made to throw, but calls made from jars
+   * are not. A test that ignores a timeout keeps running until pitest exits,
+   * and its test class is then analysed in forked minions
+   */
+  IN_PROCESS_ANALYSIS("inProcessAnalysis", false),
+
+  /**
+   * Keep the coverage of each test class between runs, and only gather it
+   * again for test classes that have changed or that covered classes that
+   * have changed
+   */
+  COVERAGE_CACHE("coverageCache", false),
+
+  /**
+   * Instrument only classes in which mutations were found when gathering
+   * coverage. Coverage reported for other classes will be empty
+   */
+  COVERAGE_OF_MUTATED_CLASSES_ONLY("coverageOfMutatedClassesOnly", false),
+
+  /**
+   * Number of threads on which each coverage minion runs test classes. When
+   * more than one, hits are recorded separately for each thread so that
+   * test classes can run at the same time
+   */
+  COVERAGE_TEST_THREADS("coverageTestThreads", 1),
+
+  /**
+   * Export line coverage in a compact binary format, to linecoverage.bin,
+   * rather than as xml. Has no effect unless line coverage is exported
+   */
+  EXPORT_BINARY_LINE_COVERAGE("exportBinaryLineCoverage", false),
+
+  /**
+   * Line coverage files, as exported by earlier runs, from which to build
+   * coverage instead of running the tests to gather it
+   */
+  IMPORT_COVERAGE("importCoverage"),
+
+  /**
+   * Remember how long each test class took while gathering coverage, under
+   * the report directory, so later runs can share test classes evenly
+   * between coverage minions
+   */
+  TEST_CLASS_TIMINGS("testClassTimings", false),
+
+  /**
+   * Number of coverage minions to gather coverage in at once, each running
+   * a share of the test classes. Test classes in different minions run at
+   * the same time, so should not share ports, files or other state
+   */
+  COVERAGE_MINIONS("coverageMinions", 1);
 
   private final String       text;
   private final Serializable defaultValue;
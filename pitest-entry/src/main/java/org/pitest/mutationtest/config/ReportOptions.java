@@ -139,6 +139,21 @@ public class ReportOptions {
   
   private boolean                        useClasspathJar;
 
+  private int                            minionReuseLimit;
+  private boolean                        mutantSchemata;
+  private boolean                        balanceMutationUnits;
+  private int                            workStealingBatchSize;
+  private boolean                        cooperativeTimeouts;
+  private boolean                        classDataSharing;
+  private boolean                        inProcessAnalysis;
+  private boolean                        coverageCache;
+  private boolean                        coverageOfMutatedClassesOnly;
+  private int                            coverageTestThreads            = 1;
+  private boolean                        exportBinaryLineCoverage;
+  private Collection<String>             importCoverage                 = Collections
+      .emptyList();
+  private boolean                        testClassTimings;
+  private int                            coverageMinions                = 1;
 
   public Verbosity getVerbosity() {
     return this.verbosity;
@@ -615,6 +630,122 @@ public class ReportOptions {
     this.useClasspathJar = useClasspathJar;
   }
 
+  public int getMinionReuseLimit() {
+    return this.minionReuseLimit;
+  }
+
+  public void setMinionReuseLimit(final int minionReuseLimit) {
+    this.minionReuseLimit = minionReuseLimit;
+  }
+
+  public boolean useMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public void setMutantSchemata(final boolean mutantSchemata) {
+    this.mutantSchemata = mutantSchemata;
+  }
+
+  public boolean shouldBalanceMutationUnits() {
+    return this.balanceMutationUnits;
+  }
+
+  public void setBalanceMutationUnits(final boolean balanceMutationUnits) {
+    this.balanceMutationUnits = balanceMutationUnits;
+  }
+
+  public int getWorkStealingBatchSize() {
+    return this.workStealingBatchSize;
+  }
+
+  public void setWorkStealingBatchSize(final int workStealingBatchSize) {
+    this.workStealingBatchSize = workStealingBatchSize;
+  }
+
+  public boolean useCooperativeTimeouts() {
+    return this.cooperativeTimeouts;
+  }
+
+  public void setCooperativeTimeouts(final boolean cooperativeTimeouts) {
+    this.cooperativeTimeouts = cooperativeTimeouts;
+  }
+
+  public boolean useClassDataSharing() {
+    return this.classDataSharing;
+  }
+
+  public void setClassDataSharing(final boolean classDataSharing) {
+    this.classDataSharing = classDataSharing;
+  }
+
+  public boolean useInProcessAnalysis() {
+    return this.inProcessAnalysis;
+  }
+
+  public void setInProcessAnalysis(final boolean inProcessAnalysis) {
+    this.inProcessAnalysis = inProcessAnalysis;
+  }
+
+  public boolean useCoverageCache() {
+    return this.coverageCache;
+  }
+
+  public void setCoverageCache(final boolean coverageCache) {
+    this.coverageCache = coverageCache;
+  }
+
+  public boolean coverageOfMutatedClassesOnly() {
+    return this.coverageOfMutatedClassesOnly;
+  }
+
+  public void setCoverageOfMutatedClassesOnly(final boolean coverageOfMutatedClassesOnly) {
+    this.coverageOfMutatedClassesOnly = coverageOfMutatedClassesOnly;
+  }
+
+  public int getCoverageTestThreads() {
+    return this.coverageTestThreads;
+  }
+
+  public void setCoverageTestThreads(final int coverageTestThreads) {
+    this.coverageTestThreads = coverageTestThreads;
+  }
+
+  public boolean shouldExportBinaryLineCoverage() {
+    return this.exportBinaryLineCoverage;
+  }
+
+  public void setExportBinaryLineCoverage(final boolean exportBinaryLineCoverage) {
+    this.exportBinaryLineCoverage = exportBinaryLineCoverage;
+  }
+
+  public Collection<String> getImportCoverage() {
+    return this.importCoverage;
+  }
+
+  public void setImportCoverage(final Collection<String> importCoverage) {
+    this.importCoverage = importCoverage;
+  }
+
+  public boolean shouldImportCoverage() {
+    return !this.importCoverage.isEmpty();
+  }
+
+  public boolean useTestClassTimings() {
+    return this.testClassTimings;
+  }
+
+  public void setTestClassTimings(final boolean testClassTimings) {
+    this.testClassTimings = testClassTimings;
+  }
+
+  public int getCoverageMinions() {
+    return this.coverageMinions;
+  }
+
+  public void setCoverageMinions(final int coverageMinions) {
+    this.coverageMinions = coverageMinions;
+  }
+
   @Override
   public String toString() {
     return "ReportOptions [targetClasses=" + targetClasses
@@ -641,6 +772,20 @@ public class ReportOptions {
         + properties + ", maxSurvivors=" + maxSurvivors + ", excludedRunners="
         + excludedRunners + ", includedTestMethods=" + includedTestMethods
         + ", testPlugin=" + testPlugin + ", useClasspathJar=" + useClasspathJar
+        + ", minionReuseLimit=" + minionReuseLimit
+        + ", mutantSchemata=" + mutantSchemata
+        + ", balanceMutationUnits=" + balanceMutationUnits
+        + ", workStealingBatchSize=" + workStealingBatchSize
+        + ", cooperativeTimeouts=" + cooperativeTimeouts
+        + ", classDataSharing=" + classDataSharing
+        + ", inProcessAnalysis=" + inProcessAnalysis
+        + ", coverageCache=" + coverageCache
+        + ", coverageOfMutatedClassesOnly=" + coverageOfMutatedClassesOnly
+        + ", coverageTestThreads=" + coverageTestThreads
+        + ", exportBinaryLineCoverage=" + exportBinaryLineCoverage
+        + ", importCoverage=" + importCoverage
+        + ", testClassTimings=" + testClassTimings
+        + ", coverageMinions=" + coverageMinions
         + ", skipFailingTests=" + skipFailingTests + "]";
   }
 
@@ -2,17 +2,20 @@ package org.pitest.mutationtest.config;
 
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.export.BinaryCoverageExporter;
 import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.build.CompoundInterceptorFactory;
+import org.pitest.mutationtest.build.CostBalancedMutationGrouperFactory;
 import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
 import org.pitest.mutationtest.build.MutationGrouperFactory;
 import org.pitest.mutationtest.build.MutationInterceptorFactory;
 import org.pitest.mutationtest.build.TestPrioritiserFactory;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParser;
 import org.pitest.plugin.FeatureSelector;
@@ -21,9 +24,11 @@ import org.pitest.plugin.ProvidesFeature;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaExecutableLocator;
 import org.pitest.process.KnownLocationJavaExecutableLocator;
+import org.pitest.util.Log;
 import org.pitest.util.PitError;
 import org.pitest.util.ResultOutputStrategy;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -33,10 +38,16 @@ import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 public class SettingsFactory {
 
+  private static final Logger  LOG = Log.getLogger();
+
+  // mutations a minion analyses when reused only so batches can share it
+  static final int             WORK_STEALING_REUSE_LIMIT = 1000;
+
   private final ReportOptions  options;
   private final PluginServices plugins;
 
@@ -51,13 +62,35 @@ public class SettingsFactory {
   }
 
   public CoverageExporter createCoverageExporter() {
-    if (this.options.shouldExportLineCoverage()) {
+    if (this.options.shouldExportLineCoverage()
+        && this.options.shouldExportBinaryLineCoverage()) {
+      final ResultOutputStrategy output = getOutputStrategy();
+      final Optional<OutputStream> binary = output
+          .createOutputStreamForFile(BinaryCoverageExporter.FILE_NAME);
+      if (binary.isPresent()) {
+        return new BinaryCoverageExporter(binary.get());
+      }
+      LOG.warning("Exporting line coverage as xml, as "
+          + output.getClass().getName() + " cannot write binary files");
+      return new DefaultCoverageExporter(output);
+    } else if (this.options.shouldExportLineCoverage()) {
       return new DefaultCoverageExporter(getOutputStrategy());
     } else {
       return new NullCoverageExporter();
     }
   }
 
+  public MinionPool createMinionPool() {
+    final int limit = this.options.getMinionReuseLimit();
+    if ((limit <= 0) && (this.options.getWorkStealingBatchSize() > 0)) {
+      LOG.warning("Reusing minions for up to " + WORK_STEALING_REUSE_LIMIT
+          + " mutations, as each batch of mutations would otherwise launch"
+          + " its own minion. Set minionReuseLimit to change this");
+      return new MinionPool(WORK_STEALING_REUSE_LIMIT);
+    }
+    return new MinionPool(limit);
+  }
+
   public MutationEngineFactory createEngine() {
     for (final MutationEngineFactory each : this.plugins.findMutationEngines()) {
       if (each.name().equals(this.options.getMutationEngine())) {
@@ -84,6 +117,9 @@ public class SettingsFactory {
   public MutationGrouperFactory getMutationGrouper() {
     final Collection<? extends MutationGrouperFactory> groupers = this.plugins
         .findGroupers();
+    if (this.options.shouldBalanceMutationUnits()) {
+      return firstOrDefault(groupers, new CostBalancedMutationGrouperFactory());
+    }
     return firstOrDefault(groupers, new DefaultMutationGrouperFactory());
   }
 
@@ -136,7 +172,8 @@ public class SettingsFactory {
     return new CoverageOptions(
         this.options.getTargetClasses(), this.options.getExcludedClasses(),
         this.options.createMinionSettings(), this.options.getVerbosity(),
-        this.options.getDependencyAnalysisMaxDistance());
+        this.options.getDependencyAnalysisMaxDistance())
+        .withTestThreads(this.options.getCoverageTestThreads());
   }
 
   public CompoundInterceptorFactory getInterceptor() {
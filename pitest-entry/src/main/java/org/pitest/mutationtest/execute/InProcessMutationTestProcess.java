@@ -0,0 +1,165 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+
+/**
+ * Runs a minion on a thread of the current JVM rather than in a new process.
+ *
+ * The minion, and the code it tests, are loaded by a classloader created for
+ * it alone, so static state set up by one unit is not seen by another.
+ * Mutants are loaded into child classloaders of it rather than being
+ * redefined, as the pitest agent is not available in this JVM.
+ *
+ * Threads cannot be safely stopped, so a test that neither completes nor
+ * unwinds once it times out continues to run in this JVM until pitest exits.
+ * Once the minion is done its threads are interrupted, and any still running
+ * shortly after are reported so that later work for the unit can be given to
+ * forked minions. Calls to System.exit by code under test are made to throw
+ * as the classes that make them are loaded for each mutant.
+ */
+public class InProcessMutationTestProcess implements MutationTestProcess {
+
+  private static final Logger                   LOG         = Log.getLogger();
+
+  // how long the threads of a minion are given to end once it is done
+  private static final long                     STOP_MILLIS = 2000;
+
+  private final ServerSocket                    socket;
+  private final String                          classPath;
+  private final MutationTestCommunicationThread thread;
+  private final Runnable                        onAbnormalExit;
+  // threads started by the minion join its group, so can be found once done
+  private final ThreadGroup                     threads     = new ThreadGroup(
+      "in process minion");
+
+  private URLClassLoader                        loader;
+
+  /**
+   * @param onAbnormalExit
+   *          run once the minion has finished if it exited abnormally or left
+   *          threads running
+   */
+  public InProcessMutationTestProcess(final ServerSocket socket,
+      final String classPath, final MinionArguments arguments,
+      final Runnable onAbnormalExit) {
+    this.socket = socket;
+    this.classPath = classPath;
+    this.thread = new MutationTestCommunicationThread(socket, arguments,
+        new HashMap<>());
+    this.onAbnormalExit = onAbnormalExit;
+  }
+
+  @Override
+  public void start() throws IOException, InterruptedException {
+    this.thread.start();
+
+    // only the jdk is shared with the minion
+    this.loader = new URLClassLoader(toUrls(this.classPath),
+        ClassLoader.getSystemClassLoader().getParent());
+    final Thread minion = new Thread(this.threads, this::runMinion);
+    minion.setDaemon(true);
+    minion.setName("in process minion");
+    minion.setContextClassLoader(this.loader);
+    minion.start();
+  }
+
+  private void runMinion() {
+    try {
+      Class.forName(MutationTestMinion.class.getName(), true, this.loader)
+          .getMethod("runInProcess", int.class)
+          .invoke(null, this.socket.getLocalPort());
+    } catch (final ReflectiveOperationException | LinkageError ex) {
+      LOG.log(Level.WARNING, "Could not start minion in process", ex);
+      // ends the wait for the minion to connect
+      closeQuietly(this.socket);
+    }
+  }
+
+  @Override
+  public void results(final MutationStatusMap allmutations) throws IOException {
+
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.thread.getStatus(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    final ExitCode exitCode = this.thread.waitToFinish();
+    final boolean stopped = stop();
+    closeQuietly(this.loader);
+    if (!exitCode.isOk() || !stopped) {
+      this.onAbnormalExit.run();
+    }
+    return exitCode;
+  }
+
+  // the minion starts no further mutants once interrupted, and its threads
+  // end unless running a test that ignores the interrupt
+  private boolean stop() {
+    this.threads.interrupt();
+    final long deadline = System.currentTimeMillis() + STOP_MILLIS;
+    while ((this.threads.activeCount() != 0)
+        && (System.currentTimeMillis() < deadline)) {
+      try {
+        Thread.sleep(10);
+      } catch (final InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+
+    final Thread[] running = new Thread[this.threads.activeCount()];
+    final int count = this.threads.enumerate(running);
+    if (count == 0) {
+      return true;
+    }
+
+    final List<String> names = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      names.add(running[i].getName());
+    }
+    LOG.warning("Threads " + names + " of an in process minion did not stop"
+        + " and will run until pitest exits");
+    return false;
+  }
+
+  private static URL[] toUrls(final String classPath)
+      throws MalformedURLException {
+    final List<URL> urls = new ArrayList<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      urls.add(new File(each).toURI().toURL());
+    }
+    return urls.toArray(new URL[0]);
+  }
+
+  private static void closeQuietly(final Closeable closeable) {
+    try {
+      closeable.close();
+    } catch (final IOException ex) {
+      LOG.log(Level.FINE, "Could not close " + closeable, ex);
+    }
+  }
+
+}
@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+import org.pitest.util.SocketFinder;
+
+/**
+ * Keeps minions alive between MutationTestUnits so that the cost of launching
+ * a JVM, installing the agent and loading plugins is not paid for every unit.
+ *
+ * A minion is retired once it exits abnormally (timeout, memory error etc) or
+ * once it has analysed the configured number of mutations.
+ */
+public class MinionPool implements Closeable {
+
+  private static final Logger       LOG  = Log.getLogger();
+
+  private final int                 mutationLimit;
+  private final Deque<ReusableMinion> idle = new ArrayDeque<>();
+  private final SocketFinder        sockets = new SocketFinder();
+  private boolean                   closed;
+
+  public MinionPool(int mutationLimit) {
+    this.mutationLimit = mutationLimit;
+  }
+
+  public static MinionPool disabled() {
+    return new MinionPool(0);
+  }
+
+  public boolean isEnabled() {
+    return this.mutationLimit > 0;
+  }
+
+  public MutationTestProcess lease(ProcessArgs processArgs,
+      MinionArguments arguments) {
+    return new PooledMutationTestProcess(this, processArgs, arguments);
+  }
+
+  ReusableMinion acquire(ProcessArgs processArgs) {
+    final ReusableMinion existing = pollIdle();
+    if (existing != null) {
+      return existing;
+    }
+    LOG.fine("Launching new pooled minion");
+    return new ReusableMinion(this.sockets.getNextAvailableServerSocket(),
+        processArgs);
+  }
+
+  synchronized void release(ReusableMinion minion, ExitCode exitCode) {
+    if (!this.closed && exitCode.isOk()
+        && (minion.mutationsAnalysed() < this.mutationLimit)) {
+      this.idle.push(minion);
+    } else {
+      LOG.fine("Retiring minion after " + minion.mutationsAnalysed()
+          + " mutations with exit code " + exitCode);
+      minion.shutdown();
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    this.closed = true;
+    while (!this.idle.isEmpty()) {
+      this.idle.pop().shutdown();
+    }
+  }
+
+  private synchronized ReusableMinion pollIdle() {
+    return this.idle.poll();
+  }
+
+}
@@ -1,10 +1,11 @@
 package org.pitest.mutationtest.execute;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -39,37 +40,53 @@ public class MutationAnalysisExecutor {
 
     signalRunStartToAllListeners();
 
-    final List<Future<MutationMetaData>> results = new ArrayList<>(
-        testUnits.size());
+    final CompletionService<CompletedCall> results = new ExecutorCompletionService<>(
+        this.executor);
 
     for (final MutationAnalysisUnit unit : testUnits) {
-      results.add(this.executor.submit(unit));
+      submit(results, unit);
     }
 
-    this.executor.shutdown();
-
     try {
-      processResult(results);
+      processResults(results, testUnits.size());
     } catch (final InterruptedException | ExecutionException e) {
       throw Unchecked.translateCheckedException(e);
+    } finally {
+      this.executor.shutdown();
     }
 
     signalRunEndToAllListeners();
 
   }
 
-  private void processResult(List<Future<MutationMetaData>> results)
-      throws InterruptedException, ExecutionException {
-    for (final Future<MutationMetaData> f : results) {
-      final MutationMetaData r = f.get();
+  // results are delivered in the order units complete, and are not retained
+  // once the listeners have seen them. Units with more work are called again.
+  private void processResults(CompletionService<CompletedCall> results,
+      int numberOfUnits) throws InterruptedException, ExecutionException {
+    int running = numberOfUnits;
+    while (running != 0) {
+      final CompletedCall completed = results.take().get();
+      running--;
+      if (completed.unit.hasMoreWork()) {
+        submit(results, completed.unit);
+        running++;
+      }
+
+      final Collection<ClassMutationResults> crs = completed.results
+          .toClassResults();
       for (final MutationResultListener l : this.listeners) {
-        for (final ClassMutationResults cr : r.toClassResults()) {
+        for (final ClassMutationResults cr : crs) {
           l.handleMutationResult(cr);
         }
       }
     }
   }
 
+  private static void submit(CompletionService<CompletedCall> results,
+      MutationAnalysisUnit unit) {
+    results.submit(() -> new CompletedCall(unit, unit.call()));
+  }
+
   private void signalRunStartToAllListeners() {
     this.listeners.forEach(MutationResultListener::runStart);
   }
@@ -78,4 +95,14 @@ public class MutationAnalysisExecutor {
     this.listeners.forEach(MutationResultListener::runEnd);
   }
 
+  private static final class CompletedCall {
+    private final MutationAnalysisUnit unit;
+    private final MutationMetaData     results;
+
+    CompletedCall(MutationAnalysisUnit unit, MutationMetaData results) {
+      this.unit = unit;
+      this.results = results;
+    }
+  }
+
 }
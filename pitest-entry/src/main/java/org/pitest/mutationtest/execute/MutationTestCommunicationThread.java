@@ -47,7 +47,7 @@ public class MutationTestCommunicationThread extends CommunicationThread {
     }
   }
 
-  private static class Receive implements ReceiveStrategy {
+  static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
 
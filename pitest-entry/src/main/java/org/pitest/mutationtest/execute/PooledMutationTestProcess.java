@@ -0,0 +1,70 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+
+/**
+ * Runs a batch of mutations in a minion borrowed from a MinionPool, returning
+ * the minion to the pool once the batch completes.
+ */
+class PooledMutationTestProcess implements MutationTestProcess {
+
+  private static final Logger                                  LOG   = Log.getLogger();
+
+  private final MinionPool                                      pool;
+  private final ProcessArgs                                     processArgs;
+  private final MinionArguments                                 arguments;
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new HashMap<>();
+
+  private ReusableMinion                                        minion;
+
+  PooledMutationTestProcess(MinionPool pool, ProcessArgs processArgs,
+      MinionArguments arguments) {
+    this.pool = pool;
+    this.processArgs = processArgs;
+    this.arguments = arguments;
+  }
+
+  @Override
+  public void start() throws IOException, InterruptedException {
+    this.minion = this.pool.acquire(this.processArgs);
+    try {
+      this.minion.send(this.arguments);
+    } catch (final RuntimeException e) {
+      // an idle minion may have died since it was returned to the pool
+      LOG.log(Level.FINE, "Pooled minion unavailable, launching replacement", e);
+      this.minion.shutdown();
+      this.minion = this.pool.acquire(this.processArgs);
+      this.minion.send(this.arguments);
+    }
+  }
+
+  @Override
+  public void results(final MutationStatusMap allmutations) throws IOException {
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.idMap.get(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    final ExitCode exitCode = this.minion.awaitBatch(this.idMap);
+    this.pool.release(this.minion, exitCode);
+    return exitCode;
+  }
+
+}
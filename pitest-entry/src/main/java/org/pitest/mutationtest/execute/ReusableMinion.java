@@ -0,0 +1,111 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Unchecked;
+
+/**
+ * A minion that stays connected to the parent process after completing a
+ * batch of mutations, and accepts further batches over the same socket.
+ */
+class ReusableMinion {
+
+  private static final Logger  LOG = Log.getLogger();
+
+  private final ServerSocket    serverSocket;
+  private final WrappingProcess process;
+
+  private Socket                socket;
+  private SafeDataInputStream   is;
+  private SafeDataOutputStream  os;
+  private int                   mutationsAnalysed;
+
+  ReusableMinion(ServerSocket serverSocket, ProcessArgs processArgs) {
+    this.serverSocket = serverSocket;
+    this.process = new WrappingProcess(serverSocket.getLocalPort(),
+        processArgs, MutationTestMinion.class);
+  }
+
+  void send(MinionArguments arguments) throws IOException {
+    if (this.socket == null) {
+      connect();
+    } else {
+      this.os.writeBoolean(true);
+    }
+    this.os.write(arguments);
+    this.os.flush();
+  }
+
+  ExitCode awaitBatch(Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    final MutationTestCommunicationThread.Receive receive = new MutationTestCommunicationThread.Receive(
+        idMap);
+    try {
+      byte control = this.is.readByte();
+      while (control != Id.DONE) {
+        receive.apply(control, this.is);
+        control = this.is.readByte();
+      }
+      return ExitCode.fromCode(this.is.readInt());
+    } catch (final RuntimeException e) {
+      LOG.log(Level.WARNING, "Error while watching child process", e);
+      return ExitCode.UNKNOWN_ERROR;
+    } finally {
+      this.mutationsAnalysed += idMap.size();
+    }
+  }
+
+  int mutationsAnalysed() {
+    return this.mutationsAnalysed;
+  }
+
+  void shutdown() {
+    try {
+      if (this.os != null) {
+        this.os.writeBoolean(false);
+        this.os.flush();
+      }
+    } catch (final RuntimeException e) {
+      LOG.log(Level.FINE, "Could not signal shutdown to minion", e);
+    } finally {
+      closeQuietly();
+      if (this.process.getProcess() != null) {
+        this.process.destroy();
+      }
+    }
+  }
+
+  private void connect() throws IOException {
+    this.process.start();
+    this.socket = this.serverSocket.accept();
+    this.is = new SafeDataInputStream(new BufferedInputStream(
+        this.socket.getInputStream()));
+    this.os = new SafeDataOutputStream(this.socket.getOutputStream());
+  }
+
+  private void closeQuietly() {
+    try {
+      if (this.socket != null) {
+        this.socket.close();
+      }
+      this.serverSocket.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -7,6 +7,10 @@ import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
+import org.pitest.coverage.execute.ImportedCoverageGenerator;
+import org.pitest.coverage.execute.TestClassTimings;
+import org.pitest.coverage.execute.TestCoverageCache;
+import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
@@ -18,6 +22,7 @@ import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
 import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
+import org.pitest.process.ClassDataSharing;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.util.Log;
@@ -94,18 +99,40 @@ public class EntryPoint {
     final MutationResultListenerFactory reportFactory = settings
         .createListener();
 
+    // files kept between runs live with the reports rather than in the shared
+    // temp directory
+    final File cacheDir = new File(data.getReportDir(), ".pitest-cache");
+
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
     final LaunchOptions launchOptions = new LaunchOptions(ja,
         settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables)
-        .usingClassPathJar(data.useClasspathJar());
+        .usingClassPathJar(data.useClasspathJar())
+        .withClassDataSharing(data.useClassDataSharing()
+            ? ClassDataSharing.inDirectory(cacheDir) : ClassDataSharing.disabled());
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
     final CodeSource code = new CodeSource(cps);
 
     final Timings timings = new Timings();
-    final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
-        baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, data.getVerbosity());
+    final CoverageGenerator coverageDatabase;
+    if (data.shouldImportCoverage()) {
+      coverageDatabase = new ImportedCoverageGenerator(
+          FCollection.map(data.getImportCoverage(), File::new),
+          coverageOptions, launchOptions, code,
+          settings.createCoverageExporter(), timings);
+    } else {
+      coverageDatabase = new DefaultCoverageGenerator(
+          baseDir, coverageOptions, launchOptions, code,
+          settings.createCoverageExporter(), timings, data.getVerbosity(),
+          Math.max(1, data.getCoverageMinions()), data.useTestClassTimings()
+              ? TestClassTimings.inDirectory(cacheDir,
+                  code.getClassPath().getLocalClassPath())
+              : TestClassTimings.none(),
+          data.useCoverageCache()
+              ? TestCoverageCache.inDirectory(cacheDir,
+                  code.getClassPath().getLocalClassPath(), coverageOptions)
+              : TestCoverageCache.disabled());
+    }
 
 
     final Optional<WriterFactory> maybeWriter = data.createHistoryWriter();
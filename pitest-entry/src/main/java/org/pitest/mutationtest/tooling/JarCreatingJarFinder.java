@@ -31,8 +31,13 @@ import org.pitest.util.FileUtil;
 import org.pitest.util.PitError;
 import org.pitest.util.Unchecked;
 
+import sun.pitest.ActiveMutant;
 import sun.pitest.CodeCoverageStore;
+import sun.pitest.HitVisitor;
 import sun.pitest.InvokeReceiver;
+import sun.pitest.MutantTimeout;
+import sun.pitest.MutantTimeoutError;
+import sun.pitest.ThreadHits;
 
 public class JarCreatingJarFinder implements JavaAgent {
 
@@ -96,8 +101,13 @@ public class JarCreatingJarFinder implements JavaAgent {
 
     try (JarOutputStream jos = new JarOutputStream(fos, m)) {
       addClass(HotSwapAgent.class, jos);
+      addClass(ActiveMutant.class, jos);
       addClass(CodeCoverageStore.class, jos);
+      addClass(HitVisitor.class, jos);
       addClass(InvokeReceiver.class, jos);
+      addClass(MutantTimeout.class, jos);
+      addClass(MutantTimeoutError.class, jos);
+      addClass(ThreadHits.class, jos);
     }
   }
 
@@ -14,6 +14,7 @@
  */
 package org.pitest.mutationtest.tooling;
 
+import org.pitest.bytecode.analysis.ClassTreeCache;
 import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
@@ -36,6 +37,7 @@ import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.build.ConcurrentDiscovery;
 import org.pitest.mutationtest.build.InterceptorType;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
@@ -47,12 +49,13 @@ import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
 import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
-import org.pitest.mutationtest.incremental.NullHistoryStore;
 import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
 import org.pitest.mutationtest.statistics.Score;
@@ -70,6 +73,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -79,6 +83,9 @@ public class MutationCoverage {
 
   private static final int         MB  = 1024 * 1024;
 
+  // most parsed classes held between the pre scan and the later pass
+  private static final int         CLASS_TREE_CACHE_SIZE = 500;
+
   private static final Logger      LOG = Log.getLogger();
   private final ReportOptions      data;
 
@@ -122,11 +129,20 @@ public class MutationCoverage {
 
     final EngineArguments args = EngineArguments.arguments()
             .withExcludedMethods(this.data.getExcludedMethods())
-            .withMutators(this.data.getMutators());
+            .withMutators(this.data.getMutators())
+            .withMutantSchemata(this.data.useMutantSchemata())
+            .withCooperativeTimeouts(this.data.useCooperativeTimeouts());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
-    List<MutationAnalysisUnit> preScanMutations = findMutations(engine, args);
-    LOG.info("Created  " + preScanMutations.size() + " mutation test units in pre scan");
+    // classes are parsed once for both the pre scan and the later pass
+    final ClassTreeCache classTrees = new ClassTreeCache(Math.min(
+        CLASS_TREE_CACHE_SIZE, this.code.getCodeUnderTestNames().size()));
+
+    List<MutationDetails> preScanMutations = findMutations(engine, classTrees);
+    LOG.info("Found  " + preScanMutations.size() + " mutations in pre scan");
+
+    // only classes with mutations are parsed again
+    classTrees.retainAll(mutatedClasses(preScanMutations));
 
     // throw error if configured to do so
     checkMutationsFound(preScanMutations);
@@ -136,7 +152,7 @@ public class MutationCoverage {
       return emptyStatistics();
     }
 
-    return runAnalysis(runtime, t0, args, engine);
+    return runAnalysis(runtime, t0, args, engine, preScanMutations, classTrees);
 
   }
 
@@ -145,8 +161,11 @@ public class MutationCoverage {
     return new CombinedStatistics(mutationStatistics, new CoverageSummary(0,0));
   }
 
-  private CombinedStatistics runAnalysis(Runtime runtime, long t0, EngineArguments args, MutationEngine engine) {
-    CoverageDatabase coverageData = coverage().calculateCoverage();
+  private CombinedStatistics runAnalysis(Runtime runtime, long t0, EngineArguments args, MutationEngine engine,
+      List<MutationDetails> preScanMutations, ClassTreeCache classTrees) {
+    CoverageDatabase coverageData = this.data.coverageOfMutatedClassesOnly()
+        ? coverage().calculateCoverage(mutatedClasses(preScanMutations))
+        : coverage().calculateCoverage();
     HistoryStore history =  this.strategies.history();
 
     LOG.fine("Used memory after coverage calculation "
@@ -158,9 +177,12 @@ public class MutationCoverage {
 
     history.initialize();
 
+    final MinionPool pool = this.settings.createMinionPool();
+
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData, history,
-            engine, args, allInterceptors());
+            engine, args, preScanMutations, pool, classTrees,
+            this.data.useInProcessAnalysis());
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created  " + tus.size() + " mutation test units");
@@ -177,7 +199,11 @@ public class MutationCoverage {
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
         numberOfThreads(), config);
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
+    try {
+      mae.run(tus);
+    } finally {
+      pool.close();
+    }
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
 
     LOG.info("Completed in " + timeSpan(t0));
@@ -190,27 +216,37 @@ public class MutationCoverage {
     return combined;
   }
 
-  private Predicate<MutationInterceptor> allInterceptors() {
-    return i -> true;
-  }
-
-  private List<MutationAnalysisUnit> findMutations(MutationEngine engine, EngineArguments args) {
-    // Run mutant discovery without coverage data or history.
-    // Ideally we'd ony discover mutants once, but the process is currently tightly
-    // entangled with coverage data. Generating coverage data is expensive for
-    // some projects, while discovery usually takes less than 1 second. By doing
-    // an initial run here we are able to skip coverage generation when no mutants
-    // are found, e.g if pitest is being run against diffs.
+  private List<MutationDetails> findMutations(MutationEngine engine,
+      ClassTreeCache classTrees) {
+    // Run mutant discovery without coverage data or history, so coverage
+    // generation can be skipped when no mutants are found, e.g if pitest is
+    // being run against diffs. The mutants found are kept, and only passed to
+    // the report interceptors and assigned tests once coverage is known.
     this.timings.registerStart(Timings.Stage.MUTATION_PRE_SCAN);
-    List<MutationAnalysisUnit> mutants = buildMutationTests(new NoCoverage(), new NullHistoryStore(), engine, args, noReports());
+    final MutationSource source = createMutationSource(mutationConfig(engine, false), new NoCoverage(), noReports(),
+        classTrees);
+    List<MutationDetails> mutants = ConcurrentDiscovery.findMutations(source, numberOfThreads(),
+        this.code.getCodeUnderTestNames(), source::createMutations);
     this.timings.registerEnd(Timings.Stage.MUTATION_PRE_SCAN);
     return mutants;
   }
 
+  private static Set<ClassName> mutatedClasses(List<MutationDetails> mutations) {
+    final Set<ClassName> classes = new HashSet<>();
+    for (final MutationDetails each : mutations) {
+      classes.add(each.getClassName());
+    }
+    return classes;
+  }
+
   private Predicate<MutationInterceptor> noReports() {
     return i -> !i.type().equals(InterceptorType.REPORT);
   }
 
+  private Predicate<MutationInterceptor> reportsOnly() {
+    return i -> i.type().equals(InterceptorType.REPORT);
+  }
+
 
   private void checkExcludedRunners() {
     final Collection<String> excludedRunners = this.data.getExcludedRunners();
@@ -310,23 +346,15 @@ public class MutationCoverage {
                                                         HistoryStore history,
                                                         MutationEngine engine,
                                                         EngineArguments args,
-                                                        Predicate<MutationInterceptor> interceptorFilter) {
-
-    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
-        .getLaunchOptions());
-
-    final ClassByteArraySource bas = new CachingByteArraySource(fallbackToClassLoader(new ClassPathByteArraySource(
-        this.data.getClassPath())), 200);
-
-    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
-        .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
-            coverageData);
+                                                        List<MutationDetails> preScanMutations,
+                                                        MinionPool pool,
+                                                        ClassTreeCache classTrees,
+                                                        boolean inProcess) {
 
-    final MutationInterceptor interceptor = this.settings.getInterceptor()
-            .createInterceptor(this.data, coverageData, bas)
-            .filter(interceptorFilter);
+    final MutationConfig mutationConfig = mutationConfig(engine, inProcess);
 
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
+    final MutationSource source = createMutationSource(mutationConfig, coverageData, reportsOnly(),
+        classTrees);
 
     final MutationAnalyser analyser = new IncrementalAnalyser(
         new DefaultCodeHistory(this.code, history), coverageData);
@@ -335,19 +363,48 @@ public class MutationCoverage {
         .getConfiguration(), mutationConfig, args,
         new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
             this.data.getTimeoutConstant()), this.data.getVerbosity(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
+            this.data.getClassPath().getLocalClassPath(), pool);
 
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
+        source, grouper, this.data.getNumberOfThreads(),
+        this.data.getWorkStealingBatchSize());
+
+    return builder.createMutationTestUnits(this.code.getCodeUnderTestNames(),
+        preScanMutations);
+  }
+
+  private MutationConfig mutationConfig(MutationEngine engine,
+      boolean inProcess) {
+    return new MutationConfig(engine, coverage()
+        .getLaunchOptions(), inProcess);
+  }
+
+  private MutationSource createMutationSource(MutationConfig mutationConfig,
+                                              CoverageDatabase coverageData,
+                                              Predicate<MutationInterceptor> interceptorFilter,
+                                              ClassTreeCache classTrees) {
+    final ClassByteArraySource bas = new CachingByteArraySource(fallbackToClassLoader(new ClassPathByteArraySource(
+        this.data.getClassPath())), 200);
+
+    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
+        .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
+            coverageData);
+
+    // interceptors are stateful, so each discovery thread is given its own
+    final Supplier<MutationInterceptor> interceptors = () -> this.settings
+            .getInterceptor()
+            .createInterceptor(this.data, coverageData, bas)
+            .filter(interceptorFilter);
 
-    return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
+    return new MutationSource(mutationConfig, testPrioritiser, bas, interceptors,
+        classTrees);
   }
 
-  private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
-    if (tus.isEmpty()) {
+  private void checkMutationsFound(final List<MutationDetails> mutations) {
+    if (mutations.isEmpty()) {
       if (this.data.shouldFailWhenNoMutations()) {
         throw new PitHelpError(Help.NO_MUTATIONS_FOUND);
       } else {
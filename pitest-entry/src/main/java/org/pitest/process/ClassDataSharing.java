@@ -0,0 +1,358 @@
+package org.pitest.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.pitest.util.CacheKeys;
+import org.pitest.util.Log;
+
+/**
+ * Application class data sharing (AppCDS) archives for minion JVMs.
+ *
+ * The first minion launched for a given classpath and JVM records the classes
+ * it loads. Once that minion has exited cleanly, a separate JVM dumps those
+ * classes to an archive, which is then published. All later minions,
+ * including those of later runs, map the archive at startup rather than
+ * loading and verifying the same classes again.
+ *
+ * The JVM will only archive classes from jars, and an archive may only be
+ * used by JVMs whose classpath starts with the classpath it was dumped with.
+ * Minions are therefore launched with the jars of their classpath ahead of
+ * its directories where this cannot change which class or resource is found,
+ * and the archive covers those leading jars. Classes loaded from directories
+ * are loaded as normal.
+ *
+ * Archives are keyed by a hash of the launch classpath, the size and
+ * modification time of each archived jar, the java executable and the JVM
+ * version, so an archive is rebuilt when a jar is replaced in place. They are
+ * only used when minions run on the same JVM as pitest, and that JVM is java
+ * 13 or later.
+ */
+public class ClassDataSharing {
+
+  private static final Logger        LOG                  = Log.getLogger();
+
+  private static final int           FIRST_SUPPORTED_JAVA = 13;
+
+  private final File                 directory;
+
+  // archives that have not yet been published, by key
+  private final Map<String, Pending> pending              = new HashMap<>();
+
+  // launch classpaths, by the classpath requested
+  private final Map<String, String>  launchClassPaths     = new HashMap<>();
+
+  public ClassDataSharing(final File directory) {
+    this.directory = directory;
+  }
+
+  public static ClassDataSharing disabled() {
+    return new ClassDataSharing(null);
+  }
+
+  public static ClassDataSharing inDirectory(final File directory) {
+    return new ClassDataSharing(new File(directory, "cds"));
+  }
+
+  public boolean isEnabled() {
+    return this.directory != null;
+  }
+
+  /**
+   * The classpath with which to launch a minion for the given one.
+   */
+  public synchronized String classPathFor(final String javaExecutable,
+      final String classPath) {
+    if (!isEnabled() || !isSupported(javaExecutable)) {
+      return classPath;
+    }
+    return this.launchClassPaths.computeIfAbsent(classPath,
+        ClassDataSharing::jarsFirst);
+  }
+
+  /**
+   * How to launch a minion with the given launch classpath.
+   */
+  public synchronized Launch argumentsFor(final String javaExecutable,
+      final String classPath) {
+    final String jars = leadingJars(classPath);
+    if (!isEnabled() || !isSupported(javaExecutable) || jars.isEmpty()) {
+      return Launch.NOT_SHARED;
+    }
+
+    final String key = key(javaExecutable, classPath);
+    final File archive = new File(this.directory, key + ".jsa");
+    advance(javaExecutable, key, archive);
+
+    if (archive.exists()) {
+      return new Launch(Collections.singletonList(
+          "-XX:SharedArchiveFile=" + archive.getAbsolutePath()), null);
+    }
+
+    if (!this.pending.containsKey(key) && createDirectory()) {
+      final Pending p = new Pending(key + "." + UUID.randomUUID(), jars);
+      this.pending.put(key, p);
+      LOG.fine("Recording classes for class data sharing archive " + archive);
+      return new Launch(Collections.singletonList(
+          "-XX:DumpLoadedClassList=" + p.classList().getAbsolutePath()), p);
+    }
+
+    return Launch.NOT_SHARED;
+  }
+
+  /**
+   * Records a minion started as described by a launch returned from
+   * argumentsFor.
+   *
+   * @return true if the minion is recording the classes it loads, in which
+   *         case the list is only known to be complete once it has exited by
+   *         itself
+   */
+  public synchronized boolean started(final Launch launch,
+      final Process process) {
+    if (launch.recording == null) {
+      return false;
+    }
+    launch.recording.process = process;
+    return true;
+  }
+
+  private void advance(final String javaExecutable, final String key,
+      final File archive) {
+    final Pending p = this.pending.get(key);
+    if ((p == null) || (p.process == null) || p.process.isAlive()) {
+      return;
+    }
+
+    if (!p.dumping) {
+      if ((p.process.exitValue() != 0) || !p.classList().exists()) {
+        LOG.fine("Minion did not record classes for class data sharing");
+        discard(key, p);
+        return;
+      }
+      try {
+        p.process = startDump(javaExecutable, p);
+        p.dumping = true;
+      } catch (final IOException ex) {
+        LOG.fine("Could not dump class data sharing archive " + ex);
+        discard(key, p);
+      }
+      return;
+    }
+
+    if ((p.process.exitValue() != 0) || !p.dump().exists()) {
+      LOG.fine("Could not dump class data sharing archive, see " + p.log());
+      discard(key, p);
+      return;
+    }
+
+    try {
+      Files.move(p.dump().toPath(), archive.toPath(),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException ex) {
+      LOG.fine("Could not publish class data sharing archive " + ex);
+    }
+    discard(key, p);
+    p.log().delete();
+  }
+
+  private Process startDump(final String javaExecutable, final Pending p)
+      throws IOException {
+    final ProcessBuilder pb = new ProcessBuilder(javaExecutable,
+        "-Xshare:dump",
+        "-XX:SharedClassListFile=" + p.classList().getAbsolutePath(),
+        "-XX:SharedArchiveFile=" + p.dump().getAbsolutePath());
+    pb.environment().put("CLASSPATH", p.jars);
+    pb.redirectErrorStream(true);
+    pb.redirectOutput(p.log());
+    return pb.start();
+  }
+
+  private void discard(final String key, final Pending p) {
+    this.pending.remove(key);
+    p.classList().delete();
+    p.dump().delete();
+  }
+
+  private boolean createDirectory() {
+    return this.directory.isDirectory() || this.directory.mkdirs();
+  }
+
+  private static boolean isSupported(final String javaExecutable) {
+    return new DefaultJavaExecutableLocator().javaExecutable()
+        .equals(javaExecutable)
+        && (javaVersion(System.getProperty("java.specification.version")) >= FIRST_SUPPORTED_JAVA);
+  }
+
+  /**
+   * Moves the jars of a classpath ahead of its directories, unless a
+   * directory holds a class or resource also held by a jar, as it would then
+   * be shadowed by the jar.
+   */
+  static String jarsFirst(final String classPath) {
+    final List<String> jars = new ArrayList<>();
+    final List<String> directories = new ArrayList<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      if (new File(each).isDirectory()) {
+        directories.add(each);
+      } else {
+        jars.add(each);
+      }
+    }
+
+    if (jars.isEmpty() || directories.isEmpty()) {
+      return classPath;
+    }
+
+    try {
+      final Set<String> inDirectories = new HashSet<>();
+      for (final String each : directories) {
+        addEntries(Paths.get(each), inDirectories);
+      }
+      for (final String each : jars) {
+        if (containsAny(new File(each), inDirectories)) {
+          LOG.fine("Not reordering classpath for class data sharing as "
+              + each + " shadows a directory");
+          return classPath;
+        }
+      }
+    } catch (final IOException | UncheckedIOException ex) {
+      LOG.fine("Not reordering classpath for class data sharing " + ex);
+      return classPath;
+    }
+
+    jars.addAll(directories);
+    return String.join(File.pathSeparator, jars);
+  }
+
+  static String leadingJars(final String classPath) {
+    final List<String> jars = new ArrayList<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      if (new File(each).isDirectory()) {
+        break;
+      }
+      jars.add(each);
+    }
+    return String.join(File.pathSeparator, jars);
+  }
+
+  private static void addEntries(final Path directory, final Set<String> names)
+      throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.filter(Files::isRegularFile)
+          .forEach(f -> names.add(directory.relativize(f).toString()
+              .replace(File.separatorChar, '/')));
+    }
+  }
+
+  private static boolean containsAny(final File jar, final Set<String> names)
+      throws IOException {
+    if (!jar.isFile()) {
+      return false;
+    }
+    try (ZipFile zip = new ZipFile(jar)) {
+      final Enumeration<? extends ZipEntry> entries = zip.entries();
+      while (entries.hasMoreElements()) {
+        if (names.contains(entries.nextElement().getName())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  static int javaVersion(final String specificationVersion) {
+    final String major = specificationVersion.startsWith("1.")
+        ? specificationVersion.substring(2) : specificationVersion;
+    try {
+      return Integer.parseInt(major.split("\\.")[0]);
+    } catch (final NumberFormatException ex) {
+      return 0;
+    }
+  }
+
+  static String key(final String javaExecutable, final String classPath) {
+    final List<String> parts = new ArrayList<>();
+    parts.add(classPath);
+    parts.add(javaExecutable);
+    parts.add(System.getProperty("java.vm.version"));
+    for (final String each : leadingJars(classPath).split(File.pathSeparator)) {
+      final File jar = new File(each);
+      parts.add(jar.length() + ":" + jar.lastModified());
+    }
+    return CacheKeys.of(parts.toArray(new String[0]));
+  }
+
+  /**
+   * The JVM arguments for a minion. Only the minion launched with a launch
+   * that records classes may be passed to started as the recording minion.
+   */
+  public static final class Launch {
+
+    static final Launch        NOT_SHARED = new Launch(
+        Collections.<String> emptyList(), null);
+
+    private final List<String> arguments;
+    private final Pending      recording;
+
+    private Launch(final List<String> arguments, final Pending recording) {
+      this.arguments = arguments;
+      this.recording = recording;
+    }
+
+    public List<String> arguments() {
+      return this.arguments;
+    }
+
+    public boolean isRecording() {
+      return this.recording != null;
+    }
+  }
+
+  private class Pending {
+    private final String name;
+    private final String jars;
+    private Process      process;
+    private boolean      dumping;
+
+    Pending(final String name, final String jars) {
+      this.name = name;
+      this.jars = jars;
+    }
+
+    File classList() {
+      return file(".classlist");
+    }
+
+    File dump() {
+      return file(".tmp");
+    }
+
+    File log() {
+      return file(".log");
+    }
+
+    private File file(final String suffix) {
+      return new File(ClassDataSharing.this.directory, this.name + suffix);
+    }
+  }
+
+}
@@ -17,6 +17,7 @@ package org.pitest.process;
 import org.pitest.util.Monitor;
 import org.pitest.util.StreamMonitor;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class JavaProcess {
@@ -49,6 +50,20 @@ public class JavaProcess {
     return exitVal;
   }
 
+  /**
+   * Waits for the process to exit, for at most the given time.
+   *
+   * @return true if the process exited
+   */
+  public boolean waitToDie(long millis) {
+    try {
+      return this.process.waitFor(millis, TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
   public boolean isAlive() {
     try {
       this.process.exitValue();
@@ -36,6 +36,7 @@ public final class ProcessArgs {
   private String              javaExecutable;
   private Map<String, String> environmentVariables;
   private boolean             useClasspathJar = false;
+  private ClassDataSharing    classDataSharing = ClassDataSharing.disabled();
 
   private ProcessArgs(final String launchClassPath) {
     this.launchClassPath = launchClassPath;
@@ -102,10 +103,15 @@ public final class ProcessArgs {
     this.javaExecutable = launchOptions.getJavaExecutable();
     this.environmentVariables = launchOptions.getEnvironmentVariables();
     this.useClasspathJar = launchOptions.useClasspathJar();
+    this.classDataSharing = launchOptions.getClassDataSharing();
     return this;
   }
 
   public Map<String, String> getEnvironmentVariables() {
     return this.environmentVariables;
   }
+
+  public ClassDataSharing getClassDataSharing() {
+    return this.classDataSharing;
+  }
 }
@@ -18,11 +18,15 @@ import org.pitest.util.ManifestUtils;
 
 public class WrappingProcess {
 
+  // how long a minion recording classes for an archive is given to exit
+  private static final long RECORDING_EXIT_MILLIS = 10000;
+
   private final int         port;
   private final ProcessArgs processArgs;
   private final Class<?>    minionClass;
 
   private JavaProcess       process;
+  private boolean           recordingClasses;
 
   public WrappingProcess(int port, ProcessArgs args, Class<?> minionClass) {
     this.port = port;
@@ -32,20 +36,23 @@ public class WrappingProcess {
 
   public void start() throws IOException {
     final String[] args = { "" + this.port };
+    final String classPath = launchClassPath();
+    final ClassDataSharing.Launch sharing = classDataSharing(classPath);
 
     final ProcessBuilder processBuilder = createProcessBuilder(
         this.processArgs.getJavaExecutable(), this.processArgs.getJvmArgs(),
         this.minionClass, Arrays.asList(args),
-        this.processArgs.getJavaAgentFinder(),
-        this.processArgs.getLaunchClassPath());
+        this.processArgs.getJavaAgentFinder(), classPath, sharing);
 
     
-    setClassPathInEnvironment(processBuilder);
+    setClassPathInEnvironment(processBuilder, classPath);
         
     configureProcessBuilder(processBuilder, this.processArgs.getWorkingDir(),
         this.processArgs.getEnvironmentVariables());
 
     final Process process = processBuilder.start();
+    this.recordingClasses = this.processArgs.getClassDataSharing()
+        .started(sharing, process);
     this.process = new JavaProcess(process, this.processArgs.getStdout(),
         this.processArgs.getStdErr());
   }
@@ -53,10 +60,20 @@ public class WrappingProcess {
   
    // Reportedly passing the classpath as an environment variable rather than on the command
    // line increases the allowable size of the classpath, but this has not been confirmed
-  private void setClassPathInEnvironment(final ProcessBuilder processBuilder) {
+  private void setClassPathInEnvironment(final ProcessBuilder processBuilder,
+      String classPath) {
     if (!processArgs.useClasspathJar()) {
-      processBuilder.environment().put("CLASSPATH", this.processArgs.getLaunchClassPath());
+      processBuilder.environment().put("CLASSPATH", classPath);
+    }
+  }
+
+  private String launchClassPath() {
+    if (this.processArgs.useClasspathJar()) {
+      return this.processArgs.getLaunchClassPath();
     }
+    return this.processArgs.getClassDataSharing().classPathFor(
+        this.processArgs.getJavaExecutable(),
+        this.processArgs.getLaunchClassPath());
   }
 
   private void configureProcessBuilder(ProcessBuilder processBuilder,
@@ -70,14 +87,27 @@ public class WrappingProcess {
   }
 
   public void destroy() {
+    // a minion recording classes for an archive must exit cleanly for the
+    // archive to be created, so is given the chance to exit by itself. It is
+    // waited for in the background so as not to hold up the caller.
+    if (this.recordingClasses) {
+      final JavaProcess recording = this.process;
+      final Thread t = new Thread(() -> {
+        recording.waitToDie(RECORDING_EXIT_MILLIS);
+        recording.destroy();
+      }, "pit-cds-recording-exit");
+      t.setDaemon(true);
+      t.start();
+      return;
+    }
     this.process.destroy();
   }
 
   private ProcessBuilder createProcessBuilder(String javaProc,
       List<String> args, Class<?> mainClass, List<String> programArgs,
-      JavaAgent javaAgent, String classPath) {
+      JavaAgent javaAgent, String classPath, ClassDataSharing.Launch sharing) {
     final List<String> cmd = createLaunchArgs(javaProc, javaAgent, args, mainClass,
-        programArgs, classPath);
+        programArgs, classPath, sharing);
 
     // IBM jdk adds this, thereby breaking everything
     removeClassPathProperties(cmd);
@@ -95,12 +125,14 @@ public class WrappingProcess {
 
   private List<String> createLaunchArgs(String javaProcess,
       JavaAgent agentJarLocator, List<String> args, Class<?> mainClass,
-      List<String> programArgs, String classPath) {
+      List<String> programArgs, String classPath,
+      ClassDataSharing.Launch sharing) {
 
     final List<String> cmd = new ArrayList<>();
     cmd.add(javaProcess);
 
     createClasspathJar(classPath, cmd);
+    cmd.addAll(sharing.arguments());
 
     cmd.addAll(args);
 
@@ -125,6 +157,16 @@ public class WrappingProcess {
     }
   }
 
+  // a classpath jar is created afresh for each minion, so could never match an
+  // archive
+  private ClassDataSharing.Launch classDataSharing(String classPath) {
+    if (this.processArgs.useClasspathJar()) {
+      return ClassDataSharing.Launch.NOT_SHARED;
+    }
+    return this.processArgs.getClassDataSharing().argumentsFor(
+        this.processArgs.getJavaExecutable(), classPath);
+  }
+
   private static void addPITJavaAgent(JavaAgent agentJarLocator,
       List<String> cmd) {
     final Optional<String> jarLocation = agentJarLocator.getJarLocation();
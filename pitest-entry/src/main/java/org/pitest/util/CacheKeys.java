@@ -0,0 +1,46 @@
+package org.pitest.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Names for files kept between runs, formed from a SHA-256 digest of what
+ * their contents depend on, so that files for different projects do not
+ * collide.
+ */
+public final class CacheKeys {
+
+  private CacheKeys() {
+  }
+
+  public static String of(final String... parts) {
+    final byte[][] bytes = new byte[parts.length][];
+    for (int i = 0; i != parts.length; i++) {
+      bytes[i] = parts[i].getBytes(StandardCharsets.UTF_8);
+    }
+    return of(bytes);
+  }
+
+  public static String of(final byte[]... parts) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (final byte[] each : parts) {
+        // lengths are included so parts cannot run into one another
+        digest.update(Integer.toString(each.length)
+            .getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(each);
+      }
+      final byte[] hash = digest.digest();
+      final StringBuilder sb = new StringBuilder();
+      for (int i = 0; i != 16; i++) {
+        sb.append(String.format("%02x", hash[i]));
+      }
+      return sb.toString();
+    } catch (final NoSuchAlgorithmException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+}
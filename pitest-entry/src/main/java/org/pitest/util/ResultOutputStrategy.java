@@ -14,10 +14,20 @@
  */
 package org.pitest.util;
 
+import java.io.OutputStream;
 import java.io.Writer;
+import java.util.Optional;
 
 public interface ResultOutputStrategy {
 
   Writer createWriterForFile(String sourceFile);
 
+  /**
+   * Stream to which binary data may be written, or empty if the strategy
+   * cannot supply one.
+   */
+  default Optional<OutputStream> createOutputStreamForFile(String sourceFile) {
+    return Optional.empty();
+  }
+
 }
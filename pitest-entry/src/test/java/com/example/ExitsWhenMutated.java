@@ -0,0 +1,9 @@
+package com.example;
+
+public class ExitsWhenMutated {
+
+  public static int answer() {
+    return 42;
+  }
+
+}
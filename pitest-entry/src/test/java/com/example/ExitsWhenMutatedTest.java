@@ -0,0 +1,14 @@
+package com.example;
+
+import org.junit.Test;
+
+public class ExitsWhenMutatedTest {
+
+  @Test
+  public void exitsOnWrongAnswer() {
+    if (ExitsWhenMutated.answer() != 42) {
+      System.exit(1);
+    }
+  }
+
+}
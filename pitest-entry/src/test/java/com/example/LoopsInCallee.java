@@ -0,0 +1,20 @@
+package com.example;
+
+public class LoopsInCallee {
+
+  public static int count() {
+    int i = 1;
+    i++;
+    return spin(i);
+  }
+
+  // has no timeout checks, as it is not mutated, and ignores interrupts
+  private static int spin(final int i) {
+    final long end = System.currentTimeMillis() + 10000;
+    while ((i != 2) && (System.currentTimeMillis() < end)) {
+      Thread.interrupted();
+    }
+    return i;
+  }
+
+}
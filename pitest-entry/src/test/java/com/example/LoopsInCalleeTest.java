@@ -0,0 +1,14 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class LoopsInCalleeTest {
+
+  @Test
+  public void countsToTwo() {
+    assertEquals(2, LoopsInCallee.count());
+  }
+
+}
@@ -0,0 +1,96 @@
+package org.pitest.bytecode.analysis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+public class ClassTreeCacheTest {
+
+  private final ClassByteArraySource source = ClassloaderByteArraySource.fromContext();
+
+  private final ClassTreeCache testee = new ClassTreeCache(2);
+
+  private final ClassName parseMe = ClassName.fromClass(ParseMe.class);
+
+  @Test
+  public void shouldParseClass() {
+    final ClassTree actual = this.testee.fetch(this.parseMe, bytesFor(ParseMe.class));
+    assertThat(actual.name()).isEqualTo(this.parseMe);
+  }
+
+  @Test
+  public void shouldReuseParsedClassForSameBytes() {
+    final ClassTree first = this.testee.fetch(this.parseMe, bytesFor(ParseMe.class));
+    final ClassTree second = this.testee.fetch(this.parseMe, bytesFor(ParseMe.class));
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  public void shouldParseAgainWhenBytesDiffer() {
+    final byte[] bytes = bytesFor(ParseMe.class);
+    final ClassTree first = this.testee.fetch(this.parseMe, bytes);
+    // trailing bytes are ignored by the parser, but change the hash
+    final byte[] changed = Arrays.copyOf(bytes, bytes.length + 1);
+    assertThat(this.testee.fetch(this.parseMe, changed)).isNotSameAs(first);
+  }
+
+  @Test
+  public void shouldKeepFirstClassesFetchedWhenFull() {
+    final ClassTree first = this.testee.fetch(this.parseMe, bytesFor(ParseMe.class));
+    this.testee.fetch(ClassName.fromClass(String.class), bytesFor(String.class));
+    this.testee.fetch(ClassName.fromClass(Integer.class), bytesFor(Integer.class));
+    assertThat(this.testee.fetch(this.parseMe, bytesFor(ParseMe.class)))
+        .isSameAs(first);
+  }
+
+  @Test
+  public void shouldFindClassesAgainWhenMoreThanMaxSizeAreFetchedInSameOrder() {
+    final List<Class<?>> classes = Arrays.asList(ParseMe.class, String.class,
+        Integer.class, Long.class);
+    final List<ClassTree> firstPass = fetchAll(classes);
+    final List<ClassTree> secondPass = fetchAll(classes);
+    assertThat(secondPass.get(0)).isSameAs(firstPass.get(0));
+    assertThat(secondPass.get(1)).isSameAs(firstPass.get(1));
+  }
+
+  @Test
+  public void shouldKeepNothingWhenSizeIsZero() {
+    final ClassTreeCache uncached = new ClassTreeCache(0);
+    final ClassTree first = uncached.fetch(this.parseMe, bytesFor(ParseMe.class));
+    assertThat(uncached.fetch(this.parseMe, bytesFor(ParseMe.class)))
+        .isNotSameAs(first);
+  }
+
+  @Test
+  public void shouldDiscardClassesNotRetained() {
+    final ClassTree first = this.testee.fetch(this.parseMe, bytesFor(ParseMe.class));
+    final ClassName string = ClassName.fromClass(String.class);
+    final ClassTree other = this.testee.fetch(string, bytesFor(String.class));
+    this.testee.retainAll(Collections.singleton(string));
+    assertThat(this.testee.fetch(this.parseMe, bytesFor(ParseMe.class)))
+        .isNotSameAs(first);
+    assertThat(this.testee.fetch(string, bytesFor(String.class)))
+        .isSameAs(other);
+  }
+
+  private List<ClassTree> fetchAll(List<Class<?>> classes) {
+    final List<ClassTree> trees = new ArrayList<>();
+    for (final Class<?> each : classes) {
+      trees.add(this.testee.fetch(ClassName.fromClass(each), bytesFor(each)));
+    }
+    return trees;
+  }
+
+  private byte[] bytesFor(Class<?> clazz) {
+    return this.source.getBytes(clazz.getName()).get();
+  }
+
+}
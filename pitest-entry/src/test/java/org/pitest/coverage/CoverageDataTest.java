@@ -219,6 +219,66 @@ public class CoverageDataTest {
     assertThat(actual.getTests()).contains("FooTest.fooTest");
   }
 
+  @Test
+  public void shouldReturnTestsCoveringBlockContainingInstruction() {
+    final Location location = Location.location(this.foo, "foo", "()V");
+    final BlockLocation first = new BlockLocation(location, 0, 0, 4);
+    final BlockLocation second = new BlockLocation(location, 1, 5, 9);
+
+    this.testee.calculateClassCoverage(makeCoverageResult(
+        new Description("aTest"), first, second));
+    this.testee.calculateClassCoverage(makeCoverageResult(
+        new Description("bTest"), second));
+
+    assertThat(FCollection.map(this.testee.getTestsForInstructionLocation(
+        instruction(location, 4)), testInfoToString()))
+        .containsExactly("aTest");
+    assertThat(FCollection.map(this.testee.getTestsForInstructionLocation(
+        instruction(location, 5)), testInfoToString()))
+        .containsExactly("aTest", "bTest");
+    assertThat(this.testee.getTestsForInstructionLocation(
+        instruction(location, 10))).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnTestsCoveringInstructionInNameOrder() {
+    final Location location = Location.location(this.foo, "foo", "()V");
+    final BlockLocation block = new BlockLocation(location, 0, 0, 4);
+
+    this.testee.calculateClassCoverage(makeCoverageResult(
+        new Description("bTest"), block));
+    this.testee.calculateClassCoverage(makeCoverageResult(
+        new Description("aTest"), block));
+
+    assertThat(FCollection.map(this.testee.getTestsForInstructionLocation(
+        instruction(location, 2)), testInfoToString()))
+        .containsExactly("aTest", "bTest");
+  }
+
+  @Test
+  public void shouldReturnNoTestsForInstructionsInUncoveredMethods() {
+    assertThat(this.testee.getTestsForInstructionLocation(instruction(
+        Location.location(this.foo, "foo", "()V"), 0))).isEmpty();
+  }
+
+  @Test
+  public void shouldProvideOneBlockCoverageForEachCoveredBlock() {
+    final Location location = Location.location(this.foo, "foo", "()V");
+    final BlockLocation first = new BlockLocation(location, 0, 0, 4);
+    final BlockLocation second = new BlockLocation(location, 1, 5, 9);
+
+    this.testee.calculateClassCoverage(makeCoverageResult(
+        new Description("aTest"), first, second));
+    this.testee.calculateClassCoverage(makeCoverageResult(
+        new Description("bTest"), second));
+
+    final List<BlockCoverage> actual = this.testee.createCoverage();
+    assertThat(actual).extracting(BlockCoverage::getBlock)
+        .containsExactly(first, second);
+    assertThat(actual).extracting(BlockCoverage::getTests).containsExactly(
+        Arrays.asList("aTest"), Arrays.asList("aTest", "bTest"));
+  }
+
   @Test
   public void shouldProvideListOfClassesForSourceFile() {
 
@@ -287,6 +347,17 @@ public class CoverageDataTest {
         makeCoverage(clazz, block));
   }
 
+  private static CoverageResult makeCoverageResult(final Description desc,
+      final BlockLocation... blocks) {
+    return new CoverageResult(desc, 0, true, Arrays.asList(blocks));
+  }
+
+  private static InstructionLocation instruction(final Location location,
+      final int index) {
+    return new InstructionLocation(new BlockLocation(location, -1, -1, -1),
+        index);
+  }
+
   private Collection<BlockLocation> makeCoverage(final String clazz,
       final int block) {
     final BlockLocation cs = new BlockLocation(Location.location(
@@ -0,0 +1,81 @@
+package org.pitest.coverage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class TestIdSetTest {
+
+  private final TestIdSet testee = new TestIdSet();
+
+  @Test
+  public void shouldContainNothingWhenEmpty() {
+    assertThat(ids()).isEmpty();
+  }
+
+  @Test
+  public void shouldContainIdsAddedInOrder() {
+    this.testee.add(1);
+    this.testee.add(1000);
+    this.testee.add(100000);
+    assertThat(ids()).containsExactly(1, 1000, 100000);
+  }
+
+  @Test
+  public void shouldContainIdsAddedOutOfOrderInOrder() {
+    this.testee.add(1000);
+    this.testee.add(1);
+    this.testee.add(100);
+    this.testee.add(1);
+    assertThat(ids()).containsExactly(1, 100, 1000);
+  }
+
+  @Test
+  public void shouldContainAllIdsOnceDense() {
+    final List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i != 200; i++) {
+      this.testee.add(i);
+      this.testee.add(i);
+      expected.add(i);
+    }
+    this.testee.add(5000);
+    expected.add(5000);
+    assertThat(ids()).isEqualTo(expected);
+  }
+
+  @Test
+  public void shouldAddIdsToBitSet() {
+    this.testee.add(3);
+    this.testee.add(7);
+    final BitSet actual = new BitSet();
+    actual.set(1);
+    this.testee.addTo(actual);
+    assertThat(actual.stream().boxed()).containsExactly(1, 3, 7);
+  }
+
+  @Test
+  public void shouldMapIdsToTestsInNameOrder() {
+    final List<TestInfo> tests = Arrays.asList(test("c"), test("a"), test("b"));
+    this.testee.add(0);
+    this.testee.add(1);
+    assertThat(this.testee.toTests(tests)).extracting(TestInfo::getName)
+        .containsExactly("a", "c");
+  }
+
+  private List<Integer> ids() {
+    final List<Integer> ids = new ArrayList<>();
+    this.testee.forEach(ids::add);
+    return ids;
+  }
+
+  private static TestInfo test(final String name) {
+    return new TestInfo("foo", name, 0, Optional.empty(), 0);
+  }
+
+}
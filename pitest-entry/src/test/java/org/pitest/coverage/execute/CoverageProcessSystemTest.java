@@ -29,6 +29,7 @@ import org.pitest.mutationtest.execute.DefaultPITClassloader;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
+import org.pitest.testapi.Description;
 import org.pitest.util.ExitCode;
 import org.pitest.util.SocketFinder;
 import org.pitest.util.Verbosity;
@@ -42,7 +43,11 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -312,6 +317,39 @@ public class CoverageProcessSystemTest {
             .anyMatch(coverageFor(ClassName.fromString("com.example.coverage.execute.samples.simple.TesteeChild")));
   }
 
+  @Test
+  public void shouldOnlyRecordCoverageOfInstrumentedClassesWhenRestricted() throws Exception {
+    final ClassName child = ClassName.fromString("com.example.coverage.execute.samples.simple.TesteeChild");
+    final ClassName parent = ClassName.fromString("com.example.coverage.execute.samples.simple.TesteeParent");
+    final List<CoverageResult> coveredClasses = new ArrayList<>();
+    runCoverageProcess(ParentChildInitializationTest.class, coveredClasses,
+        Arrays.asList(child.asJavaName()));
+    assertThat(coveredClasses).anyMatch(coverageFor(child));
+    assertThat(coveredClasses).noneMatch(coverageFor(parent));
+  }
+
+  @Test
+  public void shouldAttributeCoverageToTestsWhenRunningTestClassesConcurrently() throws Exception {
+    final List<Class<?>> tests = Arrays.asList(TestsForMultiBlockCoverage.class,
+        TesteeWithComplexConstructorsTest.class, ParentChildInitializationTest.class);
+
+    final List<CoverageResult> sequential = new ArrayList<>();
+    runCoverageProcess(tests, sequential, coverageOptions());
+    final List<CoverageResult> concurrent = new ArrayList<>();
+    runCoverageProcess(tests, concurrent, coverageOptions().withTestThreads(3));
+
+    assertThat(blocksByTest(concurrent)).isEqualTo(blocksByTest(sequential));
+  }
+
+  private static Map<Description, Set<BlockLocation>> blocksByTest(
+      final List<CoverageResult> results) {
+    final Map<Description, Set<BlockLocation>> blocks = new HashMap<>();
+    for (final CoverageResult each : results) {
+      blocks.put(each.getTestUnitDescription(), new HashSet<>(each.getCoverage()));
+    }
+    return blocks;
+  }
+
   private ClassPath classPathWithoutJUnit() {
     final List<File> cpWithoutJUnit = 
         ClassPath.getClassPathElementsAsFiles().stream()
@@ -337,9 +375,25 @@ public class CoverageProcessSystemTest {
   private void runCoverageProcess(final Class<?> test,
       final List<CoverageResult> coveredClasses) throws IOException,
       InterruptedException {
-    final Consumer<CoverageResult> handler = a -> coveredClasses.add(a);
+    runCoverageProcess(test, coveredClasses, null);
+  }
 
-    final CoverageOptions sa = new CoverageOptions(coverOnlyTestees(), excludeTests(), TestPluginArguments.defaults(), VERBOSE, -1);
+  private void runCoverageProcess(final Class<?> test,
+      final List<CoverageResult> coveredClasses, final List<String> instrumentOnly)
+      throws IOException, InterruptedException {
+    final CoverageOptions all = coverageOptions();
+    runCoverageProcess(Arrays.asList(test), coveredClasses,
+        instrumentOnly == null ? all : all.instrumentingOnly(instrumentOnly));
+  }
+
+  private CoverageOptions coverageOptions() {
+    return new CoverageOptions(coverOnlyTestees(), excludeTests(), TestPluginArguments.defaults(), VERBOSE, -1);
+  }
+
+  private void runCoverageProcess(final List<Class<?>> tests,
+      final List<CoverageResult> coveredClasses, final CoverageOptions sa)
+      throws IOException, InterruptedException {
+    final Consumer<CoverageResult> handler = a -> coveredClasses.add(a);
 
     final JarCreatingJarFinder agent = new JarCreatingJarFinder();
     try {
@@ -347,7 +401,8 @@ public class CoverageProcessSystemTest {
       final SocketFinder sf = new SocketFinder();
       final CoverageProcess process = new CoverageProcess(ProcessArgs
           .withClassPath(new ClassPath()).andLaunchOptions(lo), sa,
-          sf.getNextAvailableServerSocket(), Arrays.asList(test.getName()),
+          sf.getNextAvailableServerSocket(),
+          tests.stream().map(Class::getName).collect(Collectors.toList()),
           handler);
       process.start();
 
@@ -0,0 +1,63 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class CoverageShardsTest {
+
+  @Test
+  public void shouldReturnSingleEmptyShardWhenNoTestClasses() {
+    assertThat(CoverageShards.split(Collections.emptyList(), 4,
+        Collections.emptyMap())).containsExactly(Collections.emptyList());
+  }
+
+  @Test
+  public void shouldCreateNoMoreShardsThanTestClasses() {
+    final List<List<String>> actual = CoverageShards.split(
+        Arrays.asList("a", "b"), 4, Collections.emptyMap());
+    assertThat(actual).containsExactly(Arrays.asList("a"), Arrays.asList("b"));
+  }
+
+  @Test
+  public void shouldShareTestClassesEquallyWhenNoTimingsKnown() {
+    final List<List<String>> actual = CoverageShards.split(
+        Arrays.asList("a", "b", "c", "d"), 2, Collections.emptyMap());
+    assertThat(actual).containsExactly(Arrays.asList("a", "c"),
+        Arrays.asList("b", "d"));
+  }
+
+  @Test
+  public void shouldBalanceShardsByPreviousTimings() {
+    final Map<String, Long> timings = new HashMap<>();
+    timings.put("a", 100L);
+    timings.put("b", 10L);
+    timings.put("c", 20L);
+    timings.put("d", 30L);
+    timings.put("e", 40L);
+
+    final List<List<String>> actual = CoverageShards.split(
+        Arrays.asList("a", "b", "c", "d", "e"), 2, timings);
+    assertThat(actual).containsExactly(Arrays.asList("a"),
+        Arrays.asList("e", "d", "c", "b"));
+  }
+
+  @Test
+  public void shouldWeightClassesWithoutTimingsAsMeanOfThoseWithTimings() {
+    final Map<String, Long> timings = new HashMap<>();
+    timings.put("a", 90L);
+    timings.put("b", 10L);
+
+    final List<List<String>> actual = CoverageShards.split(
+        Arrays.asList("a", "b", "c", "d"), 2, timings);
+    assertThat(actual).containsExactly(Arrays.asList("a", "b"),
+        Arrays.asList("c", "d"));
+  }
+
+}
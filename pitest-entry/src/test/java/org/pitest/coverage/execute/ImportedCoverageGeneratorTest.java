@@ -0,0 +1,218 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.coverage.export.DefaultCoverageExporter;
+import org.pitest.coverage.export.NullCoverageExporter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.testapi.Description;
+import org.pitest.util.PitError;
+import org.pitest.util.Timings;
+
+public class ImportedCoverageGeneratorTest {
+
+  private static final String FOO_TEST = "com.example.FooTest";
+  private static final String BAR_TEST = "com.example.BarTest";
+
+  @Rule
+  public TemporaryFolder      folder   = new TemporaryFolder();
+
+  private CodeSource          code;
+
+  @Before
+  public void setUp() {
+    this.code = mock(CodeSource.class);
+    when(this.code.getTests()).thenReturn(Arrays.asList(
+        ClassInfoMother.make(ClassName.fromString(FOO_TEST)),
+        ClassInfoMother.make(ClassName.fromString(BAR_TEST))));
+    when(this.code.fetchClassBytes(ClassName.fromString("com.example.Foo")))
+        .thenReturn(Optional.empty());
+  }
+
+  @Test
+  public void shouldImportTestsWithTheirClassesAndTimes() throws Exception {
+    final File file = exportXml(test(FOO_TEST, "a", 42, block(1)),
+        test(BAR_TEST, "b", 7, block(2)));
+
+    final CoverageData actual = importFrom(file);
+
+    assertThat(actual.getTests()).extracting(TestInfo::getName)
+        .containsExactlyInAnyOrder(FOO_TEST + ".a", BAR_TEST + ".b");
+    final TestInfo a = find(actual, FOO_TEST + ".a");
+    assertThat(a.getDefiningClass()).isEqualTo(FOO_TEST);
+    assertThat(a.getTime()).isEqualTo(42);
+    assertThat(a.getTestUnit()).contains(new Description("a", FOO_TEST));
+    assertThat(blocksOf(actual, FOO_TEST + ".a")).containsExactly(block(1));
+  }
+
+  @Test
+  public void shouldMergeCoverageOfTestsFoundInSeveralFiles() throws Exception {
+    final File shard1 = exportXml(test(FOO_TEST, "a", 42, block(1)));
+    final File shard2 = exportXml(test(FOO_TEST, "a", 50, block(2)),
+        test(BAR_TEST, "b", 7, block(2)));
+
+    final CoverageData actual = importFrom(shard1, shard2);
+
+    assertThat(actual.getTests()).hasSize(2);
+    assertThat(find(actual, FOO_TEST + ".a").getTime()).isEqualTo(50);
+    assertThat(blocksOf(actual, FOO_TEST + ".a"))
+        .containsExactlyInAnyOrder(block(1), block(2));
+  }
+
+  @Test
+  public void shouldFindTestClassFromNameWhenNotRecorded() throws Exception {
+    final File file = write("linecoverage.xml",
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<coverage>\n"
+            + "<block classname='com.example.Foo' method='foo()V' number='1'"
+            + " firstInstruction='3' lastInstruction='7'><tests>\n"
+            + "<test name='com.example.FooTest.test(com.example.FooTest)'/>\n"
+            + "</tests>\n</block>\n</coverage>\n");
+
+    final CoverageData actual = importFrom(file);
+
+    final TestInfo test = find(actual,
+        "com.example.FooTest.test(com.example.FooTest)");
+    assertThat(test.getDefiningClass()).isEqualTo(FOO_TEST);
+    assertThat(test.getTime()).isZero();
+  }
+
+  @Test
+  public void shouldIgnoreTestsWhoseClassIsNotATestClass() throws Exception {
+    final File file = exportXml(test("com.example.GoneTest", "a", 1, block(1)),
+        test(BAR_TEST, "b", 7, block(2)));
+
+    final CoverageData actual = importFrom(file);
+
+    assertThat(actual.getTests()).extracting(TestInfo::getName)
+        .containsExactly(BAR_TEST + ".b");
+  }
+
+  @Test
+  public void shouldImportBinaryCoverageWithTestClassesAndTimes()
+      throws Exception {
+    final File file = exportBinary(test(FOO_TEST, "a", 42, block(1)),
+        test(BAR_TEST, "b", 7, block(1)));
+
+    final CoverageData actual = importFrom(file);
+
+    final TestInfo a = find(actual, FOO_TEST + ".a");
+    assertThat(a.getDefiningClass()).isEqualTo(FOO_TEST);
+    assertThat(a.getTime()).isEqualTo(42);
+    assertThat(find(actual, BAR_TEST + ".b").getTime()).isEqualTo(7);
+    assertThat(blocksOf(actual, FOO_TEST + ".a")).containsExactly(block(1));
+  }
+
+  @Test
+  public void shouldReportFilesThatCannotBeRead() {
+    final File missing = new File(this.folder.getRoot(), "missing.xml");
+    assertThatThrownBy(() -> importFrom(missing)).isInstanceOf(PitError.class)
+        .hasMessageContaining("missing.xml");
+  }
+
+  private CoverageData importFrom(final File... files) {
+    return new ImportedCoverageGenerator(Arrays.asList(files), null, null,
+        this.code, new NullCoverageExporter(), new Timings())
+        .calculateCoverage();
+  }
+
+  private File exportXml(final Exported... tests) throws IOException {
+    final File file = this.folder.newFile();
+    final List<BlockCoverage> blocks = new ArrayList<>();
+    final List<TestInfo> infos = new ArrayList<>();
+    for (final Exported each : tests) {
+      blocks.add(new BlockCoverage(each.block,
+          Collections.singletonList(each.info.getName())));
+      infos.add(each.info);
+    }
+    try (Writer out = Files.newBufferedWriter(file.toPath(),
+        StandardCharsets.UTF_8)) {
+      new DefaultCoverageExporter(f -> out).recordCoverage(blocks, infos);
+    }
+    return file;
+  }
+
+  private File exportBinary(final Exported... tests) throws IOException {
+    final File file = this.folder.newFile("linecoverage.bin");
+    final List<String> names = new ArrayList<>();
+    final List<TestInfo> infos = new ArrayList<>();
+    for (final Exported each : tests) {
+      names.add(each.info.getName());
+      infos.add(each.info);
+    }
+    final BlockCoverage block = new BlockCoverage(tests[0].block, names);
+    new BinaryCoverageExporter(Files.newOutputStream(file.toPath()))
+        .recordCoverage(Collections.singletonList(block), infos);
+    return file;
+  }
+
+  private File write(final String name, final String content)
+      throws IOException {
+    final File file = this.folder.newFile(name);
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private static TestInfo find(final CoverageData coverage, final String name) {
+    return coverage.getTests().stream().filter(t -> t.getName().equals(name))
+        .findFirst().get();
+  }
+
+  private static List<BlockLocation> blocksOf(final CoverageData coverage,
+      final String name) {
+    final List<BlockLocation> blocks = new ArrayList<>();
+    for (final BlockCoverage each : coverage.createCoverage()) {
+      if (each.getTests().contains(name)) {
+        blocks.add(each.getBlock());
+      }
+    }
+    return blocks;
+  }
+
+  private static Exported test(final String testClass, final String name,
+      final int time, final BlockLocation block) {
+    return new Exported(new TestInfo(testClass, testClass + "." + name, time,
+        Optional.empty(), 1), block);
+  }
+
+  private static BlockLocation block(final int number) {
+    return new BlockLocation(Location.location(
+        ClassName.fromString("com.example.Foo"), "foo", "()V"), number, 3, 7);
+  }
+
+  private static class Exported {
+    private final TestInfo      info;
+    private final BlockLocation block;
+
+    Exported(final TestInfo info, final BlockLocation block) {
+      this.info = info;
+      this.block = block;
+    }
+  }
+
+}
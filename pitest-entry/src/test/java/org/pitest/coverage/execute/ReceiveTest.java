@@ -1,77 +1,166 @@
 package org.pitest.coverage.execute;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.analysis.Block;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
+import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataInputStream;
 import sun.pitest.CodeCoverageStore;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNull;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThat;
 
-// does this test add any value?
 public class ReceiveTest {
 
-  private Receive                     testee;
+  private Receive                  testee;
 
   private Consumer<CoverageResult> handler;
 
-  private CoverageResult              result;
+  private List<CoverageResult>     results;
 
-  private Description                 description;
+  private ByteArrayOutputStream    bytes;
 
-  @Mock
-  private SafeDataInputStream         is;
+  private CoveragePipe             pipe;
+
+  private Description              description;
 
   @Before
   public void setUp() {
-    MockitoAnnotations.openMocks(this);
+    this.results = new ArrayList<>();
     this.handler = stubHandler();
     this.testee = new Receive(this.handler);
     this.description = new Description("foo", "bar");
+    this.bytes = new ByteArrayOutputStream();
+    this.pipe = new CoveragePipe(this.bytes);
+    CodeCoverageStore.init(this.pipe);
+  }
+
+  @After
+  public void cleanUp() {
+    CodeCoverageStore.resetAllStaticState();
   }
 
   private Consumer<CoverageResult> stubHandler() {
-    return a -> ReceiveTest.this.result = a;
+    return a -> ReceiveTest.this.results.add(a);
   }
 
   @Test
   public void shouldReportNoCoverageWhenNoTestsRun() {
-    this.testee.apply(Id.DONE, this.is);
-    assertNull(this.result);
+    receive();
+    assertThat(this.results).isEmpty();
   }
 
   @Test
   public void shouldReportWhenTestFails() {
-    recordTestCoverage(0, 0, 0, false);
-    assertEquals(false, this.result.isGreenTest());
+    this.pipe.recordTestOutcome(this.description, false, 0);
+    receive();
+    assertThat(this.results.get(0).isGreenTest()).isFalse();
   }
 
   @Test
   public void shouldReportWhenTestPasses() {
-    recordTestCoverage(0, 0, 0, true);
-    assertEquals(true, this.result.isGreenTest());
+    this.pipe.recordTestOutcome(this.description, true, 0);
+    receive();
+    assertThat(this.results.get(0).isGreenTest()).isTrue();
+  }
+
+  @Test
+  public void shouldReportExecutionTime() {
+    this.pipe.recordTestOutcome(this.description, true, 42);
+    receive();
+    assertThat(this.results.get(0).getExecutionTime()).isEqualTo(42);
+  }
+
+  @Test
+  public void shouldReportTestDescriptions() {
+    final Description noClass = new Description("foo");
+    this.pipe.recordTestOutcome(this.description, true, 0);
+    this.pipe.recordTestOutcome(noClass, true, 0);
+    this.pipe.recordTestOutcome(this.description, true, 0);
+    receive();
+    assertThat(this.results).extracting(CoverageResult::getTestUnitDescription)
+        .containsExactly(this.description, noClass, this.description);
+  }
+
+  @Test
+  public void shouldReportBlocksHitByTest() {
+    final int classId = CodeCoverageStore.registerClass("com/example/Foo");
+    registerBlocks(classId, "a", 1, 3);
+    registerBlocks(classId, "b", 4, 200);
+    final boolean[] probes = CodeCoverageStore.getOrRegisterClassProbes(classId,
+        200);
+    CodeCoverageStore.markClassAsHit(classId, probes);
+    probes[2] = true;
+    probes[4] = true;
+    probes[200] = true;
+
+    this.pipe.recordTestOutcome(this.description, true, 0);
+    receive();
+
+    assertThat(this.results.get(0).getCoverage()).containsExactlyInAnyOrder(
+        block("a", 1, 2), block("b", 0, 4), block("b", 196, 200));
+  }
+
+  @Test
+  public void shouldReportOnlyBlocksHitSinceLastTest() {
+    final int classId = CodeCoverageStore.registerClass("com/example/Foo");
+    registerBlocks(classId, "a", 1, 2);
+    final boolean[] probes = CodeCoverageStore.getOrRegisterClassProbes(classId,
+        2);
+    CodeCoverageStore.markClassAsHit(classId, probes);
+    probes[1] = true;
+
+    this.pipe.recordTestOutcome(this.description, true, 0);
+    this.pipe.recordTestOutcome(new Description("second", "bar"), true, 0);
+    receive();
+
+    assertThat(this.results.get(0).getCoverage())
+        .containsExactly(block("a", 0, 1));
+    assertThat(this.results.get(1).getCoverage()).isEmpty();
+  }
+
+  private static void registerBlocks(final int classId, final String method,
+      final int firstProbe, final int lastProbe) {
+    final List<Block> blocks = new ArrayList<>();
+    for (int i = firstProbe; i != (lastProbe + 1); i++) {
+      blocks.add(new Block(i, i, Collections.emptySet()));
+    }
+    CodeCoverageStore.registerMethod(classId, method, "()V", firstProbe,
+        lastProbe, blocks);
+  }
+
+  private static BlockLocation block(final String method, final int block,
+      final int instruction) {
+    return new BlockLocation(Location.location(
+        ClassName.fromString("com/example/Foo"), method, "()V"), block,
+        instruction, instruction);
   }
 
-  private void recordTestCoverage(final int executionTime, final int classId,
-      final int probeNumber, final boolean testPassed) {
-    when(this.is.readInt()).thenReturn(classId, executionTime);
-    when(this.is.readString()).thenReturn("foo");
-    this.testee.apply(Id.CLAZZ, this.is);
-
-    when(this.is.read(Description.class)).thenReturn(this.description);
-    when(this.is.readInt()).thenReturn(1);
-    when(this.is.readLong()).thenReturn(1L,
-        CodeCoverageStore.encode(classId, probeNumber));
-    when(this.is.readBoolean()).thenReturn(testPassed);
-    this.testee.apply(Id.OUTCOME, this.is);
+  private void receive() {
+    this.pipe.end(ExitCode.OK);
+    final SafeDataInputStream is = new SafeDataInputStream(
+        new ByteArrayInputStream(this.bytes.toByteArray()));
+    byte control;
+    do {
+      control = is.readByte();
+      this.testee.apply(control, is);
+      if (control == Id.DONE) {
+        is.readInt();
+      }
+    } while (control != Id.DONE);
   }
 
 }
@@ -0,0 +1,69 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestClassTimingsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldHaveNoPreviousTimingsWhenNoneRecorded() {
+    final TestClassTimings testee = new TestClassTimings(
+        new File(this.folder.getRoot(), "timings.properties"));
+    assertThat(testee.previous()).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnRecordedTimings() {
+    final File file = new File(this.folder.getRoot(), "dir/timings.properties");
+    final Map<String, Long> timings = new HashMap<>();
+    timings.put("com/example/FooTest", 42L);
+    timings.put("com/example/Bar$Test", 7L);
+
+    new TestClassTimings(file).record(timings);
+
+    assertThat(new TestClassTimings(file).previous()).isEqualTo(timings);
+  }
+
+  @Test
+  public void shouldIgnoreUnreadableTimings() throws Exception {
+    final File file = this.folder.newFile("timings.properties");
+    Files.write(file.toPath(),
+        "com/example/FooTest=slow\ncom/example/BarTest=3\n"
+            .getBytes(StandardCharsets.ISO_8859_1));
+
+    assertThat(new TestClassTimings(file).previous())
+        .isEqualTo(Collections.singletonMap("com/example/BarTest", 3L));
+  }
+
+  @Test
+  public void shouldKeepTimingsOfEachClassPathApart() {
+    final File dir = this.folder.getRoot();
+    TestClassTimings.inDirectory(dir, "a.jar")
+        .record(Collections.singletonMap("com/example/FooTest", 1L));
+
+    assertThat(TestClassTimings.inDirectory(dir, "b.jar").previous()).isEmpty();
+    assertThat(TestClassTimings.inDirectory(dir, "a.jar").previous())
+        .containsEntry("com/example/FooTest", 1L);
+  }
+
+  @Test
+  public void shouldRecordNothingWhenDisabled() {
+    final TestClassTimings testee = TestClassTimings.none();
+    testee.record(Collections.singletonMap("com/example/FooTest", 1L));
+    assertThat(testee.previous()).isEmpty();
+  }
+
+}
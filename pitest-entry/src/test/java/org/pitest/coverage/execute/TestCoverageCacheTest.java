@@ -0,0 +1,201 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.testapi.Description;
+import org.pitest.util.Verbosity;
+
+public class TestCoverageCacheTest {
+
+  private static final ClassName          FOO      = ClassName
+      .fromString("com.example.Foo");
+  private static final ClassName          FOO_TEST = ClassName
+      .fromString("com.example.FooTest");
+  private static final ClassName          BAR_TEST = ClassName
+      .fromString("com.example.BarTest");
+
+  @Rule
+  public TemporaryFolder                  folder   = new TemporaryFolder();
+
+  private final Map<ClassName, ClassInfo> classes  = new HashMap<>();
+
+  private CodeSource                      code;
+
+  private TestCoverageCache               testee;
+
+  @Before
+  public void setUp() {
+    this.code = mock(CodeSource.class);
+    when(this.code.getClassInfo(any())).thenAnswer(a -> classInfo(a.getArgument(0)));
+    this.testee = new TestCoverageCache(
+        new File(this.folder.getRoot(), "cache/coverage.bin"));
+    withClass(FOO, 1);
+    withClass(FOO_TEST, 1);
+    withClass(BAR_TEST, 1);
+  }
+
+  @Test
+  public void shouldReuseNothingWhenDisabled() {
+    final TestCoverageCache disabled = TestCoverageCache.disabled();
+    disabled.store(tests(FOO_TEST), Arrays.asList(result(FOO_TEST, "a", true)),
+        this.code);
+    assertThat(disabled.reusable(tests(FOO_TEST), this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldReuseNothingWhenNothingStored() {
+    assertThat(this.testee.reusable(tests(FOO_TEST), this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldReuseStoredCoverageOfUnchangedTestClasses() {
+    store(result(FOO_TEST, "a", true), result(FOO_TEST, "b", true),
+        result(BAR_TEST, "c", true));
+
+    final Map<ClassName, List<CoverageResult>> actual = this.testee
+        .reusable(tests(FOO_TEST, BAR_TEST), this.code);
+
+    assertThat(actual.keySet()).containsExactlyInAnyOrder(FOO_TEST, BAR_TEST);
+    final CoverageResult a = actual.get(FOO_TEST).get(0);
+    assertThat(a.getTestUnitDescription())
+        .isEqualTo(new Description("a", FOO_TEST.asJavaName()));
+    assertThat(a.getExecutionTime()).isEqualTo(42);
+    assertThat(a.isGreenTest()).isTrue();
+    assertThat(a.getCoverage()).containsExactly(block());
+    assertThat(a.getCoverage().iterator().next().getLastInsnInBlock())
+        .isEqualTo(7);
+    assertThat(actual.get(FOO_TEST)).hasSize(2);
+  }
+
+  @Test
+  public void shouldOnlyReuseCoverageOfRequestedTestClasses() {
+    store(result(FOO_TEST, "a", true), result(BAR_TEST, "c", true));
+    assertThat(this.testee.reusable(tests(BAR_TEST), this.code).keySet())
+        .containsExactly(BAR_TEST);
+  }
+
+  @Test
+  public void shouldNotReuseCoverageOfChangedTestClasses() {
+    store(result(FOO_TEST, "a", true), result(BAR_TEST, "c", true));
+    withClass(FOO_TEST, 2);
+    assertThat(this.testee.reusable(tests(FOO_TEST, BAR_TEST), this.code)
+        .keySet()).containsExactly(BAR_TEST);
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenCoveredClassChanged() {
+    store(result(FOO_TEST, "a", true));
+    withClass(FOO, 2);
+    assertThat(this.testee.reusable(tests(FOO_TEST), this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenCoveredClassRemoved() {
+    store(result(FOO_TEST, "a", true));
+    this.classes.remove(FOO);
+    assertThat(this.testee.reusable(tests(FOO_TEST), this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotStoreCoverageOfTestClassesWithFailingTests() {
+    store(result(FOO_TEST, "a", true), result(FOO_TEST, "b", false),
+        result(BAR_TEST, "c", true));
+    assertThat(this.testee.reusable(tests(FOO_TEST, BAR_TEST), this.code)
+        .keySet()).containsExactly(BAR_TEST);
+  }
+
+  @Test
+  public void shouldStoreTestsRunMoreThanOnceOnce() {
+    store(result(FOO_TEST, "a", true), result(FOO_TEST, "a", true));
+    assertThat(this.testee.reusable(tests(FOO_TEST), this.code).get(FOO_TEST))
+        .hasSize(1);
+  }
+
+  @Test
+  public void shouldKeepCoverageGatheredWithOtherOptionsApart() {
+    final File dir = this.folder.getRoot();
+    final CoverageOptions options = options(-1);
+    this.testee = TestCoverageCache.inDirectory(dir, "a.jar", options);
+    store(result(FOO_TEST, "a", true));
+
+    assertThat(TestCoverageCache.inDirectory(dir, "a.jar", options(2))
+        .reusable(tests(FOO_TEST), this.code)).isEmpty();
+    assertThat(TestCoverageCache.inDirectory(dir, "b.jar", options)
+        .reusable(tests(FOO_TEST), this.code)).isEmpty();
+    assertThat(TestCoverageCache.inDirectory(dir, "a.jar", options)
+        .reusable(tests(FOO_TEST), this.code)).containsKey(FOO_TEST);
+  }
+
+  @Test
+  public void shouldNotCacheWhenOptionsCannotBeSerialised() {
+    // a key set view of a HashMap is not serializable
+    final Map<String, String> include = new HashMap<>();
+    include.put("com.example.*", "");
+    final CoverageOptions options = new CoverageOptions(include.keySet(),
+        Collections.<String> emptyList(), TestPluginArguments.defaults(),
+        Verbosity.DEFAULT, -1);
+
+    assertThat(TestCoverageCache.inDirectory(this.folder.getRoot(), "a.jar",
+        options).isEnabled()).isFalse();
+  }
+
+  private void store(final CoverageResult... results) {
+    this.testee.store(tests(FOO_TEST, BAR_TEST), Arrays.asList(results),
+        this.code);
+  }
+
+  private void withClass(final ClassName name, final long hash) {
+    this.classes.put(name, ClassInfoMother.make(new ClassIdentifier(hash, name)));
+  }
+
+  private Collection<ClassInfo> classInfo(final Collection<ClassName> names) {
+    return names.stream().filter(this.classes::containsKey)
+        .map(this.classes::get).collect(Collectors.toList());
+  }
+
+  private Collection<ClassInfo> tests(final ClassName... names) {
+    return classInfo(Arrays.asList(names));
+  }
+
+  private static CoverageOptions options(final int maxDependencyDistance) {
+    return new CoverageOptions(Collections.singletonList("com.example.*"),
+        Collections.<String> emptyList(), TestPluginArguments.defaults(),
+        Verbosity.DEFAULT, maxDependencyDistance);
+  }
+
+  private static CoverageResult result(final ClassName testClass,
+      final String name, final boolean green) {
+    return new CoverageResult(new Description(name, testClass.asJavaName()),
+        42, green, Collections.singletonList(block()));
+  }
+
+  private static BlockLocation block() {
+    return new BlockLocation(Location.location(FOO, "foo", "()V"), 1, 3, 7);
+  }
+
+}
@@ -0,0 +1,122 @@
+package org.pitest.coverage.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.LocationMother.LocationBuilder;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.util.PitError;
+
+public class BinaryCoverageExporterTest {
+
+  private BinaryCoverageExporter      testee;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+  @Before
+  public void setup() {
+    this.testee = new BinaryCoverageExporter(this.out);
+  }
+
+  @Test
+  public void shouldReadNoBlocksWhenNoCoverage() {
+    this.testee.recordCoverage(Collections.<BlockCoverage> emptyList());
+    assertThat(readBack()).isEmpty();
+  }
+
+  @Test
+  public void shouldReadBackExportedCoverage() {
+    final LocationBuilder loc = aLocation().withMethod("method");
+    final List<BlockCoverage> coverage = Arrays.asList(
+        new BlockCoverage(new BlockLocation(
+            loc.withClass(ClassName.fromString("com.example.Foo")).build(), 42,
+            3, 300), Arrays.asList("Test2", "Test1")),
+        new BlockCoverage(new BlockLocation(
+            loc.withClass(ClassName.fromString("com.example.Bar")).build(), 7,
+            0, 0), Arrays.asList("Test3[case='quoted']", "Test1")));
+    this.testee.recordCoverage(coverage);
+
+    final List<BlockCoverage> actual = readBack();
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0).getBlock()).isEqualTo(coverage.get(0).getBlock());
+    assertThat(actual.get(0).getBlock().getFirstInsnInBlock()).isEqualTo(3);
+    assertThat(actual.get(0).getBlock().getLastInsnInBlock()).isEqualTo(300);
+    assertThat(actual.get(0).getTests()).containsExactly("Test1", "Test2");
+    assertThat(actual.get(1).getBlock()).isEqualTo(coverage.get(1).getBlock());
+    assertThat(actual.get(1).getTests()).containsExactly("Test1",
+        "Test3[case='quoted']");
+  }
+
+  @Test
+  public void shouldReadBackClassAndTimeOfEachTestOnce() {
+    final Location location = aLocation().build();
+    final List<BlockCoverage> coverage = Arrays.asList(
+        new BlockCoverage(new BlockLocation(location, 1, 1, 1),
+            Arrays.asList("com.example.FooTest.a", "unknown")),
+        new BlockCoverage(new BlockLocation(location, 2, 2, 2),
+            Collections.singletonList("com.example.FooTest.a")));
+    this.testee.recordCoverage(coverage, Collections.singletonList(
+        new TestInfo("com.example.FooTest", "com.example.FooTest.a", 42,
+            Optional.<ClassName> empty(), 2)));
+
+    final List<TestInfo> tests = new ArrayList<>();
+    BinaryCoverageReader.read(new ByteArrayInputStream(this.out.toByteArray()),
+        b -> { }, tests::add);
+
+    assertThat(tests).hasSize(2);
+    assertThat(tests.get(0).getName()).isEqualTo("com.example.FooTest.a");
+    assertThat(tests.get(0).getDefiningClass()).isEqualTo("com.example.FooTest");
+    assertThat(tests.get(0).getTime()).isEqualTo(42);
+    assertThat(tests.get(1).getName()).isEqualTo("unknown");
+    assertThat(tests.get(1).getDefiningClass()).isNull();
+    assertThat(tests.get(1).getTime()).isZero();
+  }
+
+  @Test
+  public void shouldWriteRepeatedStringsOnlyOnce() {
+    final String test = "com.example.AVeryLongTestClassNameIndeed.aTestWithAVeryLongName";
+    final Location location = aLocation().build();
+    final List<BlockCoverage> coverage = new ArrayList<>();
+    for (int i = 0; i != 100; i++) {
+      coverage.add(new BlockCoverage(new BlockLocation(location, i, i, i),
+          Collections.singletonList(test)));
+    }
+    this.testee.recordCoverage(coverage);
+
+    // a block's record takes a byte per field when its strings are in the table
+    assertThat(this.out.size()).isLessThan((test.length() * 2) + (100 * 10));
+    assertThat(readBack()).hasSize(100);
+  }
+
+  @Test
+  public void shouldRejectStreamsThatAreNotBinaryCoverage() {
+    final ByteArrayInputStream xml = new ByteArrayInputStream(
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<coverage>".getBytes());
+    assertThatThrownBy(() -> BinaryCoverageReader.read(xml, b -> { }))
+        .isInstanceOf(PitError.class);
+  }
+
+  private List<BlockCoverage> readBack() {
+    final List<BlockCoverage> blocks = new ArrayList<>();
+    BinaryCoverageReader.read(new ByteArrayInputStream(this.out.toByteArray()),
+        blocks::add);
+    return blocks;
+  }
+
+}
@@ -9,11 +9,13 @@ import java.io.Writer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.TestInfo;
 import org.pitest.coverage.CoverageMother.BlockLocationBuilder;
 import org.pitest.mutationtest.LocationMother.LocationBuilder;
 import org.pitest.util.ResultOutputStrategy;
@@ -88,4 +90,17 @@ public class DefaultCoverageExporterTest {
         "<tests>\n<test name='ParameterizedTest[case=\\0 Null-Byte]'/>\n</tests>");
   }
 
+  @Test
+  public void shouldExportClassAndTimeOfSuppliedTests() {
+    final BlockLocationBuilder block = aBlockLocation().withBlock(42);
+    final Collection<BlockCoverage> coverage = Collections.singletonList(
+        new BlockCoverage(block.build(), Arrays.asList("FooTest.a", "Other")));
+    this.testee.recordCoverage(coverage, Collections.singletonList(
+        new TestInfo("FooTest", "FooTest.a", 12, Optional.empty(), 1)));
+
+    final String actual = this.out.toString();
+    assertThat(actual).contains(
+        "<test name='FooTest.a' class='FooTest' time='12'/>\n<test name='Other'/>");
+  }
+
 }
@@ -16,6 +16,8 @@ package org.pitest.mutationtest;
 
 import static java.util.function.Predicate.isEqual;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 import static org.pitest.mutationtest.DetectionStatus.MEMORY_ERROR;
 import static org.pitest.mutationtest.DetectionStatus.NON_VIABLE;
@@ -32,6 +34,14 @@ import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import com.example.ExitsWhenMutated;
+import com.example.ExitsWhenMutatedTest;
+import com.example.FullyCoveredTestee;
+import com.example.FullyCoveredTesteeTest;
+import com.example.HasMutableStaticInitializer;
+import com.example.HasMutableStaticInitializerTest;
+import com.example.LoopsInCallee;
+import com.example.LoopsInCalleeTest;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -48,6 +58,7 @@ import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
+import org.pitest.coverage.execute.TestClassTimings;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
@@ -65,6 +76,7 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.DefaultJavaExecutableLocator;
@@ -87,6 +99,20 @@ public class TestMutationTesting {
 
   private MetaDataExtractor        metaDataExtractor;
 
+  private MinionPool               pool = MinionPool.disabled();
+
+  private int                      unitSize;
+
+  private boolean                  schemata;
+
+  private int                      workStealingBatchSize;
+
+  private boolean                  cooperativeTimeouts;
+
+  private boolean                  inProcess;
+
+  private int                      coverageShards = 1;
+
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -159,6 +185,95 @@ public class TestMutationTesting {
     verifyResults(SURVIVED, KILLED, KILLED);
   }
 
+  @Test
+  public void shouldAnalyseSeveralUnitsInOneReusedMinion() {
+    this.pool = new MinionPool(100);
+    this.unitSize = 1;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "RETURN_VALS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  public static class Reused {
+    public static int base() {
+      return 1;
+    }
+  }
+
+  public static class ReusedUser {
+    public static int twice() {
+      return Reused.base() * 2;
+    }
+
+    public static boolean isPositive() {
+      return Reused.base() > 0;
+    }
+  }
+
+  public static class ReusedUserTest {
+    @TestAnnotationForTesting
+    public void testTwice() {
+      assertEquals(2, ReusedUser.twice());
+    }
+
+    @TestAnnotationForTesting
+    public void testIsPositive() {
+      assertTrue(ReusedUser.isPositive());
+    }
+  }
+
+  @Test
+  public void shouldNotLeaveMutantInstalledForLaterUnitsOfReusedMinion() {
+    // units are per class, the first mutates Reused and the later ones test
+    // ReusedUser, which calls it
+    this.unitSize = 1;
+    run(Reused.class, ReusedUserTest.class, "RETURN_VALS");
+    final List<DetectionStatus> fresh = this.metaDataExtractor
+        .getDetectionStatus();
+    assertFalse(fresh.isEmpty());
+
+    setUp();
+    this.pool = new MinionPool(100);
+    run(Reused.class, ReusedUserTest.class, "RETURN_VALS");
+
+    verifyResults(fresh.toArray(new DetectionStatus[0]));
+  }
+
+  @Test
+  public void shouldAnalyseMutationsInStolenBatches() {
+    this.mae = new MutationAnalysisExecutor(2,
+        Collections
+            .<MutationResultListener> singletonList(this.metaDataExtractor));
+    this.workStealingBatchSize = 1;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "RETURN_VALS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldDetectMutationsWhenUsingMutantSchemata() {
+    this.schemata = true;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "RETURN_VALS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  public static class ThreeMutationsReturnThreeTest {
+    @TestAnnotationForTesting
+    public void testReturnThree() {
+      assertEquals(3, ThreeMutations.returnThree());
+    }
+  }
+
+  @Test
+  public void shouldMergeCoverageGatheredBySeveralMinions() {
+    this.coverageShards = 2;
+    run(ThreeMutations.class, Arrays.asList(
+        ThreeMutationsTwoMeaningfullTests.class,
+        ThreeMutationsReturnThreeTest.class), "RETURN_VALS");
+    verifyResults(KILLED, KILLED, KILLED);
+  }
+
   public static class FailingTest {
     @TestAnnotationForTesting
     public void fail() {
@@ -223,6 +338,31 @@ public class TestMutationTesting {
     verifyResults(KILLED, TIMED_OUT);
   }
 
+  @Test(timeout = 30000)
+  public void shouldReplaceReusedMinionAfterTimeout() {
+    this.pool = new MinionPool(100);
+    this.unitSize = 1;
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldDetectInfiniteLoopsWithCooperativeTimeouts() {
+    this.cooperativeTimeouts = true;
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldDetectInfiniteLoopsWhenUsingMutantSchemata() {
+    this.schemata = true;
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
   public static class OneMutationFullTestWithSystemPropertyDependency {
     @TestAnnotationForTesting
     public void testReturnOne() {
@@ -291,6 +431,39 @@ public class TestMutationTesting {
     verifyResults(KILLED, MEMORY_ERROR);
   }
 
+  @Test
+  public void shouldAnalyseMutationsInProcess() {
+    this.inProcess = true;
+    run(FullyCoveredTestee.class, FullyCoveredTesteeTest.class,
+        "RETURN_VALS");
+    // the test class is also mutated, but its equals method is not covered
+    verifyResults(KILLED, NO_COVERAGE, NO_COVERAGE, NO_COVERAGE);
+  }
+
+  @Test
+  public void shouldRunStaticInitializerOfEachMutantInProcess() {
+    this.inProcess = true;
+    run(HasMutableStaticInitializer.class,
+        HasMutableStaticInitializerTest.class, "MATH", "INLINE_CONSTS");
+    // a forked minion runs the initializer for the first mutant only, so
+    // kills just two
+    verifyResults(KILLED, KILLED, KILLED, SURVIVED, SURVIVED);
+  }
+
+  @Test
+  public void shouldRefuseCallsToSystemExitInProcess() {
+    this.inProcess = true;
+    run(ExitsWhenMutated.class, ExitsWhenMutatedTest.class, "RETURN_VALS");
+    verifyResults(KILLED);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldTimeOutLoopsInCalleesInProcess() {
+    this.inProcess = true;
+    run(LoopsInCallee.class, LoopsInCalleeTest.class, "INCREMENTS");
+    verifyResults(TIMED_OUT);
+  }
+
   @Test
   public void shouldIsolateMutationsFromNestedClasses() {
     // see http://code.google.com/p/pitestrunner/issues/detail?id=17 for full
@@ -310,11 +483,16 @@ public class TestMutationTesting {
 
   private void run(final Class<?> clazz, final Class<?> test,
       final String ... mutators) {
+    run(clazz, Collections.singletonList(test), mutators);
+  }
+
+  private void run(final Class<?> clazz, final Collection<Class<?>> tests,
+      final String ... mutators) {
 
     final ReportOptions data = new ReportOptions();
 
-    final Set<Predicate<String>> tests = Collections.singleton(isEqual(test.getName()));
-    data.setTargetTests(tests);
+    data.setTargetTests(FCollection.map(tests,
+        t -> Predicate.<String> isEqual(t.getName())));
     data.setDependencyAnalysisMaxDistance(-1);
 
     final Set<String> mutees = Collections.singleton(clazz.getName() + "*");
@@ -354,7 +532,8 @@ public class TestMutationTesting {
 
     final CoverageGenerator coverageGenerator = new DefaultCoverageGenerator(
         null, coverageOptions, launchOptions, code, new NullCoverageExporter(),
-        timings, Verbosity.DEFAULT);
+        timings, Verbosity.DEFAULT, this.coverageShards,
+        TestClassTimings.none());
 
     final CoverageDatabase coverageData = coverageGenerator.calculateCoverage();
 
@@ -362,12 +541,14 @@ public class TestMutationTesting {
         ClassInfo.toClassName());
 
     final EngineArguments arguments = EngineArguments.arguments()
-        .withMutators(mutators);
+        .withMutators(mutators)
+        .withMutantSchemata(this.schemata)
+        .withCooperativeTimeouts(this.cooperativeTimeouts);
 
     final MutationEngine engine = new GregorEngineFactory().createEngine(arguments);
 
     final MutationConfig mutationConfig = new MutationConfig(engine,
-        launchOptions);
+        launchOptions, this.inProcess);
 
     final ClassloaderByteArraySource bas = new ClassloaderByteArraySource(
         IsolationUtils.getContextClassLoader());
@@ -382,18 +563,23 @@ public class TestMutationTesting {
         coverageOptions.getPitConfig(), mutationConfig, arguments,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
             data.getTimeoutConstant()), data.getVerbosity(), false, data.getClassPath()
-            .getLocalClassPath());
+            .getLocalClassPath(), this.pool);
 
 
 
 
     final MutationTestBuilder builder = new MutationTestBuilder(wf,
-        new NullAnalyser(), source, new DefaultGrouper(0));
+        new NullAnalyser(), source, new DefaultGrouper(this.unitSize), 2,
+        this.workStealingBatchSize);
 
     final List<MutationAnalysisUnit> tus = builder
         .createMutationTestUnits(codeClasses);
 
-    this.mae.run(tus);
+    try {
+      this.mae.run(tus);
+    } finally {
+      this.pool.close();
+    }
   }
 
   private CoverageOptions createCoverageOptions(ReportOptions data) {
@@ -0,0 +1,73 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.build.MutationTestBuilderTest.createDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class ConcurrentDiscoveryTest {
+
+  private final MutationSource source  = mock(MutationSource.class);
+
+  private final Set<Thread>    threads = ConcurrentHashMap.newKeySet();
+
+  @Test
+  public void shouldKeepOrderOfClassesWhenDiscoveringConcurrently() {
+    when(this.source.canCreateMutationsConcurrently()).thenReturn(true);
+    final List<ClassName> classes = classes(50);
+
+    final List<MutationDetails> actual = ConcurrentDiscovery.findMutations(
+        this.source, 4, classes, recordingThreads());
+
+    assertThat(actual).extracting(MutationDetails::getClassName)
+        .isEqualTo(classes);
+  }
+
+  @Test
+  public void shouldDiscoverOnCallingThreadWhenSourceIsNotConcurrent() {
+    when(this.source.canCreateMutationsConcurrently()).thenReturn(false);
+
+    ConcurrentDiscovery.findMutations(this.source, 4, classes(50),
+        recordingThreads());
+
+    assertThat(this.threads).containsExactly(Thread.currentThread());
+  }
+
+  @Test
+  public void shouldDiscoverOnCallingThreadWhenGivenOneThread() {
+    when(this.source.canCreateMutationsConcurrently()).thenReturn(true);
+
+    ConcurrentDiscovery.findMutations(this.source, 1, classes(50),
+        recordingThreads());
+
+    assertThat(this.threads).containsExactly(Thread.currentThread());
+  }
+
+  private Function<ClassName, Collection<MutationDetails>> recordingThreads() {
+    return c -> {
+      this.threads.add(Thread.currentThread());
+      return Collections.singletonList(createDetails(c.asJavaName()));
+    };
+  }
+
+  private static List<ClassName> classes(final int count) {
+    final List<ClassName> classes = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      classes.add(ClassName.fromString("com.example.C" + i));
+    }
+    return classes;
+  }
+
+}
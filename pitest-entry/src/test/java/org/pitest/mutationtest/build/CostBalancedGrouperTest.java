@@ -0,0 +1,108 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.LocationMother;
+import org.pitest.mutationtest.LocationMother.LocationBuilder;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class CostBalancedGrouperTest {
+
+  private CostBalancedGrouper testee;
+
+  @Test
+  public void shouldEstimateCostFromTimeOfCoveringTests() {
+    final MutationDetails mutation = createDetails("foo", 100, 20);
+    assertThat(CostBalancedGrouper.cost(mutation))
+        .isEqualTo(120 + CostBalancedGrouper.MUTANT_OVERHEAD);
+  }
+
+  @Test
+  public void shouldSplitClassIntoUnitsOfSimilarCost() {
+    this.testee = new CostBalancedGrouper(1, 0);
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 8; i++) {
+      mutations.add(createDetails("foo", 90));
+    }
+
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, mutations);
+
+    assertThat(actual).hasSize(4);
+    assertThat(actual).allMatch(unit -> unit.size() == 2);
+  }
+
+  @Test
+  public void shouldNotCombineMutationsFromDifferentClasses() {
+    this.testee = new CostBalancedGrouper(1, 0);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(createDetails("foo", 1), createDetails("bar", 1)));
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldPlaceExpensiveMutationInUnitOfItsOwn() {
+    this.testee = new CostBalancedGrouper(1, 0);
+    final MutationDetails expensive = createDetails("foo", 10000);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(createDetails("foo", 1), expensive,
+            createDetails("foo", 1)));
+    assertThat(actual).contains(Collections.singletonList(expensive));
+  }
+
+  @Test
+  public void shouldOrderMostExpensiveUnitFirst() {
+    this.testee = new CostBalancedGrouper(1, 0);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(createDetails("foo", 1), createDetails("bar", 500),
+            createDetails("baz", 50)));
+    assertThat(actual).extracting(CostBalancedGrouper::totalCost)
+        .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+  }
+
+  @Test
+  public void shouldNotExceedUnitSize() {
+    this.testee = new CostBalancedGrouper(1, 1);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        null, Arrays.asList(createDetails("foo", 1), createDetails("foo", 1),
+            createDetails("foo", 1)));
+    assertThat(actual).hasSize(3);
+  }
+
+  @Test
+  public void shouldPrioritiseUnitsByCost() {
+    this.testee = new CostBalancedGrouper(1, 0);
+    final List<MutationDetails> cheap = Arrays.asList(createDetails("foo", 1),
+        createDetails("foo", 1));
+    final List<MutationDetails> expensive = Collections.singletonList(
+        createDetails("foo", 1000));
+    assertThat(this.testee.priority(expensive))
+        .isGreaterThan(this.testee.priority(cheap));
+  }
+
+  private static MutationDetails createDetails(final String clazz,
+      final int... testTimes) {
+    final LocationBuilder lb = LocationMother.aLocation().withClass(
+        ClassName.fromString(clazz));
+    final MutationDetails md = new MutationDetails(aMutationId()
+        .withLocation(lb).build(), "", "desc", 42, 0);
+    final List<TestInfo> tests = new ArrayList<>();
+    for (final int time : testTimes) {
+      tests.add(new TestInfo(clazz + "Test", "test" + tests.size(), time,
+          Optional.empty(), 0));
+    }
+    md.addTestsInOrder(tests);
+    return md;
+  }
+
+}
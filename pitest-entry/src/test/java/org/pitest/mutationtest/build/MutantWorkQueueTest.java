@@ -0,0 +1,57 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class MutantWorkQueueTest {
+
+  private final MutantWorkQueue testee = new MutantWorkQueue(2);
+
+  @Test
+  public void shouldTakeBatchesFromHeadOfOwnSlot() {
+    final List<MutationDetails> mutations = mutations(3);
+    final Deque<MutationDetails> slot = this.testee.register(mutations);
+
+    assertThat(this.testee.take(slot)).containsExactly(mutations.get(0),
+        mutations.get(1));
+    assertThat(this.testee.take(slot)).containsExactly(mutations.get(2));
+    assertThat(this.testee.take(slot)).isEmpty();
+  }
+
+  @Test
+  public void shouldStealFromTailOfLargestSlotWhenOwnSlotEmpty() {
+    final List<MutationDetails> small = mutations(1);
+    final List<MutationDetails> large = mutations(5);
+    this.testee.register(small);
+    this.testee.register(large);
+    final Deque<MutationDetails> idle = this.testee
+        .register(Collections.emptyList());
+
+    assertThat(this.testee.take(idle)).containsExactly(large.get(3),
+        large.get(4));
+  }
+
+  @Test
+  public void shouldReportMutationsNotYetTaken() {
+    final Deque<MutationDetails> slot = this.testee
+        .register(mutations(3));
+    this.testee.take(slot);
+    assertThat(this.testee.remaining()).isEqualTo(1);
+  }
+
+  private static List<MutationDetails> mutations(final int count) {
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      mutations.add(MutationTestBuilderTest.createDetails("class" + i));
+    }
+    return mutations;
+  }
+
+}
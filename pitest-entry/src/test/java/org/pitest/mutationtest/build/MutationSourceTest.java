@@ -5,6 +5,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.pitest.bytecode.analysis.ClassTreeCache;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
@@ -22,10 +23,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 
@@ -76,6 +82,47 @@ public class MutationSourceTest {
     assertEquals(expected, actual.getTestsInOrder());
   }
 
+  @Test
+  public void shouldAssignTestsToDiscoveredMutationsWithoutSearchingAgain() {
+    final List<TestInfo> expected = makeTestInfos(0);
+    final List<MutationDetails> mutations = makeMutations("foo");
+    when(this.prioritiser.assignTests(any(MutationDetails.class))).thenReturn(
+        expected);
+
+    final MutationDetails actual = this.testee
+        .createMutations(this.foo, mutations).iterator().next();
+
+    assertEquals(expected, actual.getTestsInOrder());
+    verify(this.mutater, never()).findMutations(any(ClassName.class));
+  }
+
+  @Test
+  public void shouldGiveEachThreadItsOwnInterceptorWhenCreatedWithSupplier()
+      throws Exception {
+    when(this.mutater.findMutations(any(ClassName.class)))
+    .thenReturn(makeMutations("foo"));
+    final AtomicInteger created = new AtomicInteger();
+    this.testee = new MutationSource(this.config, this.prioritiser,
+        this.source, () -> {
+          created.incrementAndGet();
+          return CompoundMutationInterceptor.nullInterceptor();
+        }, new ClassTreeCache(10));
+
+    this.testee.createMutations(this.foo);
+    this.testee.createMutations(this.foo);
+    final Thread other = new Thread(() -> this.testee.createMutations(this.foo));
+    other.start();
+    other.join();
+
+    assertEquals(2, created.get());
+    assertTrue(this.testee.canCreateMutationsConcurrently());
+  }
+
+  @Test
+  public void shouldNotCreateMutationsConcurrentlyWhenGivenSingleInterceptor() {
+    assertFalse(this.testee.canCreateMutationsConcurrently());
+  }
+
   private List<TestInfo> makeTestInfos(final Integer... times) {
     return new ArrayList<>(FCollection.map(Arrays.asList(times),
         timeToTestInfo()));
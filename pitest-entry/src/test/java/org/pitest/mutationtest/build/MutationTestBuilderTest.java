@@ -1,13 +1,18 @@
 package org.pitest.mutationtest.build;
 
+import static java.util.Comparator.comparing;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -16,6 +21,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
 
@@ -80,6 +86,105 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldUsePriorityAssignedByGrouper() {
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new DefaultGrouper(0) {
+          @Override
+          public int priority(Collection<MutationDetails> group) {
+            return 1000;
+          }
+        });
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(createDetails("foo")));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+    assertEquals(1000, actual.get(0).priority());
+  }
+
+  @Test
+  public void shouldCreateWorkStealingUnitsWhenBatchSizeGiven() {
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new DefaultGrouper(0), 1, 2);
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(createDetails("foo"), createDetails("foo")));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+    assertEquals(1, actual.size());
+    assertTrue(actual.get(0) instanceof WorkStealingMutationTestUnit);
+  }
+
+  @Test
+  public void shouldAddStealingUnitsForThreadsWithoutUnitOfTheirOwn() {
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new DefaultGrouper(0), 4, 2);
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(createDetails("foo"), createDetails("foo")));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+    assertEquals(4, actual.size());
+    assertEquals(0, actual.get(3).priority());
+  }
+
+  @Test
+  public void shouldNotAddStealingUnitsWhenNoMutationsFound() {
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new DefaultGrouper(0), 4, 2);
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Collections.<MutationDetails> emptyList());
+    assertTrue(this.testee.createMutationTestUnits(
+        Arrays.asList(ClassName.fromString("foo"))).isEmpty());
+  }
+
+  @Test
+  public void shouldFindSameMutationsInSameOrderWhenDiscoveringConcurrently() {
+    final List<ClassName> classes = new ArrayList<>();
+    final List<MutationDetails> expected = new ArrayList<>();
+    for (int i = 0; i != 50; i++) {
+      final ClassName clazz = ClassName.fromString("com.example.C" + i);
+      final MutationDetails mutation = createDetails(clazz.asJavaName());
+      classes.add(clazz);
+      expected.add(mutation);
+      when(this.source.createMutations(clazz)).thenReturn(
+          Collections.singletonList(mutation));
+    }
+    expected.sort(comparing(MutationDetails::getId));
+    when(this.source.canCreateMutationsConcurrently()).thenReturn(true);
+
+    final List<MutationDetails> analysed = new ArrayList<>();
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser() {
+      @Override
+      public Collection<MutationResult> analyse(
+          final Collection<MutationDetails> mutations) {
+        analysed.addAll(mutations);
+        return super.analyse(mutations);
+      }
+    }, this.source, new DefaultGrouper(0), 4, 0);
+    this.testee.createMutationTestUnits(classes);
+
+    assertEquals(expected, analysed);
+  }
+
+  @Test
+  public void shouldCompleteDiscoveredMutationsOfEachClass() {
+    final ClassName foo = ClassName.fromString("foo");
+    final ClassName bar = ClassName.fromString("bar");
+    final MutationDetails mutation = createDetails("foo");
+    when(this.source.createMutations(foo,
+        Collections.singletonList(mutation))).thenReturn(
+            Collections.singletonList(mutation));
+    when(this.source.createMutations(bar,
+        Collections.<MutationDetails> emptyList())).thenReturn(
+            Collections.<MutationDetails> emptyList());
+
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(foo, bar),
+            Collections.singletonList(mutation));
+
+    assertEquals(1, actual.size());
+    verify(this.source, never()).createMutations(any(ClassName.class));
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
@@ -23,6 +23,7 @@ import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.testapi.Configuration;
@@ -57,7 +58,7 @@ public class MutationTestUnitTest {
     this.tests = new ArrayList<>();
     this.testee = new MutationTestUnit(this.mutations, this.tests,
         new WorkerFactory(null, TestPluginArguments.defaults(), this.mutationConfig, EngineArguments.arguments(), this.timeout,
-            Verbosity.DEFAULT, false, null));
+            Verbosity.DEFAULT, false, null, MinionPool.disabled()));
 
   }
 
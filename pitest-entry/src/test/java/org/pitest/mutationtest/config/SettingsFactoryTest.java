@@ -1,16 +1,24 @@
 package org.pitest.mutationtest.config;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
+import org.pitest.mutationtest.build.CostBalancedMutationGrouperFactory;
+import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.PitError;
+import org.pitest.util.ResultOutputStrategy;
 
 import java.io.File;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.function.Consumer;
@@ -25,6 +33,9 @@ import static org.mockito.Mockito.verify;
 
 public class SettingsFactoryTest {
 
+  @Rule
+  public TemporaryFolder       folder  = new TemporaryFolder();
+
   private final ReportOptions  options = new ReportOptions();
 
   private final PluginServices plugins = PluginServices.makeForContextLoader();
@@ -37,12 +48,52 @@ public class SettingsFactoryTest {
     this.options.setGroupConfig(new TestGroupConfig());
   }
 
+  @Test
+  public void shouldNotReuseMinionsByDefault() {
+    assertFalse(this.testee.createMinionPool().isEnabled());
+  }
+
+  @Test
+  public void shouldReuseMinionsWhenLimitSet() {
+    this.options.setMinionReuseLimit(10);
+    assertTrue(this.testee.createMinionPool().isEnabled());
+  }
+
+  @Test
+  public void shouldReuseMinionsBetweenBatchesWhenWorkStealing() {
+    this.options.setWorkStealingBatchSize(5);
+    assertTrue(this.testee.createMinionPool().isEnabled());
+  }
+
   @Test
   public void shouldReturnANullCoverageExporterWhenOptionSetToFalse() {
     this.options.setExportLineCoverage(false);
     assertTrue(this.testee.createCoverageExporter() instanceof NullCoverageExporter);
   }
 
+  @Test
+  public void shouldReturnABinaryCoverageExporterWhenRequested() {
+    this.options.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.options.setExportLineCoverage(true);
+    this.options.setExportBinaryLineCoverage(true);
+    assertTrue(this.testee.createCoverageExporter() instanceof BinaryCoverageExporter);
+  }
+
+  @Test
+  public void shouldExportXmlCoverageWhenOutputCannotBeBinary() {
+    final ResultOutputStrategy textOnly = sourceFile -> new StringWriter();
+    final ReportOptions textOnlyOptions = new ReportOptions() {
+      @Override
+      public ResultOutputStrategy getReportDirectoryStrategy() {
+        return textOnly;
+      }
+    };
+    textOnlyOptions.setExportLineCoverage(true);
+    textOnlyOptions.setExportBinaryLineCoverage(true);
+    this.testee = new SettingsFactory(textOnlyOptions, this.plugins);
+    assertTrue(this.testee.createCoverageExporter() instanceof DefaultCoverageExporter);
+  }
+
   @Test
   public void shouldReturnEngineWhenRequestedEngineIsKnown() {
     assertTrue(this.testee.createEngine() instanceof GregorEngineFactory);
@@ -72,6 +123,19 @@ public class SettingsFactoryTest {
     this.testee.createListener();
   }
 
+  @Test
+  public void shouldUseDefaultGroupingUnlessUnitsAreBalanced() {
+    assertTrue(this.testee
+        .getMutationGrouper() instanceof DefaultMutationGrouperFactory);
+  }
+
+  @Test
+  public void shouldUseCostBalancedGroupingWhenRequested() {
+    this.options.setBalanceMutationUnits(true);
+    assertTrue(this.testee
+        .getMutationGrouper() instanceof CostBalancedMutationGrouperFactory);
+  }
+
   @Test
   public void shouldReturnADefaultJavaExecutableWhenNoneIsSpecified() {
     this.options.setJavaExecutable(null);
@@ -104,6 +168,13 @@ public class SettingsFactoryTest {
     assertFalse(actual.getFilter().test("org/pitest/coverage"));
   }
 
+  @Test
+  public void shouldPassCoverageTestThreadsToCoverageOptions() {
+    this.options.setCoverageTestThreads(3);
+    final CoverageOptions actual = this.testee.createCoverageOptions();
+    assertEquals(3, actual.getTestThreads());
+  }
+
   @Test
   public void shouldDescribeActiveFeatures() {
     final Consumer<Feature> disabled = Mockito.mock(Consumer.class);
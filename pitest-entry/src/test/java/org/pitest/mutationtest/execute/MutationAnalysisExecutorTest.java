@@ -0,0 +1,134 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.build.MutationTestBuilderTest;
+
+public class MutationAnalysisExecutorTest {
+
+  private final List<String>   delivered        = new ArrayList<>();
+
+  private final CountDownLatch fastUnitReported = new CountDownLatch(1);
+
+  @Test(timeout = 10000)
+  public void shouldDeliverResultsAsSoonAsEachUnitCompletes() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.singletonList(new RecordingListener()));
+
+    // only completes once the later unit's results have been delivered
+    final MutationAnalysisUnit slow = unit("slow",
+        () -> this.fastUnitReported.await());
+    final MutationAnalysisUnit fast = unit("fast", () -> { });
+
+    testee.run(Arrays.asList(slow, fast));
+
+    assertThat(this.delivered).containsExactly("fast", "slow");
+  }
+
+  @Test
+  public void shouldDeliverResultsOfEveryUnit() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.singletonList(new RecordingListener()));
+
+    testee.run(Arrays.asList(unit("a", () -> { }), unit("b", () -> { })));
+
+    assertThat(this.delivered).containsExactly("a", "b");
+  }
+
+  @Test(timeout = 10000)
+  public void shouldDeliverResultsOfEachCallOfUnitWithMoreWork() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.singletonList(new RecordingListener()));
+
+    final Deque<String> batches = new ArrayDeque<>(Arrays.asList("a", "b"));
+    final MutationAnalysisUnit batched = new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        final String clazz = batches.pop();
+        if (clazz.equals("b")) {
+          // only called again once the first batch has been delivered
+          MutationAnalysisExecutorTest.this.fastUnitReported.await();
+        }
+        return resultFor(clazz);
+      }
+
+      @Override
+      public boolean hasMoreWork() {
+        return !batches.isEmpty();
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+    };
+
+    testee.run(Collections.singletonList(batched));
+
+    assertThat(this.delivered).containsExactly("a", "b");
+  }
+
+  private interface Work {
+    void run() throws InterruptedException;
+  }
+
+  private static MutationAnalysisUnit unit(final String clazz,
+      final Work work) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        work.run();
+        return resultFor(clazz);
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+    };
+  }
+
+  private static MutationMetaData resultFor(final String clazz) {
+    final List<MutationResult> results = new ArrayList<>();
+    results.add(new MutationResult(
+        MutationTestBuilderTest.createDetails(clazz),
+        MutationStatusTestPair.notAnalysed(0, DetectionStatus.KILLED)));
+    return new MutationMetaData(results);
+  }
+
+  private class RecordingListener implements MutationResultListener {
+
+    @Override
+    public void runStart() {
+    }
+
+    @Override
+    public void handleMutationResult(final ClassMutationResults results) {
+      MutationAnalysisExecutorTest.this.delivered
+          .add(results.getMutatedClass().asJavaName());
+      MutationAnalysisExecutorTest.this.fastUnitReported.countDown();
+    }
+
+    @Override
+    public void runEnd() {
+    }
+
+  }
+
+}
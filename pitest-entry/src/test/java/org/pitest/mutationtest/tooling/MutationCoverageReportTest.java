@@ -28,6 +28,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Before;
@@ -204,6 +205,22 @@ public class MutationCoverageReportTest {
     assertEquals(1, actual.getMutationStatistics().getTotalMutations());
   }
 
+  @Test
+  public void shouldGatherCoverageOfOnlyMutatedClassesWhenFlagSet() {
+    this.data.setCoverageOfMutatedClassesOnly(true);
+    final ClassName foo = ClassName.fromClass(Foo.class);
+    final ClassName bar = ClassName.fromString("com.example.Bar");
+    when(this.mutater.findMutations(foo)).thenReturn(aMutantIn(Foo.class));
+    when(this.code.getCodeUnderTestNames()).thenReturn(
+        new HashSet<>(Arrays.asList(foo, bar)));
+    when(this.coverage.calculateCoverage(anyCollection())).thenReturn(this.coverageDb);
+
+    createAndRunTestee();
+
+    verify(this.coverage).calculateCoverage(Collections.singleton(foo));
+    verify(this.coverage, never()).calculateCoverage();
+  }
+
 
   private List<MutationDetails> aMutantIn(Class<Foo> clazz) {
     return MutationDetailsMother.aMutationDetail()
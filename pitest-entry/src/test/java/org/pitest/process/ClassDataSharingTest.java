@@ -0,0 +1,230 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.util.NullJavaAgent;
+import org.pitest.util.StreamUtil;
+
+public class ClassDataSharingTest {
+
+  private static final String JAVA       = new DefaultJavaExecutableLocator()
+      .javaExecutable();
+
+  private static final String CLASS_PATH = "a.jar" + File.pathSeparator
+      + "b.jar";
+
+  @Rule
+  public TemporaryFolder      folder     = new TemporaryFolder();
+
+  public static class Main {
+    public static void main(final String[] args) {
+      System.exit(Library.answer() == 42 ? 0 : 1);
+    }
+  }
+
+  public static class Library {
+    static int answer() {
+      return 42;
+    }
+  }
+
+  @Test
+  public void shouldAddNoArgumentsWhenDisabled() {
+    assertThat(ClassDataSharing.disabled().argumentsFor(JAVA, CLASS_PATH)
+        .arguments()).isEmpty();
+  }
+
+  @Test
+  public void shouldAddNoArgumentsForOtherJavaExecutables() {
+    final ClassDataSharing testee = new ClassDataSharing(this.folder.getRoot());
+    assertThat(testee.argumentsFor("/not/this/java", CLASS_PATH).arguments())
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldAddNoArgumentsWhenClassPathStartsWithADirectory()
+      throws Exception {
+    assumeSupportedJava();
+    final ClassDataSharing testee = new ClassDataSharing(this.folder.getRoot());
+    final String classPath = this.folder.newFolder("classes")
+        .getAbsolutePath() + File.pathSeparator + CLASS_PATH;
+    assertThat(testee.argumentsFor(JAVA, classPath).arguments()).isEmpty();
+  }
+
+  @Test
+  public void shouldAskFirstMinionOnlyToRecordClasses() {
+    assumeSupportedJava();
+    final ClassDataSharing testee = new ClassDataSharing(this.folder.getRoot());
+    final ClassDataSharing.Launch first = testee.argumentsFor(JAVA, CLASS_PATH);
+    assertThat(first.arguments()).hasSize(1)
+        .allMatch(a -> a.startsWith("-XX:DumpLoadedClassList="));
+    assertThat(first.isRecording()).isTrue();
+    final ClassDataSharing.Launch second = testee.argumentsFor(JAVA, CLASS_PATH);
+    assertThat(second.arguments()).isEmpty();
+    assertThat(second.isRecording()).isFalse();
+  }
+
+  @Test
+  public void shouldOnlyTreatMinionLaunchedToRecordAsRecording()
+      throws Exception {
+    assumeSupportedJava();
+    final ClassDataSharing testee = new ClassDataSharing(this.folder.getRoot());
+    final ClassDataSharing.Launch recording = testee.argumentsFor(JAVA,
+        CLASS_PATH);
+    final ClassDataSharing.Launch other = testee.argumentsFor(JAVA, CLASS_PATH);
+
+    // the minion without the flag may start first
+    final Process process = new ProcessBuilder(JAVA, "-version").start();
+    try {
+      assertThat(testee.started(other, process)).isFalse();
+      assertThat(testee.started(recording, process)).isTrue();
+    } finally {
+      process.destroy();
+    }
+  }
+
+  @Test
+  public void shouldMoveJarsAheadOfDirectories() throws Exception {
+    final String directory = directoryContaining(Main.class);
+    final String jar = jarContaining(Library.class);
+    assertThat(ClassDataSharing.jarsFirst(directory + File.pathSeparator + jar))
+        .isEqualTo(jar + File.pathSeparator + directory);
+  }
+
+  @Test
+  public void shouldNotMoveJarsThatShadowDirectories() throws Exception {
+    final String directory = directoryContaining(Main.class);
+    final String jar = jarContaining(Main.class);
+    final String classPath = directory + File.pathSeparator + jar;
+    assertThat(ClassDataSharing.jarsFirst(classPath)).isEqualTo(classPath);
+  }
+
+  @Test
+  public void shouldShareArchiveOfJarsWhenClassPathContainsDirectories()
+      throws Exception {
+    assumeSupportedJava();
+    final ClassDataSharing testee = new ClassDataSharing(
+        this.folder.newFolder("archives"));
+    final String classPath = directoryContaining(Main.class)
+        + File.pathSeparator + jarContaining(Library.class);
+
+    final WrappingProcess first = launch(testee, classPath,
+        Collections.<String> emptyList());
+    // minions are destroyed as soon as they report their results
+    first.destroy();
+    assertThat(first.getProcess().waitToDie()).isEqualTo(0);
+
+    final String launchClassPath = testee.classPathFor(JAVA, classPath);
+    final List<String> actual = awaitArchive(testee, launchClassPath);
+    assertThat(actual).hasSize(1)
+        .allMatch(a -> a.startsWith("-XX:SharedArchiveFile="));
+
+    // the JVM refuses to start if the archive cannot be used
+    final WrappingProcess second = launch(testee, classPath,
+        Collections.singletonList("-Xshare:on"));
+    assertThat(second.getProcess().waitToDie()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldKeyArchivesByClassPath() {
+    assertThat(ClassDataSharing.key(JAVA, "a.jar"))
+        .isNotEqualTo(ClassDataSharing.key(JAVA, "b.jar"));
+    assertThat(ClassDataSharing.key(JAVA, "a.jar"))
+        .isEqualTo(ClassDataSharing.key(JAVA, "a.jar"));
+  }
+
+  @Test
+  public void shouldRekeyArchivesWhenAJarChanges() throws Exception {
+    final File jar = this.folder.newFile("c.jar");
+    final String before = ClassDataSharing.key(JAVA, jar.getAbsolutePath());
+    Files.write(jar.toPath(), new byte[] { 1, 2, 3 });
+    assertThat(ClassDataSharing.key(JAVA, jar.getAbsolutePath()))
+        .isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldParseJavaSpecificationVersions() {
+    assertThat(ClassDataSharing.javaVersion("1.8")).isEqualTo(8);
+    assertThat(ClassDataSharing.javaVersion("11")).isEqualTo(11);
+    assertThat(ClassDataSharing.javaVersion("17.0.1")).isEqualTo(17);
+  }
+
+  private List<String> awaitArchive(final ClassDataSharing cds,
+      final String classPath) throws InterruptedException {
+    for (int i = 0; i != 600; i++) {
+      final List<String> args = cds.argumentsFor(JAVA, classPath).arguments();
+      if (!args.isEmpty()) {
+        return args;
+      }
+      Thread.sleep(100);
+    }
+    return Collections.emptyList();
+  }
+
+  private String jarContaining(final Class<?> clazz) throws IOException {
+    final File jar = this.folder.newFile(clazz.getSimpleName() + ".jar");
+    final String entry = entryFor(clazz);
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new JarEntry(entry));
+      out.write(bytesFor(clazz));
+      out.closeEntry();
+    }
+    return jar.getAbsolutePath();
+  }
+
+  private String directoryContaining(final Class<?> clazz) throws IOException {
+    final File directory = this.folder.newFolder(clazz.getSimpleName());
+    final File file = new File(directory, entryFor(clazz));
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(), bytesFor(clazz));
+    return directory.getAbsolutePath();
+  }
+
+  private static String entryFor(final Class<?> clazz) {
+    return clazz.getName().replace('.', '/') + ".class";
+  }
+
+  private static byte[] bytesFor(final Class<?> clazz) throws IOException {
+    try (InputStream in = clazz.getClassLoader()
+        .getResourceAsStream(entryFor(clazz))) {
+      return StreamUtil.streamToByteArray(in);
+    }
+  }
+
+  private WrappingProcess launch(final ClassDataSharing cds,
+      final String classPath, final List<String> jvmArgs) throws Exception {
+    final LaunchOptions launchOptions = new LaunchOptions(
+        NullJavaAgent.instance(), new DefaultJavaExecutableLocator(), jvmArgs,
+        new HashMap<String, String>()).withClassDataSharing(cds);
+
+    final ProcessArgs processArgs = ProcessArgs.withClassPath(classPath)
+        .andBaseDir(this.folder.getRoot()).andLaunchOptions(launchOptions)
+        .andStdout(a -> { }).andStderr(a -> { });
+
+    final WrappingProcess process = new WrappingProcess(-1, processArgs,
+        Main.class);
+    process.start();
+    return process;
+  }
+
+  private static void assumeSupportedJava() {
+    assumeTrue(ClassDataSharing.javaVersion(
+        System.getProperty("java.specification.version")) >= 13);
+  }
+
+}
@@ -0,0 +1,29 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class CacheKeysTest {
+
+  @Test
+  public void shouldGiveSameKeyForSameParts() {
+    assertThat(CacheKeys.of("a.jar", "b")).isEqualTo(CacheKeys.of("a.jar", "b"));
+  }
+
+  @Test
+  public void shouldGiveDifferentKeysForDifferentParts() {
+    assertThat(CacheKeys.of("a.jar")).isNotEqualTo(CacheKeys.of("b.jar"));
+  }
+
+  @Test
+  public void shouldNotLetPartsRunIntoOneAnother() {
+    assertThat(CacheKeys.of("ab", "c")).isNotEqualTo(CacheKeys.of("a", "bc"));
+  }
+
+  @Test
+  public void shouldGiveKeysUsableAsFileNames() {
+    assertThat(CacheKeys.of("/some/path.jar")).matches("[0-9a-f]{32}");
+  }
+
+}
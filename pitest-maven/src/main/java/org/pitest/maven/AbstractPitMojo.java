@@ -368,6 +368,117 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(property = "useClasspathJar", defaultValue = "false")
   private boolean                     useClasspathJar;
 
+  /**
+   * Number of mutations a minion may analyse, across analysis units, before
+   * it is replaced by a fresh one. A value of 0 disables reuse so that each
+   * unit launches its own minion.
+   */
+  @Parameter(property = "minionReuseLimit", defaultValue = "0")
+  private int                         minionReuseLimit;
+
+  /**
+   * Combine the mutants of each class into a single class in which the
+   * active mutant is selected at runtime, rather than redefining the class
+   * for every mutant. Mutants in constructors and static initializers are
+   * still analysed by redefinition.
+   */
+  @Parameter(property = "mutantSchemata", defaultValue = "false")
+  private boolean                     mutantSchemata;
+
+  /**
+   * Group mutations into units of similar estimated cost, based on the time
+   * taken by the tests that cover them
+   */
+  @Parameter(property = "balanceMutationUnits", defaultValue = "false")
+  private boolean                     balanceMutationUnits;
+
+  /**
+   * Number of mutations handed to a minion at a time. When greater than
+   * zero, threads that run out of work steal batches not yet started by
+   * other units. Minions are reused between batches, for up to 1000
+   * mutations unless minionReuseLimit is set
+   */
+  @Parameter(property = "workStealingBatchSize", defaultValue = "0")
+  private int                         workStealingBatchSize;
+
+  /**
+   * Insert timeout checks into the loops of mutated methods, so a timed out
+   * mutant can be stopped without restarting the minion
+   */
+  @Parameter(property = "cooperativeTimeouts", defaultValue = "false")
+  private boolean                     cooperativeTimeouts;
+
+  /**
+   * Create an application class data sharing archive with the first minion,
+   * and use it to speed up the startup of later minions. Requires java 13
+   * or later
+   */
+  @Parameter(property = "classDataSharing", defaultValue = "false")
+  private boolean                     classDataSharing;
+
+  /**
+   * Run mutation analysis minions on threads of the main process, loading
+   * each mutant into a fresh classloader. Calls to System.exit by code under
+   * test loaded from directories are made to throw, but calls made from jars
+   * are not. A test that ignores a timeout keeps running until pitest exits,
+   * and its test class is then analysed in forked minions
+   */
+  @Parameter(property = "inProcessAnalysis", defaultValue = "false")
+  private boolean                     inProcessAnalysis;
+
+  /**
+   * Keep the coverage of each test class between runs, and only gather it
+   * again for test classes that have changed or that covered classes that
+   * have changed
+   */
+  @Parameter(property = "coverageCache", defaultValue = "false")
+  private boolean                     coverageCache;
+
+  /**
+   * Instrument only classes in which mutations were found when gathering
+   * coverage. Coverage reported for other classes will be empty
+   */
+  @Parameter(property = "coverageOfMutatedClassesOnly", defaultValue = "false")
+  private boolean                     coverageOfMutatedClassesOnly;
+
+  /**
+   * Number of threads on which each coverage minion runs test classes. When
+   * more than one, hits are recorded separately for each thread so that
+   * test classes can run at the same time
+   */
+  @Parameter(property = "coverageTestThreads", defaultValue = "1")
+  private int                         coverageTestThreads;
+
+  /**
+   * Export line coverage in a compact binary format, to linecoverage.bin,
+   * rather than as xml. Has no effect unless line coverage is exported
+   */
+  @Parameter(property = "exportBinaryLineCoverage", defaultValue = "false")
+  private boolean                     exportBinaryLineCoverage;
+
+  /**
+   * Line coverage files, as exported by earlier runs, from which to build
+   * coverage instead of running the tests to gather it
+   */
+  @Parameter(property = "importCoverage")
+  private ArrayList<String>           importCoverage;
+
+  /**
+   * Remember how long each test class took while gathering coverage, under
+   * the report directory, so later runs can share test classes evenly
+   * between coverage minions
+   */
+  @Parameter(property = "testClassTimings", defaultValue = "false")
+  private boolean                     testClassTimings;
+
+  /**
+   * Number of coverage minions to gather coverage in at once, each running
+   * a share of the test classes. Test classes in different minions run at
+   * the same time, so should not share ports, files or other state
+   */
+  @Parameter(property = "coverageMinions", defaultValue = "1")
+  private int                         coverageMinions;
+
   /**
    * Amount of debug information/noise to output. The boolean
    * verbose flag overrides this value when it is set to true.
@@ -711,6 +822,62 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.useClasspathJar;
   }
 
+  public int getMinionReuseLimit() {
+    return this.minionReuseLimit;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public boolean isBalanceMutationUnits() {
+    return this.balanceMutationUnits;
+  }
+
+  public int getWorkStealingBatchSize() {
+    return this.workStealingBatchSize;
+  }
+
+  public boolean isCooperativeTimeouts() {
+    return this.cooperativeTimeouts;
+  }
+
+  public boolean isClassDataSharing() {
+    return this.classDataSharing;
+  }
+
+  public boolean isInProcessAnalysis() {
+    return this.inProcessAnalysis;
+  }
+
+  public boolean isCoverageCache() {
+    return this.coverageCache;
+  }
+
+  public boolean isCoverageOfMutatedClassesOnly() {
+    return this.coverageOfMutatedClassesOnly;
+  }
+
+  public int getCoverageTestThreads() {
+    return this.coverageTestThreads;
+  }
+
+  public boolean isExportBinaryLineCoverage() {
+    return this.exportBinaryLineCoverage;
+  }
+
+  public List<String> getImportCoverage() {
+    return withoutNulls(this.importCoverage);
+  }
+
+  public boolean isTestClassTimings() {
+    return this.testClassTimings;
+  }
+
+  public int getCoverageMinions() {
+    return this.coverageMinions;
+  }
+
   public String getVerbosity() {
     return verbosity;
   }
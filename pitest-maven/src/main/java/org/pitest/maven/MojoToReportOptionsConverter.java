@@ -95,6 +95,22 @@ public class MojoToReportOptionsConverter {
     }
 
     data.setUseClasspathJar(this.mojo.isUseClasspathJar());
+    data.setMinionReuseLimit(this.mojo.getMinionReuseLimit());
+    data.setMutantSchemata(this.mojo.isMutantSchemata());
+    data.setBalanceMutationUnits(this.mojo.isBalanceMutationUnits());
+    data.setWorkStealingBatchSize(this.mojo.getWorkStealingBatchSize());
+    data.setCooperativeTimeouts(this.mojo.isCooperativeTimeouts());
+    data.setClassDataSharing(this.mojo.isClassDataSharing());
+    data.setInProcessAnalysis(this.mojo.isInProcessAnalysis());
+    data.setCoverageCache(this.mojo.isCoverageCache());
+    data.setCoverageOfMutatedClassesOnly(this.mojo.isCoverageOfMutatedClassesOnly());
+    data.setCoverageTestThreads(this.mojo.getCoverageTestThreads());
+    data.setExportBinaryLineCoverage(this.mojo.isExportBinaryLineCoverage());
+    if (this.mojo.getImportCoverage() != null) {
+      data.setImportCoverage(this.mojo.getImportCoverage());
+    }
+    data.setTestClassTimings(this.mojo.isTestClassTimings());
+    data.setCoverageMinions(this.mojo.getCoverageMinions());
     data.setClassPathElements(classPath);
     data.setDependencyAnalysisMaxDistance(this.mojo.getMaxDependencyDistance());
     data.setFailWhenNoMutations(shouldFailWhenNoMutations());
@@ -6,6 +6,7 @@ import org.apache.maven.project.MavenProject;
 import org.apache.maven.reporting.MavenReportException;
 import org.codehaus.plexus.util.FileUtils;
 import org.pitest.aggregate.ReportAggregator;
+import org.pitest.coverage.export.BinaryCoverageExporter;
 import org.pitest.functional.FCollection;
 import org.pitest.maven.DependencyFilter;
 import org.pitest.mutationtest.config.DirectoryResultOutputStrategy;
@@ -27,7 +28,8 @@ abstract class AbstractPitAggregationReportMojo extends PitReportMojo {
 
   private static final String REPORT_DIR_RELATIVE_TO_PROJECT = "target/pit-reports";
   private static final String MUTATION_RESULT_FILTER = "mutations.xml";
-  private static final String LINECOVERAGE_FILTER = "linecoverage.xml";
+  private static final String LINECOVERAGE_FILTER = "linecoverage.xml,"
+      + BinaryCoverageExporter.FILE_NAME;
 
   /**
    * The projects in the reactor.
@@ -0,0 +1,90 @@
+package org.pitest.sequence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the compiled matcher with the uncompiled NFA, for a query shaped
+ * like those of the interceptors, which search anywhere in a method for a
+ * pattern with repetition and ignored elements.
+ *
+ * Only compiled when the benchmarks profile is active. Build with
+ * mvn test-compile -Pbenchmarks, then run from the main method with the test
+ * classpath. The gc profiler reports the memory allocated by each operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceMatcherBenchmark {
+
+  @Param({ "100", "1000" })
+  int                       length;
+
+  private List<Integer>     sequence;
+  private SequenceMatcher<Integer> compiled;
+  private SequenceMatcher<Integer> nfa;
+
+  @Setup
+  public void setUp() {
+    final SequenceQuery<Integer> query = QueryStart.any(Integer.class)
+        .then(eq(1))
+        .then(eq(2))
+        .oneOrMore(QueryStart.match(eq(3)).or(QueryStart.match(eq(4))))
+        .thenAnyOf(QueryStart.match(eq(5)), QueryStart.match(eq(6)))
+        .then(eq(7))
+        .zeroOrMore(QueryStart.match(Match.always()));
+    final QueryParams<Integer> params = QueryParams.params(Integer.class)
+        .withIgnores(eq(0));
+    this.compiled = query.compile(params);
+    this.nfa = query.compileToNFA(params);
+
+    final Random random = new Random(42);
+    this.sequence = new ArrayList<>(this.length);
+    for (int i = 0; i != this.length; i++) {
+      this.sequence.add(random.nextInt(8));
+    }
+  }
+
+  @Benchmark
+  public boolean compiled() {
+    return this.compiled.matches(this.sequence);
+  }
+
+  @Benchmark
+  public boolean nfa() {
+    return this.nfa.matches(this.sequence);
+  }
+
+  private static Match<Integer> eq(int i) {
+    return Match.isEqual(i);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(SequenceMatcherBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+
+}
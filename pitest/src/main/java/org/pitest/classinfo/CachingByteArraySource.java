@@ -17,13 +17,19 @@ public class CachingByteArraySource implements ClassByteArraySource {
 
   @Override
   public Optional<byte[]> getBytes(String clazz) {
-    Optional<byte[]> maybeBytes = this.cache.get(clazz);
+    Optional<byte[]> maybeBytes;
+    synchronized (this.cache) {
+      maybeBytes = this.cache.get(clazz);
+    }
     if (maybeBytes != null) {
       return maybeBytes;
     }
 
+    // read outside the lock so threads do not wait on each other's io
     maybeBytes  = this.child.getBytes(clazz);
-    this.cache.put(clazz, maybeBytes);
+    synchronized (this.cache) {
+      this.cache.put(clazz, maybeBytes);
+    }
     return maybeBytes;
 
   }
@@ -42,9 +42,26 @@ public class CoverageClassVisitor extends MethodFilteringAdapter {
   private boolean   foundClinit;
   private boolean   isInterface;
 
+  private final boolean threadAttributed;
+
   public CoverageClassVisitor(final int classId, final ClassWriter writer) {
+    this(classId, writer, CodeCoverageStore.isThreadAttributed());
+  }
+
+  /**
+   * @param threadAttributed
+   *          if true methods fetch the probes of the current thread from the
+   *          store on entry, rather than using the probes field of the class
+   */
+  public CoverageClassVisitor(final int classId, final ClassWriter writer,
+      final boolean threadAttributed) {
     super(writer, BridgeMethodFilter.INSTANCE);
     this.classId = classId;
+    this.threadAttributed = threadAttributed;
+  }
+
+  public boolean isThreadAttributed() {
+    return this.threadAttributed;
   }
 
   public void registerProbes(final int number) {
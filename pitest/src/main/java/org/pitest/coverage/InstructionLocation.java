@@ -18,6 +18,10 @@ public final class InstructionLocation {
     return blockLocation;
   }
 
+  public int getInstructionIndex() {
+    return instructionIndex;
+  }
+
   @Override
   public boolean equals(final Object obj) {
     if (this == obj) {
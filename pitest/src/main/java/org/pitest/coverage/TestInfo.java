@@ -19,6 +19,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.testapi.Description;
 import java.util.Optional;
 
 
@@ -34,19 +35,38 @@ public final class TestInfo implements Serializable {
 
   private final ClassName         testee;
 
+  // minions are sent the units they need separately
+  private final transient Description testUnit;
+
   public TestInfo(final String definingClass, final String name,
       final int time, final Optional<ClassName> testee, final int blocksCovered) {
+    this(definingClass, name, time, testee, blocksCovered, null);
+  }
+
+  /**
+   * @param testUnit
+   *          description of the test unit found when the test was discovered,
+   *          from which it can be recreated
+   */
+  public TestInfo(final String definingClass, final String name,
+      final int time, final Optional<ClassName> testee, final int blocksCovered,
+      final Description testUnit) {
     this.definingClass = internIfNotNull(definingClass);
     this.name = name;
     this.time = time;
     this.testee = testee.orElse(null);
     this.blocks = blocksCovered;
+    this.testUnit = testUnit;
   }
 
   public String getName() {
     return this.name;
   }
 
+  public String getDefiningClass() {
+    return this.definingClass;
+  }
+
   public int getTime() {
     return this.time;
   }
@@ -55,6 +75,10 @@ public final class TestInfo implements Serializable {
     return this.blocks;
   }
 
+  public Optional<Description> getTestUnit() {
+    return Optional.ofNullable(this.testUnit);
+  }
+
   @Override
   public String toString() {
     return this.name;
@@ -51,6 +51,9 @@ import java.util.List;
  *
  *   private void bar(){
  *     byte[] localRefToProbes = $$pitCoverageProbes;
+ *     if (localRefToProbes[0] == 0) {
+ *       CodeCoverageStore.markClassAsHit(thisClassID, localRefToProbes);
+ *     }
  *     //line of code
  *     localRefToProbes[1] = 1; //assuming above line was probe 1
  *   }
@@ -58,18 +61,37 @@ import java.util.List;
  * }
  *
  * CodeCoverageStore maintains a reference to all of these $$pitCoverageProbes arrays
- * and empties them out between each test.
+ * and empties out those of the classes marked as hit between each test.
+ *
+ * When hits are attributed to threads, each method instead asks the store for
+ * the probes of the current thread on entry:
+ *
+ *   private void bar(){
+ *     byte[] localRefToProbes = CodeCoverageStore.getThreadProbes(thisClassID, $$pitCoverageProbeSize);
+ *     //line of code
+ *     localRefToProbes[1] = 1;
+ *   }
  *
  */
 public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
 
+  private final boolean threadAttributed;
   private int           probeHitArrayLocal;
 
   public ArrayProbeCoverageMethodVisitor(List<Block> blocks,
       InstructionCounter counter, final int classId,
       final MethodVisitor writer, final int access, final String className, final String name,
       final String desc, final int probeOffset) {
+    this(blocks, counter, classId, writer, access, className, name, desc,
+        probeOffset, false);
+  }
+
+  public ArrayProbeCoverageMethodVisitor(List<Block> blocks,
+      InstructionCounter counter, final int classId,
+      final MethodVisitor writer, final int access, final String className, final String name,
+      final String desc, final int probeOffset, final boolean threadAttributed) {
     super(blocks, counter, classId, writer, access, className, name, desc, probeOffset);
+    this.threadAttributed = threadAttributed;
   }
 
   @Override
@@ -98,6 +120,16 @@ public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
     }
     this.probeHitArrayLocal = newLocal(Type.getType("[Z"));
 
+    if (this.threadAttributed) {
+      pushConstant(this.classId);
+      this.mv.visitFieldInsn(Opcodes.GETSTATIC, this.className, CodeCoverageStore.PROBE_LENGTH_FIELD_NAME,"I");
+      this.mv
+          .visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+              "getThreadProbes", "(II)[Z", false);
+      this.mv.visitVarInsn(ASTORE, this.probeHitArrayLocal);
+      return;
+    }
+
     this.mv.visitFieldInsn(Opcodes.GETSTATIC, className,
         CodeCoverageStore.PROBE_FIELD_NAME, "[Z");
 
@@ -121,12 +153,21 @@ public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
     //else do nothing
     this.mv.visitLabel(notnull);
 
-    //Make sure that we recorded that the class was hit
-    this.mv.visitInsn(DUP);
-    this.mv.visitInsn(ICONST_0);
-    this.mv.visitInsn(ICONST_1);
-    this.mv.visitInsn(BASTORE);
     this.mv.visitVarInsn(ASTORE, this.probeHitArrayLocal);
+
+    //Make sure that we recorded that the class was hit. The store is told
+    //only the first time, so it need only look at classes that were hit
+    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
+    this.mv.visitInsn(ICONST_0);
+    this.mv.visitInsn(BALOAD);
+    Label alreadyHit = new Label();
+    this.mv.visitJumpInsn(Opcodes.IFNE, alreadyHit);
+    pushConstant(this.classId);
+    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
+    this.mv
+        .visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+            "markClassAsHit", "(I[Z)V", false);
+    this.mv.visitLabel(alreadyHit);
   }
 
   @Override
@@ -46,7 +46,7 @@ public class CoverageAnalyser extends MethodNode {
     accept(new InstructionTrackingMethodVisitor(
         new ArrayProbeCoverageMethodVisitor(blocks, counter, this.classId,
             this.mv, this.access, parent.getClassName(), this.name, this.desc,
-            this.probeOffset), counter));
+            this.probeOffset, this.parent.isThreadAttributed()), counter));
   }
 
   private List<Block> findRequriedProbeLocations() {
@@ -31,10 +31,23 @@ public class CoverageDecorator extends TestUnitDecorator {
 
   private final CoverageReceiver invokeQueue;
   private final ThreadMXBean     threads = ManagementFactory.getThreadMXBean();
+  private final boolean          checkThreads;
 
   protected CoverageDecorator(final CoverageReceiver queue, final TestUnit child) {
+    this(queue, child, true);
+  }
+
+  /**
+   * @param checkThreads
+   *          whether to warn about tests that leave threads running. The
+   *          count is of all threads in the JVM, so is meaningless while
+   *          other tests run at the same time.
+   */
+  protected CoverageDecorator(final CoverageReceiver queue,
+      final TestUnit child, final boolean checkThreads) {
     super(child);
     this.invokeQueue = queue;
+    this.checkThreads = checkThreads;
   }
 
   @Override
@@ -51,7 +64,7 @@ public class CoverageDecorator extends TestUnitDecorator {
     final int executionTime = (int) (System.currentTimeMillis() - t0);
 
     final int threadsAfterTest = this.threads.getThreadCount();
-    if (threadsAfterTest > threadsBeforeTest) {
+    if (this.checkThreads && (threadsAfterTest > threadsBeforeTest)) {
       LOG.warning("More threads at end of test (" + threadsAfterTest + ") "
           + child().getDescription().getName() + " than start. ("
           + threadsBeforeTest + ")");
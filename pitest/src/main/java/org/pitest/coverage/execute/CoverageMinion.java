@@ -74,16 +74,18 @@ public class CoverageMinion {
       invokeQueue = new CoveragePipe(new BufferedOutputStream(
           s.getOutputStream()));
 
-      CodeCoverageStore.init(invokeQueue);
+      CodeCoverageStore.init(invokeQueue,
+          paramsFromParent.getTestThreads() > 1);
 
       HotSwapAgent.addTransformer(new CoverageTransformer(
-          convertToJVMClassFilter(paramsFromParent.getFilter())));
+          convertToJVMClassFilter(paramsFromParent.getInstrumentationFilter())));
 
       final List<TestUnit> tus = getTestsFromParent(dis, paramsFromParent);
 
       LOG.info(() -> tus.size() + " tests received");
 
-      final CoverageWorker worker = new CoverageWorker(invokeQueue, tus);
+      final CoverageWorker worker = new CoverageWorker(invokeQueue, tus,
+          paramsFromParent.getTestThreads());
 
       worker.run();
 
@@ -141,7 +143,8 @@ public class CoverageMinion {
 
     final DependencyFilter filter = new DependencyFilter(
         new DependencyExtractor(new ClassPathByteArraySource(),
-            paramsFromParent.getDependencyAnalysisMaxDistance()),
+            paramsFromParent.getDependencyAnalysisMaxDistance(),
+            Runtime.getRuntime().availableProcessors()),
         paramsFromParent.getFilter());
     final List<TestUnit> filteredTus = filter
         .filterTestsByDependencyAnalysis(tus);
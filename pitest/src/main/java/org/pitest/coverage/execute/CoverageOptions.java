@@ -2,6 +2,8 @@ package org.pitest.coverage.execute;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 /*
  * Copyright 2010 Henry Coles
@@ -35,16 +37,62 @@ public class CoverageOptions implements Serializable {
   private final Verbosity verbosity;
   private final TestPluginArguments pitConfig;
   private final int               maxDependencyDistance;
+  // names of the only classes to instrument, or null for all
+  private final Set<String>       instrumentOnly;
+  private final int               testThreads;
 
   public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
       final TestPluginArguments pitConfig, final Verbosity verbose,
       final int maxDependencyDistance) {
+    this(include, exclude, pitConfig, verbose, maxDependencyDistance, null, 1);
+  }
+
+  private CoverageOptions(final Collection<String> include, final Collection<String> exclude,
+      final TestPluginArguments pitConfig, final Verbosity verbose,
+      final int maxDependencyDistance, final Set<String> instrumentOnly,
+      final int testThreads) {
     Objects.requireNonNull(pitConfig);
     this.include = include;
     this.exclude = exclude;
     this.verbosity = verbose;
     this.pitConfig = pitConfig;
     this.maxDependencyDistance = maxDependencyDistance;
+    this.instrumentOnly = instrumentOnly;
+    this.testThreads = testThreads;
+  }
+
+  /**
+   * Options that instrument only those of the included classes that are also
+   * in the supplied collection of java class names. The filter used for
+   * dependency analysis is unchanged.
+   */
+  public CoverageOptions instrumentingOnly(final Collection<String> classes) {
+    return new CoverageOptions(this.include, this.exclude, this.pitConfig,
+        this.verbosity, this.maxDependencyDistance, new HashSet<>(classes),
+        this.testThreads);
+  }
+
+  /**
+   * Options that run test classes on the given number of threads within each
+   * coverage minion. When more than one, hits are attributed to the thread
+   * running each test.
+   */
+  public CoverageOptions withTestThreads(final int threads) {
+    return new CoverageOptions(this.include, this.exclude, this.pitConfig,
+        this.verbosity, this.maxDependencyDistance, this.instrumentOnly,
+        Math.max(1, threads));
+  }
+
+  public int getTestThreads() {
+    return this.testThreads;
+  }
+
+  /**
+   * Whether only some of the classes matching the filter are instrumented,
+   * so coverage gathered with these options is incomplete.
+   */
+  public boolean isRestricted() {
+    return this.instrumentOnly != null;
   }
 
   public Predicate<String> getFilter() {
@@ -53,6 +101,13 @@ public class CoverageOptions implements Serializable {
         Prelude.not(commonClasses()));
   }
 
+  public Predicate<String> getInstrumentationFilter() {
+    if (this.instrumentOnly == null) {
+      return getFilter();
+    }
+    return getFilter().and(this.instrumentOnly::contains);
+  }
+
   public Verbosity verbosity() {
     return this.verbosity;
   }
@@ -1,7 +1,8 @@
 package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
-import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.coverage.analysis.Block;
@@ -12,9 +13,20 @@ import org.pitest.util.SafeDataOutputStream;
 
 import sun.pitest.CodeCoverageStore;
 
+/**
+ * Sends coverage to the parent process.
+ *
+ * Each test is described once, and afterwards referred to by an id. The hits
+ * of a test are sent as a list of the classes it hit, each followed by the
+ * gaps between the ids of the probes hit within it.
+ */
 public class CoveragePipe implements CoverageReceiver {
 
-  private final SafeDataOutputStream dos;
+  // sent after the hits of the last class
+  public static final int                 END_OF_HITS = 0;
+
+  private final SafeDataOutputStream      dos;
+  private final Map<Description, Integer> testIds     = new HashMap<>();
 
   public CoveragePipe(final OutputStream dos) {
     this.dos = new SafeDataOutputStream(dos);
@@ -23,21 +35,60 @@ public class CoveragePipe implements CoverageReceiver {
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
+    final int testId = idFor(description);
 
     this.dos.writeByte(Id.OUTCOME);
-    this.dos.write(description);
-    this.dos.writeInt(hits.size());
-    for (final Long each : hits) {
-      this.dos.writeLong(each);
-    }
+    this.dos.writeVarInt(testId);
+    CodeCoverageStore.visitHits(this::writeHits);
+    this.dos.writeVarInt(END_OF_HITS);
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
-    
+
     CodeCoverageStore.reset();
 
   }
 
+  private int idFor(final Description description) {
+    final Integer known = this.testIds.get(description);
+    if (known != null) {
+      return known;
+    }
+
+    final int id = this.testIds.size();
+    this.testIds.put(description, id);
+    this.dos.writeByte(Id.TEST);
+    this.dos.writeVarInt(id);
+    this.dos.writeString(description.getName());
+    this.dos.writeBoolean(description.getFirstTestClass() != null);
+    if (description.getFirstTestClass() != null) {
+      this.dos.writeString(description.getFirstTestClass());
+    }
+    return id;
+  }
+
+  private void writeHits(final int classId, final boolean[] probes) {
+    int count = 0;
+    for (int probeId = 1; probeId != probes.length; probeId++) {
+      if (probes[probeId]) {
+        count++;
+      }
+    }
+    if (count == 0) {
+      return;
+    }
+
+    // offset so that it cannot be mistaken for END_OF_HITS
+    this.dos.writeVarInt(classId + 1);
+    this.dos.writeVarInt(count);
+    int previous = 0;
+    for (int probeId = 1; probeId != probes.length; probeId++) {
+      if (probes[probeId]) {
+        this.dos.writeVarInt(probeId - previous);
+        previous = probeId;
+      }
+    }
+  }
+
   public synchronized void end(final ExitCode exitCode) {
     this.dos.writeByte(Id.DONE);
     this.dos.writeInt(exitCode.getCode());
@@ -14,11 +14,20 @@
  */
 package org.pitest.coverage.execute;
 
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.pitest.util.Unchecked.translateCheckedException;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.TestUnit;
@@ -26,41 +35,89 @@ import org.pitest.testapi.execute.Container;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.testapi.execute.containers.UnContainer;
 
+import sun.pitest.CodeCoverageStore;
+
 public class CoverageWorker {
 
   private final CoveragePipe   pipe;
   private final List<TestUnit> tests;
+  private final int            threads;
 
   public CoverageWorker(final CoveragePipe pipe, final List<TestUnit> tests) {
+    this(pipe, tests, 1);
+  }
+
+  /**
+   * @param threads
+   *          number of test classes to run at once. When more than one, the
+   *          coverage store must attribute hits to threads.
+   */
+  public CoverageWorker(final CoveragePipe pipe, final List<TestUnit> tests,
+      final int threads) {
     this.pipe = pipe;
     this.tests = tests;
+    this.threads = threads;
   }
 
   public void run() {
     try {
       final List<TestUnit> decoratedTests = decorateForCoverage(this.tests,
-          this.pipe);
+          this.pipe, this.threads == 1);
 
       decoratedTests.sort(testComparator());
 
-      final Container c = new UnContainer();
-
-      final Pitest pit = new Pitest(new ErrorListener());
-      pit.run(c, decoratedTests);
+      if (this.threads > 1) {
+        runTestClassesConcurrently(decoratedTests);
+      } else {
+        runTests(decoratedTests);
+      }
     } catch (final Exception ex) {
       throw translateCheckedException(ex);
     }
 
   }
 
+  private static void runTests(final List<TestUnit> tests) {
+    final Container c = new UnContainer();
+
+    final Pitest pit = new Pitest(new ErrorListener());
+    pit.run(c, tests);
+  }
+
+  private void runTestClassesConcurrently(final List<TestUnit> tests)
+      throws InterruptedException, ExecutionException {
+    final Collection<List<TestUnit>> byClass = tests.stream()
+        .collect(groupingBy(t -> String.valueOf(t.getDescription().getFirstTestClass()),
+            LinkedHashMap::new, toList()))
+        .values();
+
+    final ThreadPoolExecutor pool = new ThreadPoolExecutor(this.threads,
+        this.threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    try {
+      final List<Future<?>> running = new ArrayList<>();
+      for (final List<TestUnit> each : byClass) {
+        running.add(pool.submit(() -> {
+          // discard any hits inherited from the thread that created this one
+          CodeCoverageStore.reset();
+          runTests(each);
+        }));
+      }
+      for (final Future<?> each : running) {
+        each.get();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
   private static Comparator<TestUnit> testComparator() {
     return Comparator.comparing(o -> o.getDescription().getQualifiedName());
   }
 
   private static List<TestUnit> decorateForCoverage(final List<TestUnit> plainTests,
-      final CoverageReceiver queue) {
+      final CoverageReceiver queue, final boolean checkThreads) {
     return plainTests.stream()
-            .map(each -> new CoverageDecorator(queue, each))
+            .map(each -> new CoverageDecorator(queue, each, checkThreads))
             .collect(toList());
   }
 }
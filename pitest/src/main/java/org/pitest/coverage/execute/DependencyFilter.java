@@ -1,15 +1,13 @@
 package org.pitest.coverage.execute;
 
-import java.io.IOException;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.pitest.dependency.DependencyExtractor;
 import org.pitest.functional.FCollection;
 import org.pitest.testapi.TestUnit;
-import org.pitest.util.Unchecked;
 
 class DependencyFilter {
 
@@ -26,34 +24,26 @@ class DependencyFilter {
     if (this.analyser.getMaxDistance() < 0) {
       return tus;
     } else {
-      return FCollection.filter(tus, isWithinReach());
+      return FCollection.filter(tus, isWithinReach(tus));
     }
   }
 
-  private Predicate<TestUnit> isWithinReach() {
-
-    return new Predicate<TestUnit>() {
-      private final Map<String, Boolean> cache = new HashMap<>();
-
-      @Override
-      public boolean test(final TestUnit testUnit) {
-        final String testClass = testUnit.getDescription().getFirstTestClass();
-        try {
-          if (this.cache.containsKey(testClass)) {
-            return this.cache.get(testClass);
-          } else {
-            final boolean inReach = !DependencyFilter.this.analyser
-                .extractCallDependenciesForPackages(testClass,
-                    DependencyFilter.this.filter).isEmpty();
-            this.cache.put(testClass, inReach);
-            return inReach;
-          }
-
-        } catch (final IOException e) {
-          throw Unchecked.translateCheckedException(e);
-        }
+  private Predicate<TestUnit> isWithinReach(final List<TestUnit> tus) {
+    final Set<String> testClasses = new LinkedHashSet<>();
+    for (final TestUnit each : tus) {
+      final String testClass = each.getDescription().getFirstTestClass();
+      if (testClass != null) {
+        testClasses.add(testClass);
       }
+    }
 
+    // all test classes analysed together, so shared dependencies are
+    // examined only once
+    final Set<String> inReach = this.analyser.classesDependingOn(testClasses,
+        this.filter);
+    return testUnit -> {
+      final String testClass = testUnit.getDescription().getFirstTestClass();
+      return (testClass == null) || inReach.contains(testClass);
     };
   }
 
@@ -20,6 +20,7 @@ import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.functional.FCollection;
 import org.pitest.util.Functions;
 import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -28,11 +29,17 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -44,11 +51,142 @@ public class DependencyExtractor {
   private static final Logger        LOG = Log.getLogger();
   private final int                  depth;
   private final ClassByteArraySource classToBytes;
+  private final int                  threads;
+
+  // classes each class depends on, other than core classes, once extracted
+  private final Map<String, Set<String>> edges = new ConcurrentHashMap<>();
 
   public DependencyExtractor(final ClassByteArraySource classToBytes,
       final int depth) {
+    this(classToBytes, depth, 1);
+  }
+
+  public DependencyExtractor(final ClassByteArraySource classToBytes,
+      final int depth, final int threads) {
     this.depth = depth;
     this.classToBytes = classToBytes;
+    this.threads = Math.max(1, threads);
+  }
+
+  /**
+   * Finds which of the supplied classes depend, within the maximum distance,
+   * on a class matching the target packages. Core classes are not traversed.
+   *
+   * Unlike repeated calls to extractCallDependenciesForPackages, each class is
+   * parsed at most once however many of the supplied classes reach it, and
+   * the classes at each distance are parsed in parallel.
+   */
+  public Set<String> classesDependingOn(final Collection<String> classes,
+      final Predicate<String> targetPackages) {
+    extractEdgesWithinReach(classes);
+
+    final Predicate<String> targets = asJVMNamePredicate(targetPackages);
+    final Set<String> found = new LinkedHashSet<>();
+    for (final String each : classes) {
+      if (reaches(toJvmName(each), targets)) {
+        found.add(each);
+      }
+    }
+    return found;
+  }
+
+  // breadth first from all classes at once, so each class is parsed once and
+  // no class is left unparsed because it was first seen at a greater distance
+  private void extractEdgesWithinReach(final Collection<String> classes) {
+    Set<String> frontier = new HashSet<>();
+    for (final String each : classes) {
+      frontier.add(toJvmName(each));
+    }
+    final Set<String> seen = new HashSet<>(frontier);
+    final ExecutorService pool = this.threads > 1
+        ? Executors.newFixedThreadPool(this.threads) : null;
+    try {
+      int distance = 0;
+      while (!frontier.isEmpty() && withinReach(distance)) {
+        extractEdges(frontier, pool);
+        final Set<String> next = new HashSet<>();
+        for (final String each : frontier) {
+          for (final String dependency : this.edges.get(each)) {
+            if (seen.add(dependency)) {
+              next.add(dependency);
+            }
+          }
+        }
+        frontier = next;
+        distance++;
+      }
+    } finally {
+      if (pool != null) {
+        pool.shutdownNow();
+      }
+    }
+  }
+
+  private boolean reaches(final String clazz, final Predicate<String> targets) {
+    final Set<String> seen = new HashSet<>();
+    seen.add(clazz);
+    Set<String> frontier = Collections.singleton(clazz);
+    int distance = 0;
+    while (!frontier.isEmpty() && withinReach(distance)) {
+      final Set<String> next = new HashSet<>();
+      for (final String each : frontier) {
+        for (final String dependency : this.edges.get(each)) {
+          if (!seen.add(dependency)) {
+            continue;
+          }
+          if (targets.test(dependency)) {
+            return true;
+          }
+          next.add(dependency);
+        }
+      }
+      frontier = next;
+      distance++;
+    }
+    return false;
+  }
+
+  private boolean withinReach(final int distance) {
+    return (this.depth == 0) || (distance < this.depth);
+  }
+
+  private void extractEdges(final Set<String> classes,
+      final ExecutorService pool) {
+    final List<Callable<Void>> tasks = new ArrayList<>();
+    for (final String each : classes) {
+      if (!this.edges.containsKey(each)) {
+        tasks.add(() -> {
+          this.edges.put(each, dependedOnClasses(each));
+          return null;
+        });
+      }
+    }
+
+    try {
+      if ((pool == null) || (tasks.size() < 2)) {
+        for (final Callable<Void> each : tasks) {
+          each.call();
+        }
+      } else {
+        for (final Future<Void> each : pool.invokeAll(tasks)) {
+          each.get();
+        }
+      }
+    } catch (final Exception e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private Set<String> dependedOnClasses(final String clazz) {
+    final Set<String> owners = new HashSet<>();
+    for (final DependencyAccess each : extract(clazz, new IgnoreCoreClasses())) {
+      owners.add(each.getDest().getOwner());
+    }
+    return owners;
+  }
+
+  private static String toJvmName(final String clazz) {
+    return clazz.replace('.', '/');
   }
 
   public Collection<String> extractCallDependenciesForPackages(
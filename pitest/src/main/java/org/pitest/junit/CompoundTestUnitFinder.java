@@ -2,7 +2,9 @@ package org.pitest.junit;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.TestUnitFinder;
 
@@ -25,4 +27,16 @@ public class CompoundTestUnitFinder implements TestUnitFinder {
     return Collections.emptyList();
   }
 
+  @Override
+  public Optional<TestUnit> recreateTestUnit(final Class<?> clazz,
+      final Description description) {
+    for (final TestUnitFinder each : this.tufs) {
+      final Optional<TestUnit> tu = each.recreateTestUnit(clazz, description);
+      if (tu.isPresent()) {
+        return tu;
+      }
+    }
+    return Optional.empty();
+  }
+
 }
@@ -83,6 +83,26 @@ public class JUnitCustomRunnerTestUnitFinder implements TestUnitFinder {
     }
   }
 
+  @Override
+  public Optional<TestUnit> recreateTestUnit(final Class<?> clazz,
+      final org.pitest.testapi.Description description) {
+    final String name = description.getName();
+    if (name.equals(clazz.getName())) {
+      return Optional.of(new AdaptedJUnitTestUnit(clazz, Optional.empty()));
+    }
+    // parameterised tests, which have their parameters in brackets, are
+    // recreated by ParameterisedJUnitTestFinder
+    if (isMethodOf(clazz, name) && !name.contains("[")) {
+      return Optional.of(new AdaptedJUnitTestUnit(clazz,
+          Optional.of(new DescriptionFilter(name))));
+    }
+    return Optional.empty();
+  }
+
+  static boolean isMethodOf(final Class<?> clazz, final String name) {
+    return name.endsWith("(" + clazz.getName() + ")");
+  }
+
   private List<TestUnit> filterUnitsByMethod(List<TestUnit> filteredUnits) {
     if (this.includedTestMethods.isEmpty()) {
       return filteredUnits;
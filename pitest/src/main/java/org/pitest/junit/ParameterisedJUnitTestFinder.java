@@ -47,6 +47,18 @@ public class ParameterisedJUnitTestFinder implements TestUnitFinder {
 
   }
 
+  @Override
+  public Optional<TestUnit> recreateTestUnit(final Class<?> clazz,
+      final org.pitest.testapi.Description description) {
+    final String name = description.getName();
+    if (JUnitCustomRunnerTestUnitFinder.isMethodOf(clazz, name)
+        && name.contains("[")) {
+      return Optional.of(new AdaptedJUnitTestUnit(clazz,
+          Optional.of(new ParameterisedTestFilter(name))));
+    }
+    return Optional.empty();
+  }
+
   private List<TestUnit> handleParameterizedTest(final Class<?> clazz,
       final Description description) {
     final List<TestUnit> result = new ArrayList<>();
@@ -10,10 +10,24 @@ public class EngineArguments implements Serializable {
 
   private final Collection<String> mutators;
   private final Collection<String> excludedMethods;
+  private final boolean            mutantSchemata;
+  private final boolean            cooperativeTimeouts;
 
   public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods) {
+    this(mutators, excludedMethods, false);
+  }
+
+  public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods,
+      boolean mutantSchemata) {
+    this(mutators, excludedMethods, mutantSchemata, false);
+  }
+
+  public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods,
+      boolean mutantSchemata, boolean cooperativeTimeouts) {
     this.mutators = mutators;
     this.excludedMethods = excludedMethods;
+    this.mutantSchemata = mutantSchemata;
+    this.cooperativeTimeouts = cooperativeTimeouts;
   }
 
   public static EngineArguments arguments() {
@@ -21,11 +35,23 @@ public class EngineArguments implements Serializable {
   }
 
   public EngineArguments withMutators(Collection<String> mutators) {
-    return new EngineArguments(mutators, this.excludedMethods);
+    return new EngineArguments(mutators, this.excludedMethods, this.mutantSchemata,
+        this.cooperativeTimeouts);
   }
 
   public EngineArguments withExcludedMethods(Collection<String> excludedMethods) {
-    return new EngineArguments(this.mutators, excludedMethods);
+    return new EngineArguments(this.mutators, excludedMethods, this.mutantSchemata,
+        this.cooperativeTimeouts);
+  }
+
+  public EngineArguments withMutantSchemata(boolean mutantSchemata) {
+    return new EngineArguments(this.mutators, this.excludedMethods, mutantSchemata,
+        this.cooperativeTimeouts);
+  }
+
+  public EngineArguments withCooperativeTimeouts(boolean cooperativeTimeouts) {
+    return new EngineArguments(this.mutators, this.excludedMethods, this.mutantSchemata,
+        cooperativeTimeouts);
   }
 
   public Collection<String> mutators() {
@@ -36,5 +62,23 @@ public class EngineArguments implements Serializable {
     return this.excludedMethods;
   }
 
+  /**
+   * When true the minion combines the mutants of each class into a single
+   * schemata class, selecting the active mutant at runtime rather than
+   * redefining the class for every mutant.
+   */
+  public boolean useMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  /**
+   * When true the minion inserts timeout checks into the loops of mutated
+   * methods, so a test that times out can be unwound without killing the
+   * minion.
+   */
+  public boolean useCooperativeTimeouts() {
+    return this.cooperativeTimeouts;
+  }
+
 }
 
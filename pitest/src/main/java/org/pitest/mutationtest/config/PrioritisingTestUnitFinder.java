@@ -1,10 +1,12 @@
 package org.pitest.mutationtest.config;
 
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.TestUnitFinder;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 class PrioritisingTestUnitFinder implements TestUnitFinder {
     private final List<TestUnitFinder> orderedChildren;
@@ -23,4 +25,15 @@ class PrioritisingTestUnitFinder implements TestUnitFinder {
        }
        return Collections.emptyList();
     }
+
+    @Override
+    public Optional<TestUnit> recreateTestUnit(Class<?> clazz, Description description) {
+       for (TestUnitFinder each : orderedChildren) {
+           Optional<TestUnit> recreated = each.recreateTestUnit(clazz, description);
+           if (recreated.isPresent()) {
+               return recreated;
+           }
+       }
+       return Optional.empty();
+    }
 }
@@ -36,6 +36,7 @@ import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ComputeClassWriter;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -97,12 +98,15 @@ public class GregorMutater implements Mutater {
     final Optional<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
         .asJavaName());
 
+    // Only the mutated method is instrumented. As the writer is created from
+    // the reader, the other methods are copied through as they are, without
+    // running the mutators over them or recomputing their frames.
     final ClassReader reader = new ClassReader(bytes.get());
-    final ClassWriter w = new ComputeClassWriter(this.byteSource,
+    final ClassWriter w = new ComputeClassWriter(reader, this.byteSource,
         this.computeCache, FrameOptions.pickFlags(bytes.get()));
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
-        filterMethods(), FCollection.filter(this.mutators,
-            isMutatorFor(id)));
+        and(filterMethods(), isMethod(id.getLocation())),
+        FCollection.filter(this.mutators, isMutatorFor(id)));
     reader.accept(mca, ClassReader.EXPAND_FRAMES);
 
     final List<MutationDetails> details = context.getMutationDetails(context
@@ -117,6 +121,11 @@ public class GregorMutater implements Mutater {
     return a -> id.getMutator().equals(a.getGloballyUniqueId());
   }
 
+  private static Predicate<MethodInfo> isMethod(final Location location) {
+    return a -> a.getName().equals(location.getMethodName())
+        && a.getMethodDescriptor().equals(location.getMethodDesc());
+  }
+
   private Predicate<MethodInfo> filterMethods() {
     return and(this.filter, filterSyntheticMethods(),
         isGeneratedEnumMethod().negate(), isGroovyClass().negate());
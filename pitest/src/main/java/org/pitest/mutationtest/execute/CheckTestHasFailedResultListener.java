@@ -21,12 +21,15 @@ import org.pitest.testapi.Description;
 import org.pitest.testapi.TestListener;
 import org.pitest.testapi.TestResult;
 
+import sun.pitest.MutantTimeoutError;
+
 public class CheckTestHasFailedResultListener implements TestListener {
 
   private final List<Description>   succeedingTests = new ArrayList<>();
   private final List<Description>   failingTests = new ArrayList<>();
   private final boolean       recordPassingTests;
   private int                 testsRun        = 0;
+  private boolean             timedOut        = false;
 
   public CheckTestHasFailedResultListener(boolean recordPassingTests) {
     this.recordPassingTests = recordPassingTests;
@@ -34,7 +37,11 @@ public class CheckTestHasFailedResultListener implements TestListener {
 
   @Override
   public void onTestFailure(final TestResult tr) {
-    this.failingTests.add(tr.getDescription());
+    if (tr.getThrowable() instanceof MutantTimeoutError) {
+      this.timedOut = true;
+    } else {
+      this.failingTests.add(tr.getDescription());
+    }
   }
 
   @Override
@@ -57,6 +64,8 @@ public class CheckTestHasFailedResultListener implements TestListener {
   public DetectionStatus status() {
     if (!this.failingTests.isEmpty()) {
       return DetectionStatus.KILLED;
+    } else if (this.timedOut) {
+      return DetectionStatus.TIMED_OUT;
     } else {
       return DetectionStatus.SURVIVED;
     }
@@ -0,0 +1,74 @@
+package org.pitest.mutationtest.execute;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.bytecode.ASMVersion;
+
+import sun.pitest.RefusedExit;
+
+/**
+ * Replaces calls to System.exit, Runtime.exit and Runtime.halt with calls to
+ * RefusedExit, which throw instead.
+ *
+ * The replacements take the same values from the stack as the calls they
+ * replace, so the constant pool and stack map frames of the original class
+ * are reused.
+ */
+class ExitCallRewriter {
+
+  private static final String SYSTEM  = "java/lang/System";
+  private static final String RUNTIME = "java/lang/Runtime";
+
+  byte[] rewrite(final byte[] classBytes) {
+    final ClassReader reader = new ClassReader(classBytes);
+    final ClassWriter writer = new ClassWriter(reader, 0);
+    reader.accept(new RewritingClassVisitor(writer), 0);
+    return writer.toByteArray();
+  }
+
+  private static class RewritingClassVisitor extends ClassVisitor {
+
+    RewritingClassVisitor(final ClassVisitor cv) {
+      super(ASMVersion.ASM_VERSION, cv);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String descriptor, final String signature,
+        final String[] exceptions) {
+      return new RewritingMethodVisitor(super.visitMethod(access, name,
+          descriptor, signature, exceptions));
+    }
+
+  }
+
+  private static class RewritingMethodVisitor extends MethodVisitor {
+
+    RewritingMethodVisitor(final MethodVisitor mv) {
+      super(ASMVersion.ASM_VERSION, mv);
+    }
+
+    @Override
+    public void visitMethodInsn(final int opcode, final String owner,
+        final String name, final String descriptor, final boolean isInterface) {
+      if ((opcode == Opcodes.INVOKESTATIC) && owner.equals(SYSTEM)
+          && name.equals("exit") && descriptor.equals("(I)V")) {
+        super.visitMethodInsn(Opcodes.INVOKESTATIC, RefusedExit.CLASS_NAME,
+            "exit", "(I)V", false);
+      } else if ((opcode == Opcodes.INVOKEVIRTUAL) && owner.equals(RUNTIME)
+          && (name.equals("exit") || name.equals("halt"))
+          && descriptor.equals("(I)V")) {
+        // the runtime the call was made on is passed as the first argument
+        super.visitMethodInsn(Opcodes.INVOKESTATIC, RefusedExit.CLASS_NAME,
+            name, "(L" + RUNTIME + ";I)V", false);
+      } else {
+        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+      }
+    }
+
+  }
+
+}
@@ -31,6 +31,25 @@ class HotSwap implements F3<ClassName, ClassLoader, byte[], Boolean> {
 
   }
 
+  /**
+   * Puts back the original bytes of the last class replaced, so that code run
+   * afterwards, such as the tests of a later batch, sees no mutant.
+   */
+  void restore() {
+    if (this.lastMutatedClass == null) {
+      return;
+    }
+    try {
+      restoreForLoader(this.lastUsedLoader);
+    } catch (final ClassNotFoundException e) {
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      this.lastMutatedClass = null;
+      this.lastClassPreMutation = null;
+      this.lastUsedLoader = null;
+    }
+  }
+
   private void restoreLastClass(final ClassByteArraySource byteSource,
       final ClassName clazzName, final ClassLoader loader)
           throws ClassNotFoundException {
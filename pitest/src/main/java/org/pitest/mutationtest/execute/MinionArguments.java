@@ -16,12 +16,14 @@ package org.pitest.mutationtest.execute;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.testapi.Description;
 import org.pitest.util.Verbosity;
 
 public class MinionArguments implements Serializable {
@@ -36,11 +38,30 @@ public class MinionArguments implements Serializable {
   final Verbosity verbosity;
   final boolean                     fullMutationMatrix;
   final TestPluginArguments         pitConfig;
+  final boolean                     reusable;
+  final Collection<Description>     testUnits;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
       final TimeoutLengthStrategy timeoutStrategy, final Verbosity verbosity, final boolean fullMutationMatrix,
       final TestPluginArguments pitConfig) {
+    this(mutations, tests, engine, engineArgs, timeoutStrategy, verbosity, fullMutationMatrix, pitConfig, false);
+  }
+
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
+      final TimeoutLengthStrategy timeoutStrategy, final Verbosity verbosity, final boolean fullMutationMatrix,
+      final TestPluginArguments pitConfig, final boolean reusable) {
+    this(mutations, tests, engine, engineArgs, timeoutStrategy, verbosity,
+        fullMutationMatrix, pitConfig, reusable,
+        Collections.<Description> emptyList());
+  }
+
+  private MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
+      final TimeoutLengthStrategy timeoutStrategy, final Verbosity verbosity, final boolean fullMutationMatrix,
+      final TestPluginArguments pitConfig, final boolean reusable,
+      final Collection<Description> testUnits) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
@@ -49,10 +70,31 @@ public class MinionArguments implements Serializable {
     this.verbosity = verbosity;
     this.fullMutationMatrix = fullMutationMatrix;
     this.pitConfig = pitConfig;
+    this.reusable = reusable;
+    this.testUnits = testUnits;
+  }
+
+  /**
+   * Descriptions of the test units the mutations will be run against, as
+   * found by the coverage minion, so the minion can recreate them rather than
+   * search the test classes again.
+   */
+  public MinionArguments withTestUnits(final Collection<Description> testUnits) {
+    return new MinionArguments(this.mutations, this.testClasses, this.engine,
+        this.engineArgs, this.timeoutStrategy, this.verbosity,
+        this.fullMutationMatrix, this.pitConfig, this.reusable, testUnits);
   }
 
   public Verbosity verbosity() {
     return this.verbosity;
   }
 
+  /**
+   * A reusable minion does not exit once it has analysed its mutations, but
+   * waits for the parent process to send it further work.
+   */
+  public boolean isReusable() {
+    return this.reusable;
+  }
+
 }
@@ -0,0 +1,80 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.util.StreamUtil;
+
+/**
+ * Loads a mutant, and fresh copies of the classes that might refer to it, in
+ * place of the classes visible to its parent.
+ *
+ * Classes found in directories on the classpath, which is where the code
+ * under test and its tests usually live, are reloaded. Classes found in jars
+ * and pitest's own classes are shared with the parent.
+ *
+ * The minion runs in the pitest JVM, so calls to System.exit, Runtime.exit and
+ * Runtime.halt in the classes that are reloaded are made to throw instead.
+ * Calls made from jars, or by reflection, are not intercepted.
+ */
+class MutantClassLoader extends ClassLoader {
+
+  private final ExitCallRewriter exitCalls = new ExitCallRewriter();
+  private final String mutantName;
+  private final byte[] mutantBytes;
+
+  MutantClassLoader(final ClassLoader parent, final ClassName mutant,
+      final byte[] bytes) {
+    super(parent);
+    this.mutantName = mutant.asJavaName();
+    this.mutantBytes = bytes;
+  }
+
+  @Override
+  protected Class<?> loadClass(final String name, final boolean resolve)
+      throws ClassNotFoundException {
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> c = findLoadedClass(name);
+      if (c == null) {
+        final byte[] found = bytesToReload(name);
+        if (found != null) {
+          final byte[] bytes = this.exitCalls.rewrite(found);
+          c = defineClass(name, bytes, 0, bytes.length);
+        } else {
+          c = super.loadClass(name, false);
+        }
+      }
+      if (resolve) {
+        resolveClass(c);
+      }
+      return c;
+    }
+  }
+
+  private byte[] bytesToReload(final String name) {
+    if (name.equals(this.mutantName)) {
+      return this.mutantBytes;
+    }
+    if (isShared(name)) {
+      return null;
+    }
+
+    final URL url = getParent().getResource(name.replace('.', '/') + ".class");
+    if ((url == null) || !"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try (InputStream is = url.openStream()) {
+      return StreamUtil.streamToByteArray(is);
+    } catch (final IOException ex) {
+      return null;
+    }
+  }
+
+  private static boolean isShared(final String name) {
+    return name.startsWith("java.") || name.startsWith("org.pitest.")
+        || name.startsWith("sun.pitest.");
+  }
+
+}
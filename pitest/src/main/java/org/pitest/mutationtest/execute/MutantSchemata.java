@@ -0,0 +1,45 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * A single class containing many mutants, each guarded by a check of the
+ * active mutant id.
+ */
+final class MutantSchemata {
+
+  private final ClassName                       clazz;
+  private final byte[]                          bytes;
+  private final Map<MutationIdentifier, Integer> ids;
+
+  MutantSchemata(ClassName clazz, byte[] bytes,
+      Map<MutationIdentifier, Integer> ids) {
+    this.clazz = clazz;
+    this.bytes = bytes;
+    this.ids = ids;
+  }
+
+  ClassName getClassName() {
+    return this.clazz;
+  }
+
+  byte[] getBytes() {
+    return this.bytes;
+  }
+
+  MutantSchemata withBytes(byte[] bytes) {
+    return new MutantSchemata(this.clazz, bytes, this.ids);
+  }
+
+  boolean contains(MutationIdentifier mutation) {
+    return this.ids.containsKey(mutation);
+  }
+
+  int idFor(MutationIdentifier mutation) {
+    return this.ids.get(mutation);
+  }
+
+}
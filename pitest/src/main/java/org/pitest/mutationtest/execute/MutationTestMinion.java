@@ -17,8 +17,13 @@ package org.pitest.mutationtest.execute;
 import java.io.IOException;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -31,18 +36,22 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
-import org.pitest.functional.F3;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
 import org.pitest.mutationtest.mocksupport.JavassistInterceptor;
 import org.pitest.testapi.Configuration;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.TestUnitFinder;
 import org.pitest.testapi.execute.FindTestUnits;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Glob;
@@ -61,12 +70,20 @@ public class MutationTestMinion {
   private final SafeDataInputStream dis;
   private final Reporter            reporter;
   private final MinionSettings      plugins;
+  private final Map<ClassName, List<TestUnit>> discoveredTests = new HashMap<>();
+  private final boolean             inProcess;
 
   public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
       final Reporter reporter) {
+    this(plugins, dis, reporter, false);
+  }
+
+  MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
+      final Reporter reporter, final boolean inProcess) {
     this.dis = dis;
     this.reporter = reporter;
     this.plugins = plugins;
+    this.inProcess = inProcess;
   }
 
   public void run() {
@@ -75,30 +92,69 @@ public class MutationTestMinion {
       final MinionArguments paramsFromParent = this.dis
           .read(MinionArguments.class);
 
-      configureVerbosity(paramsFromParent);
+      // logging is shared with the parent when running in its process
+      if (!this.inProcess) {
+        configureVerbosity(paramsFromParent);
+      }
 
       final ClassLoader loader = IsolationUtils.getContextClassLoader();
 
       final ClassByteArraySource byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
           loader), CACHE_SIZE);
 
-      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap = new HotSwap(
-          byteSource);
+      final HotSwap hotswap = new HotSwap(byteSource);
 
       final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
 
 
-      final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, paramsFromParent.fullMutationMatrix);
+      final Mutater mutater = engine.createMutator(byteSource);
+      final Optional<SchemataBuilder> schemata = paramsFromParent.engineArgs.useMutantSchemata()
+          ? Optional.of(new SchemataBuilder(byteSource, mutater)) : Optional.empty();
+      final boolean cooperativeTimeouts = paramsFromParent.engineArgs.useCooperativeTimeouts();
+      final Optional<TimeoutCheckInjector> timeoutChecks = cooperativeTimeouts
+          ? Optional.of(new TimeoutCheckInjector()) : Optional.empty();
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
+      final MutationTestWorker worker = new MutationTestWorker(hotswap,
+          mutater, loader, paramsFromParent.fullMutationMatrix, schemata,
+          timeoutChecks);
 
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+      final Configuration testPlugin = createTestPlugin(paramsFromParent.pitConfig);
+      final SharedTestExecutor testExecutor = new SharedTestExecutor();
 
-      this.reporter.done(ExitCode.OK);
+      try {
+        MinionArguments batch = paramsFromParent;
+        while (batch != null) {
+          final MinionArguments current = batch;
+          if (this.inProcess) {
+            final Map<ClassName, List<Description>> units = knownTestUnits(
+                current);
+            worker.runIsolated(batch.mutations, this.reporter,
+                mutantLoader -> new TimeOutDecoratedTestSource(
+                    paramsFromParent.timeoutStrategy,
+                    findTestsForMutant(mutantLoader, current, units,
+                        testPlugin),
+                    this.reporter, cooperativeTimeouts, testExecutor));
+          } else {
+            final List<TestUnit> tests = findTestsForTestClasses(loader,
+                current, testPlugin, this.discoveredTests);
+
+            try {
+              worker.run(batch.mutations, this.reporter,
+                  new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
+                      tests, this.reporter, cooperativeTimeouts, testExecutor));
+            } finally {
+              // a reused minion may next be given tests of other classes,
+              // which must not see the last mutant or schemata installed
+              hotswap.restore();
+            }
+          }
+
+          this.reporter.done(ExitCode.OK);
+          batch = awaitNextBatch(paramsFromParent);
+        }
+      } finally {
+        testExecutor.shutdown();
+      }
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
       LOG.log(Level.WARNING, "Error during mutation test", ex);
@@ -107,6 +163,14 @@ public class MutationTestMinion {
 
   }
 
+  private MinionArguments awaitNextBatch(MinionArguments paramsFromParent) {
+    // a reusable minion stays alive until the parent tells it there is no more work
+    if (paramsFromParent.isReusable() && this.dis.readBoolean()) {
+      return this.dis.read(MinionArguments.class);
+    }
+    return null;
+  }
+
   private void configureVerbosity(MinionArguments paramsFromParent) {
     Log.setVerbose(paramsFromParent.verbosity());
     if (!paramsFromParent.verbosity().showMinionOutput()) {
@@ -152,12 +216,136 @@ public class MutationTestMinion {
 
   }
 
+  /**
+   * Runs a minion on the current thread of an existing JVM. The thread's
+   * context classloader should have been created for the minion alone, and
+   * mutants are loaded into child classloaders of it, as the pitest agent is
+   * not available to redefine them.
+   */
+  public static void runInProcess(final int port) {
+    Socket s = null;
+    try {
+      s = new Socket("localhost", port);
+      final SafeDataInputStream dis = new SafeDataInputStream(
+          s.getInputStream());
+
+      final Reporter reporter = new InProcessReporter(
+          new DefaultReporter(s.getOutputStream()));
+      final ClientPluginServices plugins = ClientPluginServices.makeForContextLoader();
+      final MinionSettings factory = new MinionSettings(plugins);
+      final MutationTestMinion instance = new MutationTestMinion(factory, dis,
+          reporter, true);
+      instance.run();
+    } catch (final Throwable ex) {
+      LOG.log(Level.WARNING, "Error during in process mutation test", ex);
+    } finally {
+      if (s != null) {
+        safelyCloseSocket(s);
+      }
+    }
+  }
+
+  /**
+   * Recreates the units the coverage minion found in each test class where
+   * the test plugin is able to, and searches the remaining classes.
+   *
+   * @param discovered
+   *          units found by searching classes in earlier batches
+   */
   private static List<TestUnit> findTestsForTestClasses(
-      final ClassLoader loader, final Collection<ClassName> testClasses,
+      final ClassLoader loader, final MinionArguments batch,
+      final Configuration pitConfig,
+      final Map<ClassName, List<TestUnit>> discovered) {
+    final Map<String, List<Description>> unitsByClass = batch.testUnits
+        .stream().collect(Collectors.groupingBy(Description::getFirstTestClass));
+
+    final List<TestUnit> tests = new ArrayList<>();
+    for (final ClassName each : batch.testClasses) {
+      final Optional<List<TestUnit>> recreated = recreateTestUnits(loader,
+          each, unitsByClass.getOrDefault(each.asJavaName(),
+              Collections.<Description> emptyList()), pitConfig);
+      if (recreated.isPresent()) {
+        tests.addAll(recreated.get());
+      } else {
+        tests.addAll(discovered.computeIfAbsent(each,
+            c -> discoverTestUnits(loader, c, pitConfig)));
+      }
+    }
+    return tests;
+  }
+
+  private static Map<ClassName, List<Description>> knownTestUnits(
+      final MinionArguments batch) {
+    return batch.testUnits.stream().collect(Collectors.groupingBy(
+        d -> ClassName.fromString(d.getFirstTestClass()), HashMap::new,
+        Collectors.toList()));
+  }
+
+  /**
+   * Finds the tests for a batch against the classloader of a single mutant.
+   * Units are recreated from their descriptions where the test plugin is able
+   * to, so each test class is searched at most once for the batch.
+   *
+   * @param units
+   *          descriptions of the units in each test class, to which those
+   *          found by searching are added
+   */
+  private static List<TestUnit> findTestsForMutant(
+      final ClassLoader mutantLoader, final MinionArguments batch,
+      final Map<ClassName, List<Description>> units,
       final Configuration pitConfig) {
-    final Collection<Class<?>> tcs = testClasses.stream().flatMap(ClassName.nameToClass(loader)).collect(Collectors.toList());
-    final FindTestUnits finder = new FindTestUnits(pitConfig);
-    return finder.findTestUnitsForAllSuppliedClasses(tcs);
+    final List<TestUnit> tests = new ArrayList<>();
+    for (final ClassName each : batch.testClasses) {
+      final List<Description> known = units.get(each);
+      if ((known != null) && known.isEmpty()) {
+        continue;
+      }
+      final Optional<List<TestUnit>> recreated = known == null
+          ? Optional.empty()
+          : recreateTestUnits(mutantLoader, each, known, pitConfig);
+      if (recreated.isPresent()) {
+        tests.addAll(recreated.get());
+      } else {
+        final List<TestUnit> found = discoverTestUnits(mutantLoader, each,
+            pitConfig);
+        units.put(each, found.stream().map(TestUnit::getDescription)
+            .collect(Collectors.toList()));
+        tests.addAll(found);
+      }
+    }
+    return tests;
+  }
+
+  private static Optional<List<TestUnit>> recreateTestUnits(
+      final ClassLoader loader, final ClassName testClass,
+      final List<Description> descriptions, final Configuration pitConfig) {
+    if (descriptions.isEmpty()) {
+      return Optional.empty();
+    }
+    final Optional<Class<?>> clazz = ClassName.nameToClass(loader)
+        .apply(testClass).findFirst();
+    if (!clazz.isPresent()) {
+      return Optional.empty();
+    }
+
+    final TestUnitFinder finder = pitConfig.testUnitFinder();
+    final List<TestUnit> units = new ArrayList<>();
+    for (final Description each : descriptions) {
+      final Optional<TestUnit> unit = finder.recreateTestUnit(clazz.get(),
+          each);
+      if (!unit.isPresent()) {
+        return Optional.empty();
+      }
+      units.add(unit.get());
+    }
+    return Optional.of(units);
+  }
+
+  private static List<TestUnit> discoverTestUnits(final ClassLoader loader,
+      final ClassName testClass, final Configuration pitConfig) {
+    final Collection<Class<?>> tcs = ClassName.nameToClass(loader)
+        .apply(testClass).collect(Collectors.toList());
+    return new FindTestUnits(pitConfig).findTestUnitsForAllSuppliedClasses(tcs);
   }
 
   private static void enablePowerMockSupport() {
@@ -198,4 +386,43 @@ public class MutationTestMinion {
 
   }
 
+  /**
+   * The parent stops listening to an in process minion once it reports that
+   * it is done, but the minion thread may still be running a test when a
+   * timeout is reported. Anything it reports after that is dropped.
+   */
+  private static class InProcessReporter implements Reporter {
+
+    private final Reporter child;
+    private volatile boolean done;
+
+    InProcessReporter(final Reporter child) {
+      this.child = child;
+    }
+
+    @Override
+    public void describe(final MutationIdentifier i) {
+      if (!this.done) {
+        this.child.describe(i);
+      }
+    }
+
+    @Override
+    public void report(final MutationIdentifier i,
+        final MutationStatusTestPair mutationDetected) {
+      if (!this.done) {
+        this.child.report(i, mutationDetected);
+      }
+    }
+
+    @Override
+    public synchronized void done(final ExitCode exitCode) {
+      if (!this.done) {
+        this.done = true;
+        this.child.done(exitCode);
+      }
+    }
+
+  }
+
 }
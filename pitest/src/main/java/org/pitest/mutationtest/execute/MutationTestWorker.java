@@ -38,11 +38,17 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import sun.pitest.ActiveMutant;
+
 import static org.pitest.util.Unchecked.translateCheckedException;
 
 public class MutationTestWorker {
@@ -58,19 +64,37 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
   private final boolean                                     fullMutationMatrix;
+  private final Optional<SchemataBuilder>                   schemata;
+  private final Optional<TimeoutCheckInjector>              timeoutChecks;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader, final boolean fullMutationMatrix) {
+    this(hotswap, mutater, loader, fullMutationMatrix, Optional.empty(),
+        Optional.empty());
+  }
+
+  MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader, final boolean fullMutationMatrix,
+      final Optional<SchemataBuilder> schemata,
+      final Optional<TimeoutCheckInjector> timeoutChecks) {
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.schemata = schemata;
+    this.timeoutChecks = timeoutChecks;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
 
+    if (this.schemata.isPresent()) {
+      runWithSchemata(this.schemata.get(), range, r, testSource);
+      return;
+    }
+
     for (final MutationDetails mutation : range) {
       if (DEBUG) {
         LOG.fine("Running mutation " + mutation);
@@ -85,12 +109,156 @@ public class MutationTestWorker {
 
   }
 
+  /**
+   * Analyses each mutation by loading the mutant into a new classloader,
+   * rather than redefining the class in place.
+   *
+   * @param testsFor
+   *          supplies the tests to run, as loaded by the given classloader
+   */
+  void runIsolated(final Collection<MutationDetails> range, final Reporter r,
+      final Function<ClassLoader, TimeOutDecoratedTestSource> testsFor) {
+
+    final Thread thread = Thread.currentThread();
+    final ClassLoader previous = thread.getContextClassLoader();
+    try {
+      for (final MutationDetails mutation : range) {
+        // an in process minion is interrupted once its parent stops listening
+        if (thread.isInterrupted()) {
+          return;
+        }
+        final Mutant mutant = addTimeoutChecks(this.mutater.getMutation(mutation
+            .getId()));
+        final ClassLoader mutantLoader = new MutantClassLoader(this.loader,
+            mutation.getClassName(), mutant.getBytes());
+        thread.setContextClassLoader(mutantLoader);
+        processIsolatedMutation(r, testsFor.apply(mutantLoader), mutation,
+            mutantLoader);
+      }
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  private void processIsolatedMutation(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final MutationDetails mutationDetails, final ClassLoader mutantLoader) {
+
+    final MutationIdentifier mutationId = mutationDetails.getId();
+    final List<TestUnit> relevantTests = testSource
+        .translateTests(mutationDetails.getTestsInOrder());
+
+    r.describe(mutationId);
+
+    final MutationStatusTestPair mutationDetected;
+    if ((relevantTests == null) || relevantTests.isEmpty()) {
+      LOG.info(() -> "No test coverage for mutation  " + mutationId + " in "
+          + mutationDetails.getMethod());
+      mutationDetected = MutationStatusTestPair.notAnalysed(0, DetectionStatus.RUN_ERROR);
+    } else if (!isViable(mutationId.getClassName(), mutantLoader)) {
+      LOG.warning("Mutation " + mutationId + " was not viable ");
+      mutationDetected = MutationStatusTestPair.notAnalysed(0,
+          DetectionStatus.NON_VIABLE);
+    } else {
+      mutationDetected = doTestsDetectMutation(createNewContainer(),
+          relevantTests);
+    }
+
+    r.report(mutationId, mutationDetected);
+    if (DEBUG) {
+      LOG.fine("Mutation " + mutationId + " detected = " + mutationDetected);
+    }
+  }
+
+  private static boolean isViable(final ClassName mutant,
+      final ClassLoader loader) {
+    try {
+      Class.forName(mutant.asJavaName(), false, loader);
+      return true;
+    } catch (final ClassNotFoundException | LinkageError ex) {
+      return false;
+    }
+  }
+
+  private void runWithSchemata(final SchemataBuilder builder,
+      final Collection<MutationDetails> range, final Reporter r,
+      final TimeOutDecoratedTestSource testSource) throws IOException {
+
+    final Map<ClassName, List<MutationDetails>> byClass = range.stream()
+        .collect(Collectors.groupingBy(MutationDetails::getClassName,
+            LinkedHashMap::new, Collectors.toList()));
+
+    for (final List<MutationDetails> mutations : byClass.values()) {
+      final Optional<MutantSchemata> schemata = builder.build(
+          mutations.get(0).getClassName(), mutations)
+          .map(each -> each.withBytes(addTimeoutChecks(each.getBytes(), mutations)));
+      List<MutationDetails> remaining = mutations;
+      if (schemata.isPresent() && install(schemata.get())) {
+        remaining = new ArrayList<>();
+        for (final MutationDetails mutation : mutations) {
+          if (schemata.get().contains(mutation.getId())) {
+            processSchemataMutation(r, testSource, mutation, schemata.get());
+          } else {
+            remaining.add(mutation);
+          }
+        }
+        ActiveMutant.deactivate();
+      }
+
+      // anything the schemata could not contain is analysed by redefining the class
+      for (final MutationDetails mutation : remaining) {
+        processMutation(r, testSource, mutation);
+      }
+    }
+  }
+
+  private boolean install(final MutantSchemata schemata) {
+    final boolean installed = this.hotswap.apply(schemata.getClassName(),
+        this.loader, schemata.getBytes());
+    if (!installed) {
+      LOG.fine("Could not install mutant schemata for "
+          + schemata.getClassName());
+    }
+    return installed;
+  }
+
+  private void processSchemataMutation(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final MutationDetails mutationDetails, final MutantSchemata schemata) {
+
+    final MutationIdentifier mutationId = mutationDetails.getId();
+
+    JavassistInterceptor.setMutant(new Mutant(mutationDetails,
+        schemata.getBytes()));
+
+    final List<TestUnit> relevantTests = testSource
+        .translateTests(mutationDetails.getTestsInOrder());
+
+    r.describe(mutationId);
+
+    final MutationStatusTestPair mutationDetected;
+    if ((relevantTests == null) || relevantTests.isEmpty()) {
+      LOG.info(() -> "No test coverage for mutation  " + mutationId + " in "
+          + mutationDetails.getMethod());
+      mutationDetected =  MutationStatusTestPair.notAnalysed(0, DetectionStatus.RUN_ERROR);
+    } else {
+      ActiveMutant.activate(schemata.idFor(mutationId));
+      mutationDetected = doTestsDetectMutation(createNewContainer(),
+          relevantTests);
+    }
+
+    r.report(mutationId, mutationDetected);
+    if (DEBUG) {
+      LOG.fine("Mutation " + mutationId + " detected = " + mutationDetected);
+    }
+  }
+
   private void processMutation(final Reporter r,
       final TimeOutDecoratedTestSource testSource,
       final MutationDetails mutationDetails) throws IOException {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
-    final Mutant mutatedClass = this.mutater.getMutation(mutationId);
+    final Mutant mutatedClass = addTimeoutChecks(this.mutater.getMutation(mutationId));
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -156,6 +324,28 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
+  private Mutant addTimeoutChecks(final Mutant mutant) {
+    if (!this.timeoutChecks.isPresent()) {
+      return mutant;
+    }
+    return new Mutant(mutant.getDetails(), addTimeoutChecks(mutant.getBytes(),
+        Collections.singletonList(mutant.getDetails())));
+  }
+
+  private byte[] addTimeoutChecks(final byte[] bytes,
+      final Collection<MutationDetails> mutations) {
+    if (!this.timeoutChecks.isPresent()) {
+      return bytes;
+    }
+    try {
+      return this.timeoutChecks.get().inject(bytes, mutations);
+    } catch (final RuntimeException ex) {
+      // the mutant is still analysed, but a timeout will end the minion
+      LOG.log(Level.FINE, "Could not add timeout checks", ex);
+      return bytes;
+    }
+  }
+
   private static Container createNewContainer() {
     return new UnContainer() {
       @Override
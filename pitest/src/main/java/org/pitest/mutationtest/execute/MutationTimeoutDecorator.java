@@ -22,23 +22,48 @@ import java.util.concurrent.TimeoutException;
 import org.pitest.extension.common.TestUnitDecorator;
 import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 import org.pitest.util.Unchecked;
 
+import sun.pitest.MutantTimeout;
+import sun.pitest.MutantTimeoutError;
+
 public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
+  /**
+   * Time allowed for a test to unwind once a cooperative timeout has been
+   * signalled, before falling back to the timeout side effect.
+   */
+  private static final long           UNWIND_TIME = 1000;
+
   private final TimeoutLengthStrategy timeOutStrategy;
   private final SideEffect            timeOutSideEffect;
   private final long                  executionTime;
+  private final boolean               cooperative;
+  private final SharedTestExecutor    executor;
 
+  /**
+   * @param cooperative
+   *          if true, a test that times out is first asked to unwind by
+   *          signalling MutantTimeout, and is reported as having failed with a
+   *          MutantTimeoutError. The side effect is applied only if it does not
+   *          unwind.
+   * @param executor
+   *          executor on which to run the test, shared by all the tests of
+   *          the minion
+   */
   public MutationTimeoutDecorator(final TestUnit child,
       final SideEffect timeOutSideEffect,
-      final TimeoutLengthStrategy timeStrategy, final long executionTime) {
+      final TimeoutLengthStrategy timeStrategy, final long executionTime,
+      final boolean cooperative, final SharedTestExecutor executor) {
     super(child);
     this.timeOutSideEffect = timeOutSideEffect;
     this.executionTime = executionTime;
     this.timeOutStrategy = timeStrategy;
+    this.cooperative = cooperative;
+    this.executor = executor;
   }
 
   @Override
@@ -47,34 +72,43 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     final long maxTime = this.timeOutStrategy
         .getAllowedTime(this.executionTime);
 
-    final FutureTask<?> future = createFutureForChildTestUnit(rc);
+    final TimeoutReportingCollector collector = new TimeoutReportingCollector(rc);
+    final FutureTask<?> future = this.executor.submit(createRunnable(collector));
     executeFutureWithTimeOut(maxTime, future, rc);
+    if (!future.isDone() && this.cooperative) {
+      unwind(future, collector, rc);
+    }
     if (!future.isDone()) {
+      this.executor.abandonRunningTest();
       this.timeOutSideEffect.apply();
     }
 
   }
 
+  private void unwind(final FutureTask<?> future,
+      final TimeoutReportingCollector collector, final ResultCollector rc) {
+    collector.expire();
+    MutantTimeout.expire();
+    executeFutureWithTimeOut(UNWIND_TIME, future, rc);
+    if (future.isDone()) {
+      MutantTimeout.reset();
+    }
+  }
+
   private void executeFutureWithTimeOut(final long maxTime,
       final FutureTask<?> future, final ResultCollector rc) {
     try {
       future.get(maxTime, TimeUnit.MILLISECONDS);
-    } catch (final TimeoutException | InterruptedException ex) {
+    } catch (final TimeoutException ex) {
       // swallow
+    } catch (final InterruptedException ex) {
+      // left for the caller, the test being abandoned if it is not done
+      Thread.currentThread().interrupt();
     } catch (final ExecutionException e) {
       throw Unchecked.translateCheckedException(e);
     }
   }
 
-  private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc) {
-    final FutureTask<?> future = new FutureTask<>(createRunnable(rc), null);
-    final Thread thread = new Thread(future);
-    thread.setDaemon(true);
-    thread.setName("mutationTestThread");
-    thread.start();
-    return future;
-  }
-
   private Runnable createRunnable(final ResultCollector rc) {
     return () -> {
       try {
@@ -86,4 +120,57 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     };
   }
 
+  /**
+   * Reports every test that ends after the timeout has expired as having
+   * failed with a MutantTimeoutError, whatever the test framework made of the
+   * unwinding.
+   */
+  private static class TimeoutReportingCollector implements ResultCollector {
+
+    private final ResultCollector child;
+    private volatile boolean      expired;
+
+    TimeoutReportingCollector(final ResultCollector child) {
+      this.child = child;
+    }
+
+    void expire() {
+      this.expired = true;
+    }
+
+    @Override
+    public void notifyEnd(final Description description, final Throwable t) {
+      if (this.expired) {
+        this.child.notifyEnd(description, new MutantTimeoutError());
+      } else {
+        this.child.notifyEnd(description, t);
+      }
+    }
+
+    @Override
+    public void notifyEnd(final Description description) {
+      if (this.expired) {
+        this.child.notifyEnd(description, new MutantTimeoutError());
+      } else {
+        this.child.notifyEnd(description);
+      }
+    }
+
+    @Override
+    public void notifyStart(final Description description) {
+      this.child.notifyStart(description);
+    }
+
+    @Override
+    public void notifySkipped(final Description description) {
+      this.child.notifySkipped(description);
+    }
+
+    @Override
+    public boolean shouldExit() {
+      return this.child.shouldExit();
+    }
+
+  }
+
 }
@@ -0,0 +1,193 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LocalVariableNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+import sun.pitest.ActiveMutant;
+
+/**
+ * Combines the mutants of a class into a mutant schemata. The body of each
+ * mutated method is prefixed with a switch on the active mutant id that jumps
+ * to a copy of the method as produced for each of its mutants, falling through
+ * to the original code when no mutant of that method is active.
+ *
+ * Mutants in constructors and static initializers cannot be guarded in this
+ * way and are left for the caller to analyse by redefining the class.
+ */
+class SchemataBuilder {
+
+  private static final Logger        LOG          = Log.getLogger();
+
+  private final Map<String, String>  computeCache = new HashMap<>();
+  private final ClassByteArraySource byteSource;
+  private final Mutater              mutater;
+  private int                        lastId       = ActiveMutant.NONE;
+
+  SchemataBuilder(ClassByteArraySource byteSource, Mutater mutater) {
+    this.byteSource = byteSource;
+    this.mutater = mutater;
+  }
+
+  Optional<MutantSchemata> build(ClassName clazz,
+      Collection<MutationDetails> mutations) {
+    final Optional<byte[]> bytes = this.byteSource.getBytes(clazz.asJavaName());
+    if (!bytes.isPresent()) {
+      return Optional.empty();
+    }
+
+    final ClassNode classNode = new ClassNode();
+    new ClassReader(bytes.get()).accept(classNode, ClassReader.SKIP_FRAMES);
+
+    final Map<MutationIdentifier, Integer> ids = new LinkedHashMap<>();
+    final Map<MethodNode, List<Variant>> variants = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      final Location location = each.getId().getLocation();
+      if (!canGuard(location)) {
+        continue;
+      }
+      final Optional<MethodNode> original = findMethod(classNode, location);
+      final Optional<MethodNode> mutated = original.flatMap(m -> mutatedMethod(each));
+      if (mutated.isPresent()) {
+        final int id = nextId();
+        ids.put(each.getId(), id);
+        variants.computeIfAbsent(original.get(), k -> new ArrayList<>())
+            .add(new Variant(id, mutated.get()));
+      }
+    }
+
+    if (ids.isEmpty()) {
+      return Optional.empty();
+    }
+
+    variants.forEach(SchemataBuilder::addDispatch);
+
+    try {
+      final ClassWriter w = new ComputeClassWriter(this.byteSource,
+          this.computeCache, FrameOptions.pickFlags(bytes.get()));
+      classNode.accept(w);
+      return Optional.of(new MutantSchemata(clazz, w.toByteArray(), ids));
+    } catch (final RuntimeException e) {
+      // most likely a method has grown beyond the 64k limit
+      LOG.log(Level.FINE, "Could not create mutant schemata for " + clazz, e);
+      return Optional.empty();
+    }
+  }
+
+  private int nextId() {
+    this.lastId = this.lastId + 1;
+    return this.lastId;
+  }
+
+  private static boolean canGuard(Location location) {
+    return !location.getMethodName().equals("<init>")
+        && !location.getMethodName().equals("<clinit>");
+  }
+
+  private Optional<MethodNode> mutatedMethod(MutationDetails details) {
+    final Mutant mutant = this.mutater.getMutation(details.getId());
+    final ClassNode mutantNode = new ClassNode();
+    new ClassReader(mutant.getBytes()).accept(mutantNode,
+        ClassReader.SKIP_FRAMES);
+    return findMethod(mutantNode, details.getId().getLocation());
+  }
+
+  private static Optional<MethodNode> findMethod(ClassNode classNode,
+      Location location) {
+    return classNode.methods.stream()
+        .filter(m -> m.name.equals(location.getMethodName())
+            && m.desc.equals(location.getMethodDesc()))
+        .filter(m -> (m.access & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE)) == 0)
+        .findFirst();
+  }
+
+  private static void addDispatch(MethodNode original, List<Variant> variants) {
+    final InsnList dispatch = new InsnList();
+    final LabelNode originalCode = new LabelNode();
+    final int[] keys = new int[variants.size()];
+    final LabelNode[] targets = new LabelNode[variants.size()];
+    for (int i = 0; i != variants.size(); i++) {
+      keys[i] = variants.get(i).id;
+      targets[i] = new LabelNode();
+    }
+
+    dispatch.add(new MethodInsnNode(Opcodes.INVOKESTATIC,
+        ActiveMutant.CLASS_NAME, ActiveMutant.METHOD_NAME, "()I", false));
+    dispatch.add(new LookupSwitchInsnNode(originalCode, keys, targets));
+
+    final List<TryCatchBlockNode> tryCatchBlocks = new ArrayList<>();
+    for (int i = 0; i != variants.size(); i++) {
+      final MethodNode mutated = variants.get(i).method;
+      final Map<LabelNode, LabelNode> labels = cloneLabels(mutated.instructions);
+      dispatch.add(targets[i]);
+      for (final AbstractInsnNode insn : mutated.instructions) {
+        dispatch.add(insn.clone(labels));
+      }
+      for (final TryCatchBlockNode each : mutated.tryCatchBlocks) {
+        tryCatchBlocks.add(new TryCatchBlockNode(labels.get(each.start),
+            labels.get(each.end), labels.get(each.handler), each.type));
+      }
+      if (mutated.localVariables != null && original.localVariables != null) {
+        for (final LocalVariableNode each : mutated.localVariables) {
+          original.localVariables.add(new LocalVariableNode(each.name,
+              each.desc, each.signature, labels.get(each.start),
+              labels.get(each.end), each.index));
+        }
+      }
+    }
+    dispatch.add(originalCode);
+
+    original.instructions.insert(dispatch);
+    original.tryCatchBlocks.addAll(tryCatchBlocks);
+  }
+
+  private static Map<LabelNode, LabelNode> cloneLabels(InsnList instructions) {
+    final Map<LabelNode, LabelNode> labels = new HashMap<>();
+    for (final AbstractInsnNode each : instructions) {
+      if (each instanceof LabelNode) {
+        labels.put((LabelNode) each, new LabelNode());
+      }
+    }
+    return labels;
+  }
+
+  private static final class Variant {
+    private final int        id;
+    private final MethodNode method;
+
+    Variant(int id, MethodNode method) {
+      this.id = id;
+      this.method = method;
+    }
+  }
+
+}
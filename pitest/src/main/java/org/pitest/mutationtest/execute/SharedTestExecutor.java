@@ -0,0 +1,83 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the tests of a mutant one at a time on a single thread, rather than
+ * starting a thread for each test.
+ *
+ * The executor is replaced for each mutant, so its tests are given a new
+ * thread and thread local state set up by the tests of one mutant cannot
+ * change the outcome for another. As when tests run outside of pitest, it
+ * remains visible to the later tests of the same mutant. A test is not left
+ * the interrupt status of the test before it. Each test runs with the context
+ * classloader of the thread that submitted it, as it would have done on a
+ * thread created for it.
+ *
+ * There is no separate watchdog. The thread submitting a test waits on it
+ * for its allowed time, and if it has not completed its thread is abandoned
+ * and later tests run on a new one.
+ */
+public final class SharedTestExecutor {
+
+  private static final long  KEEP_ALIVE_SECONDS = 10;
+
+  private ThreadPoolExecutor executor           = createExecutor();
+
+  public synchronized FutureTask<?> submit(final Runnable test) {
+    final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+    final FutureTask<?> future = new FutureTask<>(() -> {
+      Thread.currentThread().setContextClassLoader(loader);
+      Thread.interrupted();
+      test.run();
+    }, null);
+    this.executor.execute(future);
+    return future;
+  }
+
+  /**
+   * Runs the tests submitted from now on, which are those of the next mutant,
+   * on a new thread.
+   */
+  public synchronized void startMutant() {
+    replaceThread();
+  }
+
+  /**
+   * Leaves any test still running to continue on its current thread, and
+   * runs subsequent tests on a new one.
+   */
+  public synchronized void abandonRunningTest() {
+    replaceThread();
+  }
+
+  /**
+   * Lets the thread end once any test still running completes.
+   */
+  public synchronized void shutdown() {
+    this.executor.shutdown();
+  }
+
+  // the current thread ends once any test still running on it completes
+  private void replaceThread() {
+    this.executor.shutdown();
+    this.executor = createExecutor();
+  }
+
+  private static ThreadPoolExecutor createExecutor() {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+        KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        r -> {
+          final Thread thread = new Thread(r);
+          thread.setDaemon(true);
+          thread.setName("mutationTestThread");
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+}
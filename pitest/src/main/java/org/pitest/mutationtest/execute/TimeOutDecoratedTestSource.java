@@ -31,13 +31,18 @@ public class TimeOutDecoratedTestSource {
   private final Map<String, TestUnit> allTests = new HashMap<>();
   private final TimeoutLengthStrategy timeoutStrategy;
   private final Reporter              r;
+  private final boolean               cooperativeTimeouts;
+  private final SharedTestExecutor    executor;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
-      final List<TestUnit> allTests, final Reporter r) {
+      final List<TestUnit> allTests, final Reporter r,
+      final boolean cooperativeTimeouts, final SharedTestExecutor executor) {
     this.timeoutStrategy = timeoutStrategy;
     mapTests(allTests);
     this.r = r;
+    this.cooperativeTimeouts = cooperativeTimeouts;
+    this.executor = executor;
   }
 
   private void mapTests(final List<TestUnit> tests) {
@@ -46,7 +51,12 @@ public class TimeOutDecoratedTestSource {
     }
   }
 
+  /**
+   * The tests of a mutant, decorated with timeouts. They are run on a thread
+   * not used by the tests of any other mutant.
+   */
   public List<TestUnit> translateTests(final List<TestInfo> testsInOrder) {
+    this.executor.startMutant();
     return testsInOrder.stream().flatMap(testToTestUnit()).collect(Collectors.toList());
   }
 
@@ -59,7 +69,9 @@ public class TimeOutDecoratedTestSource {
             .of(new MutationTimeoutDecorator(tu,
                 new TimeOutSystemExitSideEffect(
                     TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime(),
+                    TimeOutDecoratedTestSource.this.cooperativeTimeouts,
+                    TimeOutDecoratedTestSource.this.executor));
       }
       return Stream.empty();
     };
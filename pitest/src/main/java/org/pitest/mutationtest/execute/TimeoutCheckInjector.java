@@ -0,0 +1,119 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.bytecode.ASMVersion;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import sun.pitest.MutantTimeout;
+
+/**
+ * Inserts a call to MutantTimeout.check before every backwards jump in the
+ * mutated methods of a class, so a mutant that loops forever can be unwound
+ * once its test has timed out.
+ *
+ * The check neither consumes nor produces stack values, so the constant pool
+ * and stack map frames of the original class are reused.
+ */
+class TimeoutCheckInjector {
+
+  byte[] inject(final byte[] classBytes,
+      final Collection<MutationDetails> mutations) {
+    final Set<String> methods = new HashSet<>();
+    for (final MutationDetails each : mutations) {
+      final Location location = each.getId().getLocation();
+      methods.add(location.getMethodName() + location.getMethodDesc());
+    }
+
+    final ClassReader reader = new ClassReader(classBytes);
+    final ClassWriter writer = new ClassWriter(reader, 0);
+    reader.accept(new InjectingClassVisitor(writer, methods), 0);
+    return writer.toByteArray();
+  }
+
+  private static class InjectingClassVisitor extends ClassVisitor {
+
+    private final Set<String> methods;
+
+    InjectingClassVisitor(final ClassVisitor cv, final Set<String> methods) {
+      super(ASMVersion.ASM_VERSION, cv);
+      this.methods = methods;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String descriptor, final String signature,
+        final String[] exceptions) {
+      final MethodVisitor mv = super.visitMethod(access, name, descriptor,
+          signature, exceptions);
+      if (this.methods.contains(name + descriptor)) {
+        return new BackEdgeCheckingMethodVisitor(mv);
+      }
+      return mv;
+    }
+
+  }
+
+  private static class BackEdgeCheckingMethodVisitor extends MethodVisitor {
+
+    private final Set<Label> visited = new HashSet<>();
+
+    BackEdgeCheckingMethodVisitor(final MethodVisitor mv) {
+      super(ASMVersion.ASM_VERSION, mv);
+    }
+
+    @Override
+    public void visitLabel(final Label label) {
+      this.visited.add(label);
+      super.visitLabel(label);
+    }
+
+    @Override
+    public void visitJumpInsn(final int opcode, final Label label) {
+      if (this.visited.contains(label)) {
+        insertCheck();
+      }
+      super.visitJumpInsn(opcode, label);
+    }
+
+    @Override
+    public void visitTableSwitchInsn(final int min, final int max,
+        final Label dflt, final Label... labels) {
+      if (jumpsBack(dflt, labels)) {
+        insertCheck();
+      }
+      super.visitTableSwitchInsn(min, max, dflt, labels);
+    }
+
+    @Override
+    public void visitLookupSwitchInsn(final Label dflt, final int[] keys,
+        final Label[] labels) {
+      if (jumpsBack(dflt, labels)) {
+        insertCheck();
+      }
+      super.visitLookupSwitchInsn(dflt, keys, labels);
+    }
+
+    private boolean jumpsBack(final Label dflt, final Label[] labels) {
+      return this.visited.contains(dflt)
+          || Arrays.stream(labels).anyMatch(this.visited::contains);
+    }
+
+    private void insertCheck() {
+      super.visitMethodInsn(Opcodes.INVOKESTATIC, MutantTimeout.CLASS_NAME,
+          MutantTimeout.METHOD_NAME, "()V", false);
+    }
+
+  }
+
+}
@@ -0,0 +1,198 @@
+package org.pitest.sequence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matcher built from the states of a query as a table. Each state that
+ * consumes an element is given an index, and the set of states reached from
+ * it without consuming is worked out up front and held as a bitset. Stepping
+ * over an element then tests the matches of the current states and ors
+ * together the successors of those that pass.
+ *
+ * Queries of up to 63 states, which covers those used by pitest, are matched
+ * without allocating. Larger ones use bitset buffers reused by each thread.
+ */
+final class CompiledSequenceMatcher<T> implements SequenceMatcher<T> {
+
+  private final boolean    debug;
+  private final Match<T>   ignore;
+
+  // indexed by state, the final index being the end of the match
+  private final Match<T>[] matches;
+  private final long[][]   next;
+  private final long[]     start;
+  private final int        end;
+  private final int        words;
+
+  private final ThreadLocal<long[][]> buffers;
+
+  private CompiledSequenceMatcher(Match<T> ignore, Match<T>[] matches,
+      long[][] next, long[] start, boolean debug) {
+    this.ignore = ignore;
+    this.matches = matches;
+    this.next = next;
+    this.start = start;
+    this.end = matches.length;
+    this.words = start.length;
+    this.debug = debug;
+    this.buffers = ThreadLocal
+        .withInitial(() -> new long[2][this.words]);
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  static <T> CompiledSequenceMatcher<T> compile(Match<T> ignore,
+      State<T> start, boolean debug) {
+    final Map<State<T>, Integer> index = new IdentityHashMap<>();
+    final List<Consume<T>> consumers = new ArrayList<>();
+    indexConsumers(start, index, consumers,
+        Collections.newSetFromMap(new IdentityHashMap<>()));
+    index.put((State<T>) EndMatch.MATCH, consumers.size());
+
+    final int words = wordsFor(consumers.size() + 1);
+    final Match<T>[] matches = new Match[consumers.size()];
+    final long[][] next = new long[consumers.size()][];
+    for (int i = 0; i != consumers.size(); i++) {
+      matches[i] = consumers.get(i).c;
+      next[i] = closure(consumers.get(i).out, index, words);
+    }
+    return new CompiledSequenceMatcher<>(ignore, matches, next,
+        closure(start, index, words), debug);
+  }
+
+  @Override
+  public boolean matches(List<T> sequence) {
+    return matches(sequence, Context.start(sequence, this.debug));
+  }
+
+  @Override
+  public boolean matches(List<T> sequence, Context<T> context) {
+    if (this.words == 1) {
+      return matchesSingleWord(sequence, context);
+    }
+
+    final long[][] buffer = this.buffers.get();
+    long[] current = buffer[0];
+    long[] nextStates = buffer[1];
+    System.arraycopy(this.start, 0, current, 0, this.words);
+
+    for (final T t : sequence) {
+      context.moveForward();
+
+      if (this.ignore.test(context, t)) {
+        continue;
+      }
+
+      Arrays.fill(nextStates, 0);
+      boolean any = false;
+      for (int w = 0; w != this.words; w++) {
+        for (long remaining = current[w]; remaining != 0;
+            remaining &= remaining - 1) {
+          final int state = (w << 6) + Long.numberOfTrailingZeros(remaining);
+          if ((state != this.end) && this.matches[state].test(context, t)) {
+            or(nextStates, this.next[state]);
+            any = true;
+          }
+        }
+      }
+
+      // no state can be reached again once none are left
+      if (!any) {
+        return false;
+      }
+
+      final long[] swap = current;
+      current = nextStates;
+      nextStates = swap;
+    }
+    return (current[this.end >>> 6] & (1L << this.end)) != 0;
+  }
+
+  private boolean matchesSingleWord(List<T> sequence, Context<T> context) {
+    final long endBit = 1L << this.end;
+    long current = this.start[0];
+
+    for (final T t : sequence) {
+      context.moveForward();
+
+      if (this.ignore.test(context, t)) {
+        continue;
+      }
+
+      long nextStates = 0;
+      for (long remaining = current & ~endBit; remaining != 0;
+          remaining &= remaining - 1) {
+        final int state = Long.numberOfTrailingZeros(remaining);
+        if (this.matches[state].test(context, t)) {
+          nextStates |= this.next[state][0];
+        }
+      }
+
+      if (nextStates == 0) {
+        return false;
+      }
+      current = nextStates;
+    }
+    return (current & endBit) != 0;
+  }
+
+  private static void or(long[] target, long[] bits) {
+    for (int i = 0; i != target.length; i++) {
+      target[i] |= bits[i];
+    }
+  }
+
+  private static int wordsFor(int states) {
+    return (states + 63) >>> 6;
+  }
+
+  private static <T> void indexConsumers(State<T> state,
+      Map<State<T>, Integer> index, List<Consume<T>> consumers,
+      Set<State<T>> visited) {
+    if ((state == null) || !visited.add(state)) {
+      return;
+    }
+    if (state instanceof Split) {
+      final Split<T> split = (Split<T>) state;
+      indexConsumers(split.out1, index, consumers, visited);
+      indexConsumers(split.out2, index, consumers, visited);
+    } else if (state instanceof Consume) {
+      final Consume<T> consume = (Consume<T>) state;
+      index.put(consume, consumers.size());
+      consumers.add(consume);
+      indexConsumers(consume.out, index, consumers, visited);
+    }
+  }
+
+  // the states reached from the given one without consuming an element
+  private static <T> long[] closure(State<T> state,
+      Map<State<T>, Integer> index, int words) {
+    final long[] bits = new long[words];
+    addClosure(state, index, bits,
+        Collections.newSetFromMap(new IdentityHashMap<>()));
+    return bits;
+  }
+
+  private static <T> void addClosure(State<T> state,
+      Map<State<T>, Integer> index, long[] bits, Set<Split<T>> visited) {
+    if (state == null) {
+      return;
+    }
+    if (state instanceof Split) {
+      final Split<T> split = (Split<T>) state;
+      if (visited.add(split)) {
+        addClosure(split.out1, index, bits, visited);
+        addClosure(split.out2, index, bits, visited);
+      }
+    } else {
+      final int i = index.get(state);
+      bits[i >>> 6] |= 1L << i;
+    }
+  }
+
+}
@@ -0,0 +1,15 @@
+package org.pitest.sequence;
+
+class Consume<T> implements State<T> {
+  final Match< T> c;
+  final State<T>  out;
+
+  Consume(Match<T> c, State<T> out) {
+    this.c = c;
+    this.out = out;
+  }
+
+  boolean matches(Context<T> context, T t) {
+    return this.c.test(context, t);
+  }
+}
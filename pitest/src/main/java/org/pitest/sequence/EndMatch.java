@@ -0,0 +1,6 @@
+package org.pitest.sequence;
+
+@SuppressWarnings("rawtypes")
+enum EndMatch implements State {
+  MATCH
+}
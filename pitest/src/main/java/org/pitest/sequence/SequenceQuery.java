@@ -49,6 +49,16 @@ public class SequenceQuery<T> {
 
   @SuppressWarnings("unchecked")
   public SequenceMatcher<T> compile(QueryParams<T> params) {
+    return CompiledSequenceMatcher.compile(params.ignoring(),
+        this.token.make(EndMatch.MATCH), params.isDebug());
+  }
+
+  /**
+   * Matcher that walks the states of the query directly, kept to check the
+   * compiled matcher against
+   */
+  @SuppressWarnings("unchecked")
+  SequenceMatcher<T> compileToNFA(QueryParams<T> params) {
     return new NFASequenceMatcher<T>(params.ignoring(),
         this.token.make(EndMatch.MATCH), params.isDebug());
   }
@@ -206,36 +216,3 @@ class NFASequenceMatcher<T> implements SequenceMatcher<T> {
   }
 
 }
-
-interface State<T> {
-
-}
-
-class Consume<T> implements State<T> {
-  final Match< T> c;
-  final State<T>  out;
-
-  Consume(Match<T> c, State<T> out) {
-    this.c = c;
-    this.out = out;
-  }
-
-  boolean matches(Context<T> context, T t) {
-    return this.c.test(context, t);
-  }
-}
-
-class Split<T> implements State<T> {
-  State<T> out1;
-  final State<T> out2;
-
-  Split(State<T> out1, State<T> out2) {
-    this.out1 = out1;
-    this.out2 = out2;
-  }
-}
-
-@SuppressWarnings("rawtypes")
-enum EndMatch implements State {
-  MATCH
-}
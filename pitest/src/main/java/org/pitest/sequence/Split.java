@@ -0,0 +1,11 @@
+package org.pitest.sequence;
+
+class Split<T> implements State<T> {
+  State<T> out1;
+  final State<T> out2;
+
+  Split(State<T> out1, State<T> out2) {
+    this.out1 = out1;
+    this.out2 = out2;
+  }
+}
@@ -0,0 +1,5 @@
+package org.pitest.sequence;
+
+interface State<T> {
+
+}
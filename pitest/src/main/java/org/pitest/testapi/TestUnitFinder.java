@@ -16,9 +16,20 @@
 package org.pitest.testapi;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TestUnitFinder {
 
   List<TestUnit> findTestUnits(Class<?> clazz);
 
+  /**
+   * Recreates a unit that findTestUnits found in the class from its
+   * description, without searching the class again. Finders that cannot do so
+   * return empty, and the class is searched instead.
+   */
+  default Optional<TestUnit> recreateTestUnit(Class<?> clazz,
+      Description description) {
+    return Optional.empty();
+  }
+
 }
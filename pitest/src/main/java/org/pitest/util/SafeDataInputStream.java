@@ -95,6 +95,25 @@ public class SafeDataInputStream {
     }
   }
 
+  /**
+   * Reads an int written by SafeDataOutputStream.writeVarInt.
+   */
+  public int readVarInt() {
+    try {
+      int value = 0;
+      int shift = 0;
+      int b;
+      do {
+        b = this.dis.readUnsignedByte();
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return value;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   private Object deserialize(byte[] bytes) throws IOException {
     final ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
     try (ObjectInput in = new ObjectInputStream(bis)) {
@@ -102,6 +102,23 @@ public class SafeDataOutputStream {
     }
   }
 
+  /**
+   * Writes an int in between one and five bytes, using fewer for smaller
+   * non-negative values.
+   */
+  public void writeVarInt(final int value) {
+    try {
+      int remaining = value;
+      while ((remaining & ~0x7F) != 0) {
+        this.dos.writeByte((remaining & 0x7F) | 0x80);
+        remaining >>>= 7;
+      }
+      this.dos.writeByte(remaining);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   private byte[] toByteArray(Serializable value) throws IOException {
     try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
       final ObjectOutput out = new ObjectOutputStream(bos);
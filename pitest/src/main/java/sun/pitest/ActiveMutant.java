@@ -0,0 +1,34 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Selects the active mutant within a mutant schemata class. Each mutated
+ * method reads the id on entry and dispatches to the matching variant, so
+ * mutants can be switched without redefining the class.
+ */
+public final class ActiveMutant {
+
+  public static final String CLASS_NAME  = ActiveMutant.class.getName()
+                                             .replace('.', '/');
+  public static final String METHOD_NAME = "id";
+  public static final int    NONE        = 0;
+
+  private static volatile int active = NONE;
+
+  private ActiveMutant() {
+  }
+
+  public static int id() {
+    return active;
+  }
+
+  public static void activate(final int id) {
+    active = id;
+  }
+
+  public static void deactivate() {
+    active = NONE;
+  }
+
+}
@@ -23,8 +23,9 @@ package sun.pitest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.pitest.coverage.analysis.Block;
@@ -57,40 +58,117 @@ public final class CodeCoverageStore {
   // investigated
   private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
 
+  // ids of the classes hit since the last reset, so that reading and
+  // resetting hits costs in proportion to the classes a test executed rather
+  // than to all the classes loaded. Guarded by the class lock.
+  private static final Set<Integer>            TOUCHED_CLASSES   = new HashSet<>();
+
+  // when set, instrumented code records hits against the thread that made
+  // them, and threads started while it ran, instead of in CLASS_HITS
+  private static volatile boolean              threadAttributed  = false;
+  private static final ThreadLocal<ThreadHits> THREAD_HITS       = new InheritableThreadLocal<>();
+
   public static void init(final InvokeReceiver invokeQueue) {
+    init(invokeQueue, false);
+  }
+
+  /**
+   * @param attributeHitsToThreads
+   *          if true hits are read and reset for the calling thread only, so
+   *          that tests may run on several threads at once. Classes must be
+   *          instrumented to match.
+   */
+  public static void init(final InvokeReceiver invokeQueue,
+      final boolean attributeHitsToThreads) {
     CodeCoverageStore.invokeQueue = invokeQueue;
+    CodeCoverageStore.threadAttributed = attributeHitsToThreads;
+  }
+
+  public static boolean isThreadAttributed() {
+    return threadAttributed;
   }
 
   private CodeCoverageStore() {
   }
 
-  public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      if (each.getValue()[0]) { //Probe 0 gets covered by any method that runs
-        Arrays.fill(each.getValue(), false);
-      }
+  public static void reset() {
+    if (threadAttributed) {
+      // a new instance so that threads started by the previous test, which
+      // share the old one, cannot record hits against the next
+      THREAD_HITS.set(new ThreadHits());
+    } else {
+      resetSharedProbes();
     }
   }
 
-  public static synchronized Collection<Long> getHits() {
+  private static synchronized void resetSharedProbes() {
+    for (final Integer each : TOUCHED_CLASSES) {
+      Arrays.fill(CLASS_HITS.get(each), false);
+    }
+    TOUCHED_CLASSES.clear();
+  }
+
+  public static Collection<Long> getHits() {
     final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      final boolean[] bs = each.getValue();
-      // first entry tracks if class has been visited at all
-      if (!bs[CLASS_HIT_INDEX]) {
-        continue;
-      }
-      final int classId = each.getKey();
-      // final int[] mapping = classProbeToBlockMapping.get(classId);
+    visitHits((classId, bs) -> {
       for (int probeId = 1; probeId != bs.length; probeId++) {
         if (bs[probeId]) {
           blockHits.add(encode(classId, probeId));
         }
       }
-    }
+    });
     return blockHits;
   }
 
+  /**
+   * Passes the probes of each class hit since the last reset to the visitor,
+   * without copying them. The probes must not be retained or modified.
+   */
+  public static void visitHits(final HitVisitor visitor) {
+    if (threadAttributed) {
+      threadHits().visit(visitor);
+    } else {
+      visitSharedProbes(visitor);
+    }
+  }
+
+  private static synchronized void visitSharedProbes(final HitVisitor visitor) {
+    for (final Integer each : TOUCHED_CLASSES) {
+      visitor.visitClass(each, CLASS_HITS.get(each));
+    }
+  }
+
+  /**
+   * Called by instrumented code on entry to a method of a class when the
+   * first slot of its probes, which tracks if the class has been visited at
+   * all, is not yet set.
+   */
+  public static synchronized void markClassAsHit(final int classId,
+      final boolean[] probes) {
+    if (!probes[CLASS_HIT_INDEX]) {
+      probes[CLASS_HIT_INDEX] = true;
+      TOUCHED_CLASSES.add(classId);
+    }
+  }
+
+  /**
+   * Called by instrumented code on entry to each method when hits are
+   * attributed to threads, in place of reading the probes field of the class.
+   */
+  public static boolean[] getThreadProbes(final int classId,
+      final int probeCount) {
+    return threadHits().probesFor(classId, probeCount + 1);
+  }
+
+  private static ThreadHits threadHits() {
+    ThreadHits hits = THREAD_HITS.get();
+    if (hits == null) {
+      hits = new ThreadHits();
+      THREAD_HITS.set(hits);
+    }
+    return hits;
+  }
+
   public static int registerClass(final String className) {
     final int id = nextId();
     invokeQueue.registerClass(id, className);
@@ -147,8 +225,11 @@ public final class CodeCoverageStore {
     return ret;
   }
 
-  public static void resetAllStaticState() {
+  public static synchronized void resetAllStaticState() {
     CLASS_HITS.clear();
+    TOUCHED_CLASSES.clear();
+    THREAD_HITS.remove();
+    threadAttributed = false;
   }
 
 }
@@ -0,0 +1,11 @@
+package sun.pitest;
+
+/**
+ * Receives the probes of a class hit by a test. The first slot tracks if the
+ * class has been visited at all, the rest if each probe has been hit.
+ */
+public interface HitVisitor {
+
+  void visitClass(int classId, boolean[] probes);
+
+}
@@ -0,0 +1,35 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Lets a test that has run past its allowed time be unwound. Calls to check
+ * are inserted into the loops of a mutated method, and throw once the
+ * timeout has been signalled.
+ */
+public final class MutantTimeout {
+
+  public static final String CLASS_NAME  = MutantTimeout.class.getName()
+                                             .replace('.', '/');
+  public static final String METHOD_NAME = "check";
+
+  private static volatile boolean expired = false;
+
+  private MutantTimeout() {
+  }
+
+  public static void check() {
+    if (expired) {
+      throw new MutantTimeoutError();
+    }
+  }
+
+  public static void expire() {
+    expired = true;
+  }
+
+  public static void reset() {
+    expired = false;
+  }
+
+}
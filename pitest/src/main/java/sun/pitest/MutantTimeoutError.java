@@ -0,0 +1,17 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Thrown from a mutated method to unwind a test that has timed out. Extends
+ * Error so it is not caught by code that handles Exception.
+ */
+public final class MutantTimeoutError extends Error {
+
+  private static final long serialVersionUID = 1L;
+
+  public MutantTimeoutError() {
+    super("Mutant timed out");
+  }
+
+}
@@ -0,0 +1,35 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Stands in for System.exit, Runtime.exit and Runtime.halt in code run by an
+ * in process minion, so that code under test cannot end the pitest JVM. Calls
+ * to those methods are replaced with calls to these as classes are loaded.
+ */
+public final class RefusedExit {
+
+  public static final String CLASS_NAME = RefusedExit.class.getName()
+                                            .replace('.', '/');
+
+  private RefusedExit() {
+  }
+
+  public static void exit(final int status) {
+    throw refuse("System.exit(" + status + ")");
+  }
+
+  public static void exit(final Runtime runtime, final int status) {
+    throw refuse("Runtime.exit(" + status + ")");
+  }
+
+  public static void halt(final Runtime runtime, final int status) {
+    throw refuse("Runtime.halt(" + status + ")");
+  }
+
+  private static SecurityException refuse(final String call) {
+    return new SecurityException(call
+        + " called by code under test in an in process minion");
+  }
+
+}
@@ -0,0 +1,49 @@
+package sun.pitest;
+
+import java.util.Arrays;
+
+/**
+ * Probes hit by a thread, and by any threads it started, since hits were last
+ * reset on that thread. Used in place of the probes shared by all threads when
+ * hits are attributed to threads, so that tests can run at the same time.
+ */
+public final class ThreadHits {
+
+  private boolean[][] probes  = new boolean[64][];
+  private int[]       touched = new int[16];
+  private int         touchedCount;
+
+  synchronized boolean[] probesFor(final int classId, final int length) {
+    if (classId >= this.probes.length) {
+      this.probes = Arrays.copyOf(this.probes,
+          Math.max(classId + 1, this.probes.length * 2));
+    }
+
+    boolean[] ps = this.probes[classId];
+    if (ps == null) {
+      ps = new boolean[length];
+      this.probes[classId] = ps;
+      addTouched(classId);
+    } else if (ps.length < length) {
+      // the class has been retransformed and gained probes
+      ps = Arrays.copyOf(ps, length);
+      this.probes[classId] = ps;
+    }
+    return ps;
+  }
+
+  synchronized void visit(final HitVisitor visitor) {
+    for (int i = 0; i != this.touchedCount; i++) {
+      final int classId = this.touched[i];
+      visitor.visitClass(classId, this.probes[classId]);
+    }
+  }
+
+  private void addTouched(final int classId) {
+    if (this.touchedCount == this.touched.length) {
+      this.touched = Arrays.copyOf(this.touched, this.touched.length * 2);
+    }
+    this.touched[this.touchedCount++] = classId;
+  }
+
+}
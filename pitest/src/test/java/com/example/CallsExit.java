@@ -0,0 +1,17 @@
+package com.example;
+
+public class CallsExit {
+
+  public static void systemExit() {
+    System.exit(1);
+  }
+
+  public static void runtimeExit() {
+    Runtime.getRuntime().exit(1);
+  }
+
+  public static void runtimeHalt() {
+    Runtime.getRuntime().halt(1);
+  }
+
+}
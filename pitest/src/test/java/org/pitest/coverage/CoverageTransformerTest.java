@@ -83,6 +83,16 @@ public class CoverageTransformerTest {
     assertValidClass(Math.class);
   }
 
+  @Test
+  public void shouldGenerateValidClassesWhenHitsAttributedToThreads()
+      throws IllegalClassFormatException {
+    CodeCoverageStore.init(this.invokeQueue, true);
+    assertValidClass(String.class);
+    assertValidClass(Vector.class);
+    assertValidClass(ConcurrentHashMap.class);
+    assertValidClass(Math.class);
+  }
+
   private void assertValidClass(final Class<?> clazz)
       throws IllegalClassFormatException {
     final byte[] bs = transform(clazz);
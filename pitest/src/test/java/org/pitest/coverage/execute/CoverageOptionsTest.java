@@ -3,6 +3,7 @@ package org.pitest.coverage.execute;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.pitest.util.Verbosity.DEFAULT;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Test;
@@ -29,6 +30,31 @@ public class CoverageOptionsTest {
     assertThat(this.testee.getFilter().test("com/example/NotMe")).isFalse();
   }
 
+  @Test
+  public void shouldInstrumentOnlySuppliedClassesWhenRestricted() {
+    this.testee = new CoverageOptions(Collections.singletonList("com.example.*"), Collections.singletonList("com.example.NotMe"), this.pitConfig, DEFAULT, 0)
+        .instrumentingOnly(Arrays.asList("com.example.Foo", "com.example.NotMe", "com.other.Bar"));
+
+    assertThat(this.testee.getInstrumentationFilter().test("com.example.Foo")).isTrue();
+    assertThat(this.testee.getInstrumentationFilter().test("com.example.Bar")).isFalse();
+    assertThat(this.testee.getInstrumentationFilter().test("com.example.NotMe")).isFalse();
+    assertThat(this.testee.getInstrumentationFilter().test("com.other.Bar")).isFalse();
+  }
+
+  @Test
+  public void shouldNotRestrictDependencyFilterWhenRestrictingInstrumentation() {
+    this.testee = new CoverageOptions(Collections.singletonList("com.example.*"), Collections.<String>emptyList(), this.pitConfig, DEFAULT, 0)
+        .instrumentingOnly(Arrays.asList("com.example.Foo"));
+
+    assertThat(this.testee.getFilter().test("com.example.Bar")).isTrue();
+  }
+
+  @Test
+  public void shouldNotBeRestrictedByDefault() {
+    assertThat(this.testee.isRestricted()).isFalse();
+    assertThat(this.testee.instrumentingOnly(Collections.emptyList()).isRestricted()).isTrue();
+  }
+
   @Test
   public void shouldNotCoverJDKClassesWhenFilterIsBroad() {
     assertThat(this.testee.getFilter().test("java/lang/Integer")).isFalse();
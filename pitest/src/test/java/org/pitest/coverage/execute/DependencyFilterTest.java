@@ -3,16 +3,16 @@ package org.pitest.coverage.execute;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -50,27 +50,20 @@ public class DependencyFilterTest {
   }
 
   @Test
-  public void shouldNotPerformAnalysisWhenDependencyDistanceIsLessThan0()
-      throws IOException {
+  public void shouldNotPerformAnalysisWhenDependencyDistanceIsLessThan0() {
     when(this.extractor.getMaxDistance()).thenReturn(-1);
     final List<TestUnit> actual = this.testee
         .filterTestsByDependencyAnalysis(this.tus);
     assertSame(this.tus, actual);
-    verify(this.extractor, never()).extractCallDependenciesForPackages(
-        anyString(), any(Predicate.class));
+    verify(this.extractor, never()).classesDependingOn(
+        anyCollection(), any(Predicate.class));
   }
 
   @Test
-  public void shouldReturnOnlyTestUnitsForClassesWithinReach()
-      throws IOException {
-    when(
-        this.extractor.extractCallDependenciesForPackages(
-            eq(this.aTestUnit.getDescription().getFirstTestClass()),
-            any(Predicate.class))).thenReturn(Arrays.asList("foo"));
-    when(
-        this.extractor.extractCallDependenciesForPackages(
-            eq(this.anotherTestUnit.getDescription().getFirstTestClass()),
-            any(Predicate.class))).thenReturn(Collections.<String> emptyList());
+  public void shouldReturnOnlyTestUnitsForClassesWithinReach() {
+    when(this.extractor.classesDependingOn(anyCollection(),
+        any(Predicate.class))).thenReturn(Collections.singleton(
+            this.aTestUnit.getDescription().getFirstTestClass()));
 
     assertEquals(Arrays.asList(this.aTestUnit),
         this.testee.filterTestsByDependencyAnalysis(this.tus));
@@ -78,19 +71,18 @@ public class DependencyFilterTest {
   }
 
   @Test
-  public void shouldNotRecalculateDependenciesForAlreadyAnalysedClasses()
-      throws IOException {
+  public void shouldAnalyseEachTestClassOnce() {
+    when(this.extractor.classesDependingOn(anyCollection(),
+        any(Predicate.class))).thenReturn(Collections.<String> emptySet());
 
-    when(
-        this.extractor.extractCallDependenciesForPackages(eq(this.aTestUnit
-            .getDescription().getFirstTestClass()), any(Predicate.class)))
-            .thenReturn(Arrays.asList("foo"));
-
-    this.tus = Arrays.asList(this.aTestUnit, this.aTestUnit);
+    this.tus = Arrays.asList(this.aTestUnit, this.anotherTestUnit,
+        this.aTestUnit);
 
     this.testee.filterTestsByDependencyAnalysis(this.tus);
-    verify(this.extractor, times(1)).extractCallDependenciesForPackages(
-        eq(this.aTestUnit.getDescription().getFirstTestClass()),
+    verify(this.extractor, times(1)).classesDependingOn(
+        eq(new LinkedHashSet<>(Arrays.asList(
+            this.aTestUnit.getDescription().getFirstTestClass(),
+            this.anotherTestUnit.getDescription().getFirstTestClass()))),
         any(Predicate.class));
   }
 
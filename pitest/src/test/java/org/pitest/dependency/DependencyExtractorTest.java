@@ -132,6 +132,47 @@ public class DependencyExtractorTest {
     assertCollectionEquals(expected, actual);
   }
 
+  @Test
+  public void shouldFindClassesDependingOnTargetsWithinDepth() {
+    constructWithDepthOf(2);
+    final Set<String> actual = this.testee.classesDependingOn(
+        Arrays.asList(Foo.class.getName(), Bar.class.getName(),
+            Car.class.getName()),
+        includeOnlyThingsCalled("VeryFar"));
+    assertCollectionEquals(asSet(Bar.class.getName()), actual);
+  }
+
+  @Test
+  public void shouldFindClassesDependingOnTargetsAtAnyDistanceWhenDepthIsZero() {
+    constructWithDepthOf(0);
+    final Set<String> actual = this.testee.classesDependingOn(
+        Arrays.asList(Foo.class.getName(), Bar.class.getName(),
+            Car.class.getName()),
+        includeOnlyThingsCalled("VeryFar"));
+    assertCollectionEquals(
+        asSet(Foo.class.getName(), Bar.class.getName()), actual);
+  }
+
+  @Test
+  public void shouldNotTreatClassesAsDependingOnThemselves() {
+    constructWithDepthOf(0);
+    final Set<String> actual = this.testee.classesDependingOn(
+        Arrays.asList(CyclicFoo.class.getName()),
+        includeOnlyThingsCalled("CyclicFoo"));
+    assertCollectionEquals(asSet(), actual);
+  }
+
+  @Test
+  public void shouldFindSameClassesDependingOnTargetsWhenAnalysingInParallel() {
+    this.testee = new DependencyExtractor(new ClassPathByteArraySource(), 3, 4);
+    final Set<String> actual = this.testee.classesDependingOn(
+        Arrays.asList(Foo.class.getName(), Bar.class.getName(),
+            Car.class.getName(), CyclicFoo.class.getName()),
+        includeOnlyThingsCalled("VeryFar"));
+    assertCollectionEquals(
+        asSet(Foo.class.getName(), Bar.class.getName()), actual);
+  }
+
   private Predicate<DependencyAccess> ignoreCoreClasses() {
     return a -> !a.getDest().getOwner().startsWith("java");
 
@@ -437,6 +437,33 @@ public class JUnitCustomRunnerTestUnitFinderTest {
   }
 
 
+  @Test
+  public void shouldRecreateUnitsFoundForEachTestMethod() {
+    final Collection<TestUnit> found = findWithTestee(TheoryTest.class);
+    for (final TestUnit each : found) {
+      assertThat(this.testee.recreateTestUnit(TheoryTest.class,
+          each.getDescription()).map(TestUnit::getDescription))
+          .contains(each.getDescription());
+    }
+  }
+
+  @Test
+  public void shouldRecreateUnitFoundForWholeClass() {
+    final TestUnit found = findWithTestee(HasBeforeClassAnnotation.class)
+        .iterator().next();
+    assertThat(this.testee.recreateTestUnit(HasBeforeClassAnnotation.class,
+        found.getDescription()).map(TestUnit::getDescription))
+        .contains(found.getDescription());
+  }
+
+  @Test
+  public void shouldNotRecreateParameterisedTests() {
+    final TestUnit found = new ParameterisedJUnitTestFinder()
+        .findTestUnits(ParameterisedTest.class).get(0);
+    assertThat(this.testee.recreateTestUnit(ParameterisedTest.class,
+        found.getDescription())).isEmpty();
+  }
+
   private void setConfig(TestGroupConfig config) {
     this.testee = new JUnitCustomRunnerTestUnitFinder(
         config, Collections.<String>emptyList(), Collections.<String>emptyList());
@@ -15,16 +15,19 @@
 package org.pitest.junit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestUnit;
 
 public class ParameterisedJUnitTestFinderTest {
@@ -71,6 +74,22 @@ public class ParameterisedJUnitTestFinderTest {
     assertTrue(actual.isEmpty());
   }
 
+  @Test
+  public void shouldRecreateUnitsFoundForEachParameterMethodCombination() {
+    for (final TestUnit each : findWithTestee(ParameterisedTest.class)) {
+      assertEquals(Optional.of(each.getDescription()),
+          this.testee.recreateTestUnit(ParameterisedTest.class,
+              each.getDescription()).map(TestUnit::getDescription));
+    }
+  }
+
+  @Test
+  public void shouldNotRecreateNonParameterisedTests() {
+    assertFalse(this.testee.recreateTestUnit(ParameterisedTest.class,
+        new Description("test(" + ParameterisedTest.class.getName() + ")",
+            ParameterisedTest.class)).isPresent());
+  }
+
   private Collection<TestUnit> findWithTestee(final Class<?> clazz) {
     return this.testee.findTestUnits(clazz);
   }
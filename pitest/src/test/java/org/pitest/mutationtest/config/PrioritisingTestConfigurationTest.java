@@ -98,6 +98,18 @@ public class PrioritisingTestConfigurationTest {
         assertThat(actual).containsOnly(findThisClass);
     }
 
+    @Test
+    public void highestPriorityConfigurationThatCanRecreateTestDoesSo() {
+        Configuration cannotRecreate = configuration(1, dontFindMe);
+        Configuration c1 = recreatingConfiguration(2, findMe);
+        Configuration c2 = recreatingConfiguration(3, dontFindMe);
+        PrioritisingTestConfiguration testee = new PrioritisingTestConfiguration(asList(c2, cannotRecreate, c1));
+
+        Optional<TestUnit> actual = testee.testUnitFinder().recreateTestUnit(String.class, new Description("a"));
+
+        assertThat(actual).contains(findMe);
+    }
+
     private TestUnit fakeUnit(String name) {
         return new TestUnit() {
             @Override
@@ -145,6 +157,41 @@ public class PrioritisingTestConfigurationTest {
         };
     }
 
+    private Configuration recreatingConfiguration(int priority, TestUnit testUnit) {
+        return new Configuration() {
+
+            @Override
+            public int priority() {
+                return priority;
+            }
+
+            @Override
+            public TestUnitFinder testUnitFinder() {
+                return new TestUnitFinder() {
+                    @Override
+                    public List<TestUnit> findTestUnits(Class<?> clazz) {
+                        return asList(testUnit);
+                    }
+
+                    @Override
+                    public Optional<TestUnit> recreateTestUnit(Class<?> clazz, Description description) {
+                        return Optional.of(testUnit);
+                    }
+                };
+            }
+
+            @Override
+            public TestSuiteFinder testSuiteFinder() {
+                return null;
+            }
+
+            @Override
+            public Optional<PitHelpError> verifyEnvironment() {
+                return Optional.empty();
+            }
+        };
+    }
+
     private Configuration suiteConfiguration(int priority, Class<?> suiteClass) {
         return new Configuration() {
 
@@ -15,6 +15,9 @@
 package org.pitest.mutationtest.engine.gregor;
 
 import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
@@ -23,7 +26,10 @@ import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.ReturnValsMutator;
 import org.pitest.util.ResourceFolderByteArraySource;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -300,6 +306,36 @@ public class TestGregorMutater extends MutatorTestBase {
   }
 
 
+  public static class HasMethodMergingTypes {
+    public int mutable(int i) {
+      return i + 1;
+    }
+
+    public Object merges(boolean b) {
+      return b ? new ArrayList<String>() : new LinkedList<String>();
+    }
+  }
+
+  @Test
+  public void shouldNotRecomputeFramesOfMethodsOtherThanTheMutatedOne() {
+    final List<String> requested = new ArrayList<>();
+    final ClassByteArraySource source = new ClassPathByteArraySource();
+    createTesteeWith(name -> {
+      requested.add(name);
+      return source.getBytes(name);
+    }, i -> true, Collections.singletonList(MathMutator.MATH));
+    final MutationDetails mutation = findMutationsFor(
+        HasMethodMergingTypes.class).get(0);
+    requested.clear();
+
+    final Mutant mutant = this.engine.getMutation(mutation.getId());
+
+    assertEquals("mutable", mutation.getMethod());
+    assertThat(mutant.getBytes()).isNotEmpty();
+    // finding the common type of the lists would need their bytes
+    assertThat(requested).noneMatch(name -> name.contains("List"));
+  }
+
   private void assertTwoMutationsInDifferentBlocks(
       final List<MutationDetails> actualDetails) {
     assertEquals(2, actualDetails.size());
@@ -24,6 +24,8 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.testapi.Description;
 import org.pitest.testapi.TestResult;
 
+import sun.pitest.MutantTimeoutError;
+
 public class CheckTestHasFailedResultListenerTest {
 
   private CheckTestHasFailedResultListener testee;
@@ -49,6 +51,14 @@ public class CheckTestHasFailedResultListenerTest {
     assertEquals(DetectionStatus.KILLED, this.testee.status());
   }
 
+  @Test
+  public void shouldReturnDetectionStatusOfTimedOutWhenTestUnwoundByTimeout() {
+    this.testee = new CheckTestHasFailedResultListener(false);
+    this.testee.onTestFailure(new TestResult(this.description,
+        new MutantTimeoutError()));
+    assertEquals(DetectionStatus.TIMED_OUT, this.testee.status());
+  }
+
   @Test
   public void shouldRecordDescriptionOfLastFailingTest() {
     this.testee = new CheckTestHasFailedResultListener(false);
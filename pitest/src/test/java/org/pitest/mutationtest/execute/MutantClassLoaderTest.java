@@ -0,0 +1,74 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+
+import com.example.CallsExit;
+import com.example.JUnitThreeTest;
+import com.example.LineNumbersSpanBlocks;
+
+public class MutantClassLoaderTest {
+
+  private final ClassLoader       parent = getClass().getClassLoader();
+
+  private final MutantClassLoader testee = new MutantClassLoader(this.parent,
+      ClassName.fromClass(LineNumbersSpanBlocks.class),
+      new ClassPathByteArraySource()
+          .getBytes(LineNumbersSpanBlocks.class.getName()).get());
+
+  @Test
+  public void shouldDefineMutantFromSuppliedBytes() throws Exception {
+    final Class<?> actual = this.testee
+        .loadClass(LineNumbersSpanBlocks.class.getName());
+    assertThat(actual).isNotSameAs(LineNumbersSpanBlocks.class);
+    assertThat(actual.getClassLoader()).isSameAs(this.testee);
+  }
+
+  @Test
+  public void shouldReloadClassesFoundInDirectories() throws Exception {
+    final Class<?> actual = this.testee.loadClass(JUnitThreeTest.class.getName());
+    assertThat(actual).isNotSameAs(JUnitThreeTest.class);
+    assertThat(actual.getClassLoader()).isSameAs(this.testee);
+  }
+
+  @Test
+  public void shouldShareClassesFoundInJars() throws Exception {
+    assertThat(this.testee.loadClass(Test.class.getName()))
+        .isSameAs(Test.class);
+  }
+
+  @Test
+  public void shouldSharePitestClasses() throws Exception {
+    assertThat(this.testee.loadClass(ClassName.class.getName()))
+        .isSameAs(ClassName.class);
+  }
+
+  @Test
+  public void shouldRefuseCallsToSystemExit() throws Exception {
+    assertCallRefused("systemExit");
+  }
+
+  @Test
+  public void shouldRefuseCallsToRuntimeExit() throws Exception {
+    assertCallRefused("runtimeExit");
+  }
+
+  @Test
+  public void shouldRefuseCallsToRuntimeHalt() throws Exception {
+    assertCallRefused("runtimeHalt");
+  }
+
+  private void assertCallRefused(final String method) throws Exception {
+    final Class<?> clazz = this.testee.loadClass(CallsExit.class.getName());
+    assertThatThrownBy(() -> clazz.getMethod(method).invoke(null))
+        .isInstanceOf(InvocationTargetException.class)
+        .hasCauseInstanceOf(SecurityException.class);
+  }
+
+}
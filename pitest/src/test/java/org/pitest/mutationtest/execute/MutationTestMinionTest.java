@@ -1,6 +1,8 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
@@ -98,4 +100,24 @@ public class MutationTestMinionTest {
     verify(this.reporter).done(ExitCode.UNKNOWN_ERROR);
   }
 
+  @Test
+  public void shouldAnalyseFurtherBatchesWhenReusable() {
+    this.args = reusableArguments();
+    when(this.is.read(MinionArguments.class)).thenReturn(this.args, this.args);
+    when(this.is.readBoolean()).thenReturn(true, false);
+    this.testee.run();
+    verify(this.reporter, times(2)).done(ExitCode.OK);
+  }
+
+  @Test
+  public void shouldNotWaitForFurtherBatchesWhenNotReusable() {
+    this.testee.run();
+    verify(this.is, never()).readBoolean();
+  }
+
+  private MinionArguments reusableArguments() {
+    return new MinionArguments(this.mutations, this.tests,  "anEgine", EngineArguments.arguments(),
+        this.timeoutStrategy, Verbosity.DEFAULT, false, TestPluginArguments.defaults(), true);
+  }
+
 }
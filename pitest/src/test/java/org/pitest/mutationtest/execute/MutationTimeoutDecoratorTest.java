@@ -14,6 +14,10 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -24,6 +28,10 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
+import sun.pitest.MutantTimeout;
+import sun.pitest.MutantTimeoutError;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
@@ -48,11 +56,18 @@ public class MutationTimeoutDecoratorTest {
 
   private static final long        NORMAL_EXECUTION = 1;
 
+  private final SharedTestExecutor executor         = new SharedTestExecutor();
+
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
     this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
-        this.timeoutStrategy, NORMAL_EXECUTION);
+        this.timeoutStrategy, NORMAL_EXECUTION, false, this.executor);
+  }
+
+  @After
+  public void tearDown() {
+    this.executor.shutdown();
   }
 
   @Test
@@ -78,4 +93,56 @@ public class MutationTimeoutDecoratorTest {
     verify(this.child).execute(any(ResultCollector.class));
     verify(this.sideEffect).apply();
   }
+
+  @Test
+  public void shouldReportTimeoutWithoutSideEffectWhenCooperativeChildUnwinds() {
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, true, this.executor);
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50L);
+
+    doAnswer(invocation -> {
+      while (true) {
+        MutantTimeout.check();
+      }
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+    verify(this.rc).notifyEnd(any(), any(MutantTimeoutError.class));
+    verify(this.sideEffect, never()).apply();
+  }
+
+  @Test
+  public void shouldApplySideEffectWhenCooperativeChildDoesNotUnwind() {
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, true, this.executor);
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50L);
+
+    doAnswer(invocation -> {
+      Thread.sleep(5000);
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+    verify(this.sideEffect).apply();
+    MutantTimeout.reset();
+  }
+
+  @Test
+  public void shouldRunTestsOnSharedExecutor() {
+    final List<Thread> threads = new ArrayList<>();
+    doAnswer(invocation -> {
+      threads.add(Thread.currentThread());
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        1000L);
+
+    new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, false, this.executor).execute(this.rc);
+    new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, false, this.executor).execute(this.rc);
+
+    assertThat(threads).hasSize(2);
+    assertThat(threads.get(0)).isSameAs(threads.get(1));
+  }
 }
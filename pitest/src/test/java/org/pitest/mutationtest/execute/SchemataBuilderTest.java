@@ -0,0 +1,138 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+import sun.pitest.ActiveMutant;
+
+public class SchemataBuilderTest {
+
+  private GregorMutater   mutater;
+  private SchemataBuilder testee;
+
+  @Before
+  public void setUp() {
+    final ClassPathByteArraySource source = new ClassPathByteArraySource();
+    this.mutater = new GregorMutater(source, m -> true,
+        Mutator.byName("MATH"));
+    this.testee = new SchemataBuilder(source, this.mutater);
+  }
+
+  @After
+  public void tearDown() {
+    ActiveMutant.deactivate();
+  }
+
+  @Test
+  public void shouldRunOriginalCodeWhenNoMutantActive() throws Exception {
+    final MutantSchemata schemata = buildFor(HasMathMutants.class);
+    assertThat(callAdd(schemata)).isEqualTo(5);
+    assertThat(callMultiply(schemata)).isEqualTo(6);
+  }
+
+  @Test
+  public void shouldRunMutatedCodeForActiveMutant() throws Exception {
+    final List<MutationDetails> mutations = this.mutater.findMutations(ClassName.fromClass(HasMathMutants.class));
+    final MutantSchemata schemata = buildFor(HasMathMutants.class);
+
+    ActiveMutant.activate(schemata.idFor(mutationIn(mutations, "add").getId()));
+    assertThat(callAdd(schemata)).isEqualTo(-1);
+    assertThat(callMultiply(schemata)).isEqualTo(6);
+
+    ActiveMutant.activate(schemata.idFor(mutationIn(mutations, "multiply").getId()));
+    assertThat(callAdd(schemata)).isEqualTo(5);
+    assertThat(callMultiply(schemata)).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldNotIncludeMutantsInConstructors() {
+    final List<MutationDetails> mutations = this.mutater.findMutations(ClassName.fromClass(HasMathMutants.class));
+    final MutantSchemata schemata = buildFor(HasMathMutants.class);
+    assertThat(schemata.contains(mutationIn(mutations, "<init>").getId())).isFalse();
+  }
+
+  @Test
+  public void shouldReturnNothingWhenOnlyConstructorsMutated() {
+    final List<MutationDetails> mutations = this.mutater.findMutations(ClassName.fromClass(HasMathMutants.class));
+    final Optional<MutantSchemata> actual = this.testee.build(ClassName.fromClass(HasMathMutants.class),
+        Collections.singletonList(mutationIn(mutations, "<init>")));
+    assertThat(actual).isEmpty();
+  }
+
+  private MutantSchemata buildFor(Class<?> clazz) {
+    final ClassName name = ClassName.fromClass(clazz);
+    return this.testee.build(name, this.mutater.findMutations(name)).get();
+  }
+
+  private static MutationDetails mutationIn(List<MutationDetails> mutations, String method) {
+    return mutations.stream()
+        .filter(m -> m.getMethod().equals(method))
+        .findFirst().get();
+  }
+
+  private static int callAdd(MutantSchemata schemata) throws Exception {
+    return call(schemata, "add");
+  }
+
+  private static int callMultiply(MutantSchemata schemata) throws Exception {
+    return call(schemata, "multiply");
+  }
+
+  private static int call(MutantSchemata schemata, String method) throws Exception {
+    final Class<?> clazz = new SingleClassLoader(schemata).loadClass(HasMathMutants.class.getName());
+    final Method m = clazz.getDeclaredMethod(method, int.class, int.class);
+    return (Integer) m.invoke(null, 2, 3);
+  }
+
+  public static class HasMathMutants {
+    private final int value;
+
+    public HasMathMutants(int a) {
+      this.value = a + 1;
+    }
+
+    public static int add(int a, int b) {
+      return a + b;
+    }
+
+    public static int multiply(int a, int b) {
+      return a * b;
+    }
+
+    public int value() {
+      return this.value;
+    }
+  }
+
+  private static class SingleClassLoader extends ClassLoader {
+    private final MutantSchemata schemata;
+
+    SingleClassLoader(MutantSchemata schemata) {
+      super(SchemataBuilderTest.class.getClassLoader());
+      this.schemata = schemata;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (name.equals(this.schemata.getClassName().asJavaName())) {
+        final byte[] bytes = this.schemata.getBytes();
+        return defineClass(name, bytes, 0, bytes.length);
+      }
+      return super.loadClass(name, resolve);
+    }
+  }
+
+}
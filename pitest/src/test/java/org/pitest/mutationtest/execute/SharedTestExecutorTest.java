@@ -0,0 +1,111 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class SharedTestExecutorTest {
+
+  private final SharedTestExecutor testee = new SharedTestExecutor();
+
+  @Test
+  public void shouldRunSuccessiveTestsOnSameThread() throws Exception {
+    final AtomicReference<Thread> first = new AtomicReference<>();
+    final AtomicReference<Thread> second = new AtomicReference<>();
+
+    this.testee.submit(() -> first.set(Thread.currentThread())).get();
+    this.testee.submit(() -> second.set(Thread.currentThread())).get();
+
+    assertThat(first.get()).isSameAs(second.get());
+    assertThat(first.get()).isNotSameAs(Thread.currentThread());
+  }
+
+  @Test
+  public void shouldPreserveThreadLocalStateBetweenTests() throws Exception {
+    final ThreadLocal<String> state = new ThreadLocal<>();
+    final AtomicReference<String> seen = new AtomicReference<>();
+
+    this.testee.submit(() -> state.set("foo")).get();
+    this.testee.submit(() -> seen.set(state.get())).get();
+
+    assertThat(seen.get()).isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldRunTestsOfNextMutantOnNewThread() throws Exception {
+    final ThreadLocal<String> state = new ThreadLocal<>();
+    final AtomicReference<Thread> first = new AtomicReference<>();
+    final AtomicReference<Thread> second = new AtomicReference<>();
+    final AtomicReference<String> seen = new AtomicReference<>("not run");
+
+    this.testee.submit(() -> {
+      first.set(Thread.currentThread());
+      state.set("foo");
+    }).get();
+    this.testee.startMutant();
+    this.testee.submit(() -> {
+      second.set(Thread.currentThread());
+      seen.set(state.get());
+    }).get();
+
+    assertThat(second.get()).isNotSameAs(first.get());
+    assertThat(seen.get()).isNull();
+  }
+
+  @Test
+  public void shouldClearInterruptLeftByPreviousTest() throws Exception {
+    final AtomicReference<Boolean> interrupted = new AtomicReference<>();
+
+    this.testee.submit(() -> Thread.currentThread().interrupt()).get();
+    this.testee.submit(
+        () -> interrupted.set(Thread.currentThread().isInterrupted())).get();
+
+    assertThat(interrupted.get()).isFalse();
+  }
+
+  @Test
+  public void shouldRunTestsWithContextClassLoaderOfSubmittingThread()
+      throws Exception {
+    final ClassLoader original = Thread.currentThread().getContextClassLoader();
+    final ClassLoader loader = new URLClassLoader(new URL[0]);
+    final AtomicReference<ClassLoader> seen = new AtomicReference<>();
+    try {
+      Thread.currentThread().setContextClassLoader(loader);
+      this.testee.submit(
+          () -> seen.set(Thread.currentThread().getContextClassLoader())).get();
+    } finally {
+      Thread.currentThread().setContextClassLoader(original);
+    }
+
+    assertThat(seen.get()).isSameAs(loader);
+  }
+
+  @Test
+  public void shouldRunLaterTestsOnNewThreadOnceRunningTestAbandoned()
+      throws Exception {
+    final CountDownLatch neverReleased = new CountDownLatch(1);
+    final AtomicReference<Thread> stuck = new AtomicReference<>();
+    final AtomicReference<Thread> next = new AtomicReference<>();
+
+    this.testee.submit(() -> {
+      stuck.set(Thread.currentThread());
+      try {
+        neverReleased.await();
+      } catch (final InterruptedException e) {
+        // ignore
+      }
+    });
+    this.testee.abandonRunningTest();
+    this.testee.submit(() -> next.set(Thread.currentThread())).get();
+
+    assertThat(next.get()).isNotNull();
+    assertThat(next.get()).isNotSameAs(stuck.get());
+    neverReleased.countDown();
+  }
+
+}
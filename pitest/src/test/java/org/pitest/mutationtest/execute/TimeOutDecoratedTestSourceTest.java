@@ -15,12 +15,18 @@
 package org.pitest.mutationtest.execute;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -43,12 +49,25 @@ public class TimeOutDecoratedTestSourceTest {
   @Mock
   private Reporter                   reporter;
 
+  @Mock
+  private ResultCollector            rc;
+
+  private final List<Thread>         threads = new ArrayList<>();
+
+  private final SharedTestExecutor   executor = new SharedTestExecutor();
+
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
 
     this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
-        Arrays.asList(makeTestUnit("one"), makeTestUnit("two")), this.reporter);
+        Arrays.asList(makeTestUnit("one"), makeTestUnit("two")), this.reporter,
+        false, this.executor);
+  }
+
+  @After
+  public void tearDown() {
+    this.executor.shutdown();
   }
 
   @Test
@@ -71,12 +90,32 @@ public class TimeOutDecoratedTestSourceTest {
     assertEquals(1, actual.size());
   }
 
+  @Test
+  public void shouldRunTestsOfEachMutantOnANewThread() {
+    when(this.timeoutStrategy.getAllowedTime(anyLong())).thenReturn(10000L);
+
+    for (final TestUnit each : this.testee.translateTests(Arrays.asList(
+        new TestInfo("foo", "one", 42, Optional.<ClassName> empty(), 0),
+        new TestInfo("foo", "two", 42, Optional.<ClassName> empty(), 0)))) {
+      each.execute(this.rc);
+    }
+    for (final TestUnit each : this.testee.translateTests(Arrays.asList(
+        new TestInfo("foo", "one", 42, Optional.<ClassName> empty(), 0)))) {
+      each.execute(this.rc);
+    }
+
+    assertEquals(3, this.threads.size());
+    assertSame(this.threads.get(0), this.threads.get(1));
+    assertNotSame(this.threads.get(0), this.threads.get(2));
+  }
+
   private TestUnit makeTestUnit(final String name) {
     return new TestUnit() {
       private final Description description = new Description(name);
 
       @Override
       public void execute(final ResultCollector rc) {
+        TimeOutDecoratedTestSourceTest.this.threads.add(Thread.currentThread());
       }
 
       @Override
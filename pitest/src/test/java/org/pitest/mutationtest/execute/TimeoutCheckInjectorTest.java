@@ -0,0 +1,115 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+import sun.pitest.MutantTimeout;
+import sun.pitest.MutantTimeoutError;
+
+public class TimeoutCheckInjectorTest {
+
+  private final ClassPathByteArraySource source = new ClassPathByteArraySource();
+  private final TimeoutCheckInjector     testee = new TimeoutCheckInjector();
+  private GregorMutater                  mutater;
+
+  @Before
+  public void setUp() {
+    this.mutater = new GregorMutater(this.source, m -> true,
+        Mutator.byName("INCREMENTS"));
+  }
+
+  @After
+  public void tearDown() {
+    MutantTimeout.reset();
+  }
+
+  @Test
+  public void shouldNotAlterBehaviourBeforeTimeout() throws Exception {
+    final Class<?> clazz = injectInto("countTo");
+    assertThat(call(clazz, "countTo")).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldUnwindLoopInMutatedMethodOnceTimedOut() throws Exception {
+    final Class<?> clazz = injectInto("countTo");
+    MutantTimeout.expire();
+    assertThatThrownBy(() -> call(clazz, "countTo"))
+        .isInstanceOf(InvocationTargetException.class)
+        .hasCauseInstanceOf(MutantTimeoutError.class);
+  }
+
+  @Test
+  public void shouldNotAddChecksToOtherMethods() throws Exception {
+    final Class<?> clazz = injectInto("countTo");
+    MutantTimeout.expire();
+    assertThat(call(clazz, "alsoCountTo")).isEqualTo(10);
+  }
+
+  private Class<?> injectInto(String method) throws Exception {
+    final ClassName name = ClassName.fromClass(HasLoops.class);
+    final List<MutationDetails> mutations = this.mutater.findMutations(name)
+        .stream()
+        .filter(m -> m.getMethod().equals(method))
+        .collect(Collectors.toList());
+    final byte[] bytes = this.testee.inject(this.source.getBytes(name.asJavaName()).get(),
+        mutations);
+    return new SingleClassLoader(name, bytes).loadClass(name.asJavaName());
+  }
+
+  private static int call(Class<?> clazz, String method) throws Exception {
+    final Method m = clazz.getDeclaredMethod(method, int.class);
+    return (Integer) m.invoke(null, 10);
+  }
+
+  public static class HasLoops {
+    public static int countTo(int n) {
+      int i = 0;
+      while (i < n) {
+        i++;
+      }
+      return i;
+    }
+
+    public static int alsoCountTo(int n) {
+      int i = 0;
+      while (i < n) {
+        i++;
+      }
+      return i;
+    }
+  }
+
+  private static class SingleClassLoader extends ClassLoader {
+    private final ClassName name;
+    private final byte[]    bytes;
+
+    SingleClassLoader(ClassName name, byte[] bytes) {
+      super(TimeoutCheckInjectorTest.class.getClassLoader());
+      this.name = name;
+      this.bytes = bytes;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (name.equals(this.name.asJavaName())) {
+        return defineClass(name, this.bytes, 0, this.bytes.length);
+      }
+      return super.loadClass(name, resolve);
+    }
+  }
+
+}
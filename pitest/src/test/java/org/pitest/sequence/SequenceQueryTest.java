@@ -1,8 +1,10 @@
 package org.pitest.sequence;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -106,6 +108,70 @@ public class SequenceQueryTest {
     assertTrue(testee.matches(asList(1, 99, 2)));
   }
 
+  @Test
+  public void shouldMatchQueriesWithMoreStatesThanFitInOneWord() {
+    SequenceQuery<Integer> query = QueryStart.match(eq(0));
+    final List<Integer> sequence = new ArrayList<>();
+    sequence.add(0);
+    for (int i = 1; i != 100; i++) {
+      query = query.then(eq(i));
+      sequence.add(i);
+    }
+    final SequenceMatcher<Integer> testee = query
+        .zeroOrMore(QueryStart.match(eq(100)))
+        .compile();
+
+    assertTrue(testee.matches(sequence));
+    sequence.add(100);
+    assertTrue(testee.matches(sequence));
+    sequence.set(50, -1);
+    assertFalse(testee.matches(sequence));
+  }
+
+  @Test
+  public void shouldMatchSameSequencesAsUncompiledQuery() {
+    final List<SequenceQuery<Integer>> queries = Arrays.asList(
+        QueryStart.any(Integer.class).then(eq(1)).oneOrMore(
+            QueryStart.match(eq(2)).or(QueryStart.match(eq(3))))
+            .zeroOrMore(QueryStart.match(anyInt())),
+        QueryStart.match(eq(1)).thenAnyOf(QueryStart.match(eq(2)),
+            QueryStart.match(eq(3)).then(eq(1))).zeroOrMore(
+                QueryStart.match(eq(2))),
+        QueryStart.any(Integer.class));
+
+    for (final SequenceQuery<Integer> each : queries) {
+      final QueryParams<Integer> params = QueryParams.params(Integer.class)
+          .withIgnores(eq(4));
+      final SequenceMatcher<Integer> compiled = each.compile(params);
+      final SequenceMatcher<Integer> nfa = each.compileToNFA(params);
+      for (final List<Integer> sequence : allSequences(5)) {
+        assertEquals(sequence.toString(), nfa.matches(sequence),
+            compiled.matches(sequence));
+      }
+    }
+  }
+
+  // every sequence of 1 to 4 up to the given length
+  private static List<List<Integer>> allSequences(int maxLength) {
+    final List<List<Integer>> sequences = new ArrayList<>();
+    sequences.add(new ArrayList<>());
+    for (int i = 0; i != sequences.size(); i++) {
+      final List<Integer> each = sequences.get(i);
+      if (each.size() < maxLength) {
+        for (int value = 1; value <= 4; value++) {
+          final List<Integer> longer = new ArrayList<>(each);
+          longer.add(value);
+          sequences.add(longer);
+        }
+      }
+    }
+    return sequences;
+  }
+
+  private Match<Integer> anyInt() {
+    return Match.always();
+  }
+
   private Match<Integer> eq(final int i) {
     return Match.isEqual(i);
   }
@@ -43,4 +43,29 @@ public class SafeDataInputStreamTest {
 
   }
 
+  @Test
+  public void shouldReadVarIntsOfAllSizes() {
+    final int[] values = { 0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE,
+        -1, Integer.MIN_VALUE };
+
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    for (final int each : values) {
+      dos.writeVarInt(each);
+    }
+
+    final SafeDataInputStream dis = new SafeDataInputStream(
+        new ByteArrayInputStream(o.toByteArray()));
+    for (final int each : values) {
+      assertEquals(each, dis.readVarInt());
+    }
+  }
+
+  @Test
+  public void shouldWriteSmallVarIntsInOneByte() {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    new SafeDataOutputStream(o).writeVarInt(127);
+    assertEquals(1, o.size());
+  }
+
 }
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.verify;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
@@ -105,13 +106,123 @@ public class CodeCoverageStoreTest {
     assertEquals(Collections.emptyList(), actual);
   }
 
+  @Test
+  public void shouldReportHitsForClassesMarkedAsHit() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    CodeCoverageStore.markClassAsHit(classId, ar);
+    ar[2] = true;
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 2)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldNotReportHitsForClassesNotMarkedAsHit() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    ar[1] = true;
+
+    assertEquals(Collections.emptyList(), CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldReportEachClassOnceWhenMarkedAsHitRepeatedly() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    CodeCoverageStore.markClassAsHit(classId, ar);
+    CodeCoverageStore.markClassAsHit(classId, ar);
+    ar[1] = true;
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 1)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldRequireClassesToBeMarkedAsHitAgainAfterReset() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    CodeCoverageStore.markClassAsHit(classId, ar);
+    ar[1] = true;
+    CodeCoverageStore.reset();
+
+    assertFalse(ar[0]);
+    assertFalse(ar[1]);
+    ar[1] = true;
+    assertEquals(Collections.emptyList(), CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldReportOnlyHitsOfCurrentThreadWhenAttributingHitsToThreads()
+      throws Exception {
+    CodeCoverageStore.init(this.receiver, true);
+    final int classId = CodeCoverageStore.registerClass("foo");
+
+    CodeCoverageStore.getThreadProbes(classId, 2)[1] = true;
+    final Thread other = new Thread(() -> {
+      CodeCoverageStore.reset();
+      CodeCoverageStore.getThreadProbes(classId, 2)[2] = true;
+    });
+    other.start();
+    other.join();
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 1)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldReportHitsOfThreadsStartedByCurrentThreadWhenAttributingHitsToThreads()
+      throws Exception {
+    CodeCoverageStore.init(this.receiver, true);
+    final int classId = CodeCoverageStore.registerClass("foo");
+
+    CodeCoverageStore.reset();
+    final Thread child = new Thread(() -> CodeCoverageStore.getThreadProbes(classId, 2)[2] = true);
+    child.start();
+    child.join();
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 2)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldClearHitsOfCurrentThreadWhenResetWhileAttributingHitsToThreads() {
+    CodeCoverageStore.init(this.receiver, true);
+    final int classId = CodeCoverageStore.registerClass("foo");
+
+    final boolean[] ar = CodeCoverageStore.getThreadProbes(classId, 2);
+    ar[1] = true;
+    CodeCoverageStore.reset();
+    // probes obtained before the reset no longer count
+    ar[2] = true;
+
+    assertEquals(Collections.emptyList(), CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldGrowThreadProbesWhenClassGainsProbes() {
+    CodeCoverageStore.init(this.receiver, true);
+    final int classId = CodeCoverageStore.registerClass("foo");
+
+    CodeCoverageStore.getThreadProbes(classId, 2)[1] = true;
+    final boolean[] ar = CodeCoverageStore.getThreadProbes(classId, 4);
+    ar[4] = true;
+
+    assertEquals(Arrays.asList(CodeCoverageStore.encode(classId, 1),
+        CodeCoverageStore.encode(classId, 4)), CodeCoverageStore.getHits());
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
       throws InterruptedException, ExecutionException {
 
     int classId = CodeCoverageStore.registerClass("foo");
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
-    ar[0] = true;
+    CodeCoverageStore.markClassAsHit(classId, ar);
     ar[1] = true;
 
     final Callable<ConcurrentModificationException> read = makeReader();